@@ -0,0 +1,47 @@
+package org.koreait.board.services;
+
+import org.koreait.board.controllers.RequestBoard;
+import org.koreait.board.entities.Board;
+import org.koreait.board.entities.BoardData;
+import org.koreait.global.configs.BeansConfig;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 수정 양식 변환 - BoardInfoService.getForm 의 BoardData -> RequestBoard
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardFormMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private BoardData item;
+
+    @Setup
+    public void setup() {
+        modelMapper = new BeansConfig().modelMapper();
+
+        Board board = new Board();
+        board.setBid("freetalk");
+        board.setName("자유게시판");
+
+        item = new BoardData();
+        item.setSeq(1L);
+        item.setBoard(board);
+        item.setGid("gid-0001");
+        item.setPoster("작성자");
+        item.setSubject("제목");
+        item.setContent("<p>내용</p>".repeat(100));
+        item.setCategory("자유");
+
+        modelMapper.map(item, RequestBoard.class); // 매핑 정보 생성은 최초 1회
+    }
+
+    @Benchmark
+    public RequestBoard map() {
+        return modelMapper.map(item, RequestBoard.class);
+    }
+}
@@ -0,0 +1,39 @@
+package org.koreait.board.services.configs;
+
+import org.koreait.board.entities.Board;
+import org.koreait.member.constants.Authority;
+import org.koreait.member.libs.MemberUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시판 설정 추가 정보 처리 - 분류 파싱, 목록/작성 권한
+ *  - 비회원 상태 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardConfigInfoServiceBenchmark {
+
+    private BoardConfigInfoService service;
+    private Board board;
+
+    @Setup
+    public void setup() {
+        service = new BoardConfigInfoService(null, null, null, new MemberUtil());
+
+        board = new Board();
+        board.setBid("freetalk");
+        board.setName("자유게시판");
+        board.setCategory("공지\r\n자유\r\n질문\r\n\r\n  정보 \r\n포켓몬\r\n트레이너\r\n");
+        board.setListAuthority(Authority.ALL);
+        board.setWriteAuthority(Authority.USER);
+    }
+
+    @Benchmark
+    public Board addInfo() {
+        service.addInfo(board);
+        return board;
+    }
+}
@@ -0,0 +1,80 @@
+package org.koreait.file.libs;
+
+import org.koreait.file.entities.FileInfo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 목록 추가 정보 처리 - 20개 목록 기준
+ *  - eager : 기존 방식, 파일마다 String.format 3번(filePath, fileUrl, thumbUrl)
+ *  - lazy : FileLocator 지정만, 경로와 주소는 사용할 때 생성
+ *  - lazyUrl : 지정 후 목록 화면에서 사용하는 fileUrl, thumbUrl 만 생성
+ *  - 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FileLocatorBenchmark {
+
+    private static final int SIZE = 20;
+    private static final String PATH = "/home/upload/";
+    private static final String URL = "/uploads/";
+    private static final String CONTEXT_PATH = "";
+
+    private FileLocator locator;
+
+    @Setup
+    public void setup() {
+        locator = new FileLocator(PATH, URL, CONTEXT_PATH);
+    }
+
+    @Benchmark
+    public void eager(Blackhole bh) {
+        for (FileInfo item : items()) {
+            long seq = item.getSeq();
+            String extension = item.getExtension();
+            item.setFilePath(String.format("%s%s/%s", PATH, seq % 10L, seq + extension));
+            item.setFileUrl(String.format("%s%s%s/%s", CONTEXT_PATH, URL, seq % 10L, seq + extension));
+            if (item.getContentType().contains("image/")) {
+                item.setThumbUrl(String.format("%s/api/file/thumb?seq=%d", CONTEXT_PATH, seq));
+            }
+
+            bh.consume(item.getFileUrl());
+            bh.consume(item.getThumbUrl());
+        }
+    }
+
+    @Benchmark
+    public void lazy(Blackhole bh) {
+        for (FileInfo item : items()) {
+            item.setLocator(locator);
+            bh.consume(item);
+        }
+    }
+
+    @Benchmark
+    public void lazyUrl(Blackhole bh) {
+        for (FileInfo item : items()) {
+            item.setLocator(locator);
+            bh.consume(item.getFileUrl());
+            bh.consume(item.getThumbUrl());
+        }
+    }
+
+    private List<FileInfo> items() {
+        List<FileInfo> items = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            FileInfo item = new FileInfo();
+            item.setSeq(1000L + i);
+            item.setExtension(".png");
+            item.setContentType("image/png");
+            items.add(item);
+        }
+
+        return items;
+    }
+}
@@ -0,0 +1,94 @@
+package org.koreait.file.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.koreait.file.controllers.RequestThumb;
+import org.koreait.file.storage.LocalFileStorage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.client.RestTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 썸네일 생성 - ThumbnailService.create(원본 읽기 -> 썸네일 생성 -> 저장소 저장)
+ *  - 자주 요청되는 크기 : 목록 이미지, 프로필 이미지, 상세 이미지
+ *  - 원본은 원격 URL 경로로 전달(DB 조회 없이 실행), RestTemplate 대신 메모리의 1920x1080 이미지 반환
+ *  - create : 매번 새로 생성(캐시 미적중), cached : 이미 만든 썸네일(캐시 적중)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ThumbnailBenchmark {
+
+    @Param({"100x100", "250x350", "800x600"})
+    private String size;
+
+    private Path dir;
+    private LocalFileStorage storage;
+    private ThumbnailService service;
+    private RequestThumb form;
+    private String thumbKey;
+
+    @Setup
+    public void setup() throws IOException {
+        String[] wh = size.split("x");
+
+        dir = Files.createTempDirectory("thumbs");
+        storage = new LocalFileStorage(dir.toString());
+
+        // 1920x1080 원본 이미지
+        BufferedImage image = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.YELLOW, 1920, 1080, Color.RED));
+        g.fillRect(0, 0, 1920, 1080);
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        byte[] original = out.toByteArray();
+
+        RestTemplate restTemplate = new RestTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T getForObject(URI url, Class<T> responseType) {
+                return (T) original;
+            }
+        };
+
+        service = new ThumbnailService(null, storage, restTemplate, new SimpleMeterRegistry());
+
+        form = new RequestThumb();
+        form.setUrl("https://example.org/images/original.png");
+        form.setWidth(Integer.parseInt(wh[0]));
+        form.setHeight(Integer.parseInt(wh[1]));
+
+        thumbKey = service.getThumbKey(null, form.getUrl(), form.getWidth(), form.getHeight());
+        if (service.create(form) == null) { // 생성 실패시 null 을 반환하므로 실패를 측정하지 않도록 확인
+            throw new IllegalStateException("썸네일 생성 실패");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    public String create() throws IOException {
+        storage.delete(thumbKey); // 캐시 미적중 - 매번 생성
+        return service.create(form);
+    }
+
+    @Benchmark
+    public String cached() {
+        return service.create(form);
+    }
+}
@@ -0,0 +1,48 @@
+package org.koreait.global.libs;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 호출되는 Utils 기능 - 모바일 판별, 줄개행 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UtilsBenchmark {
+
+    @Param({
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/130.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Linux; Android 14; SM-S928N) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/130.0.0.0 Mobile Safari/537.36"
+    })
+    private String userAgent;
+
+    private Utils utils;
+    private String text;
+
+    @Setup
+    public void setup() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("User-Agent", userAgent);
+
+        utils = new Utils(request, null, null, null, null);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            sb.append("피카츄 라이츄 파이리 꼬부기 버터플 야도란 피죤투 또가스\r\n");
+        }
+        text = sb.toString();
+    }
+
+    @Benchmark
+    public boolean isMobile() {
+        return utils.isMobile();
+    }
+
+    @Benchmark
+    public String nl2br() {
+        return utils.nl2br(text);
+    }
+}
@@ -0,0 +1,40 @@
+package org.koreait.global.paging;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이징 생성, 페이지 URL 목록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaginationBenchmark {
+
+    @Param({"1", "57"})
+    private int page;
+
+    private MockHttpServletRequest request;
+    private Pagination pagination;
+
+    @Setup
+    public void setup() {
+        request = new MockHttpServletRequest("GET", "/board/list/freetalk");
+        request.setQueryString("sopt=ALL&skey=pokemon&page=" + page);
+
+        pagination = new Pagination(page, 12345, 10, 20, request);
+    }
+
+    @Benchmark
+    public Pagination create() {
+        return new Pagination(page, 12345, 10, 20, request);
+    }
+
+    @Benchmark
+    public List<String[]> getPages() {
+        return pagination.getPages();
+    }
+}
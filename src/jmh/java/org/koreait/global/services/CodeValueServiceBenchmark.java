@@ -0,0 +1,53 @@
+package org.koreait.global.services;
+
+import org.koreait.global.configs.BeansConfig;
+import org.koreait.global.entities.CodeValue;
+import org.koreait.global.entities.Terms;
+import org.koreait.global.repositories.CodeValueRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 설정값 JSON 변환 - 저장(객체 -> JSON), 조회(JSON -> 객체)
+ *  - DB 접근은 제외하고 변환 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CodeValueServiceBenchmark {
+
+    private CodeValueService service;
+    private Terms terms;
+
+    @Setup
+    public void setup() {
+        terms = Terms.builder()
+                .code("terms1")
+                .subject("이용약관")
+                .content("제1조(목적) 이 약관은 포켓몬 서비스 이용 조건 및 절차에 관한 사항을 규정합니다.\n".repeat(30))
+                .build();
+
+        CodeValueRepository repository = mock(CodeValueRepository.class, withSettings().stubOnly()); // 호출 기록 X
+        CodeValue item = new CodeValue();
+        item.setCode("term_terms1");
+        when(repository.findById(any())).thenReturn(Optional.of(item));
+
+        service = new CodeValueService(repository, new BeansConfig().objectMapper());
+        service.save("term_terms1", terms); // item 에 JSON 값 저장
+    }
+
+    @Benchmark
+    public void save() {
+        service.save("term_terms1", terms);
+    }
+
+    @Benchmark
+    public Terms get() {
+        return service.get("term_terms1", Terms.class);
+    }
+}
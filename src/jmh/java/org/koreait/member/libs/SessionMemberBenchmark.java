@@ -0,0 +1,78 @@
+package org.koreait.member.libs;
+
+import org.koreait.file.entities.FileInfo;
+import org.koreait.member.constants.Authority;
+import org.koreait.member.constants.Gender;
+import org.koreait.member.entities.Authorities;
+import org.koreait.member.entities.Member;
+import org.koreait.member.social.constants.SocialChannel;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 회원 정보 직렬화 - Spring Session Redis 기본 직렬화(JDK) 기준
+ *  - member : 기존 방식, Member 엔티티 전체(FileInfo, Authorities 포함)
+ *  - sessionMember : SessionMember(Ser 프록시)
+ *  - 세션 저장, 조회시 한번씩 일어나므로 직렬화 + 복원을 한번의 연산으로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionMemberBenchmark {
+
+    private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+    private Member member;
+    private SessionMember sessionMember;
+
+    @Setup
+    public void setup() {
+        member = new Member();
+        member.setSeq(1L);
+        member.setEmail("user01@test.org");
+        member.setPassword("$2a$10$0123456789012345678901234567890123456789012345678901");
+        member.setName("사용자01");
+        member.setNickName("닉네임01");
+        member.setBirthDt(LocalDate.of(1990, 1, 1));
+        member.setGender(Gender.MALE);
+        member.setZipCode("01234");
+        member.setAddress("서울시 종로구 종로 1");
+        member.setAddressSub("101호");
+        member.setRequiredTerms1(true);
+        member.setRequiredTerms2(true);
+        member.setRequiredTerms3(true);
+        member.setOptionalTerms("advertisement||email");
+        member.setSocialChannel(SocialChannel.KAKAO);
+        member.setSocialToken("1234567890");
+        member.setCredentialChangedAt(LocalDateTime.now());
+        member.setCreatedAt(LocalDateTime.now().minusDays(10L));
+
+        FileInfo profileImage = new FileInfo();
+        profileImage.setSeq(100L);
+        profileImage.setGid("user01@test.org");
+        profileImage.setLocation("profile");
+        profileImage.setFileName("profile.png");
+        profileImage.setExtension(".png");
+        profileImage.setContentType("image/png");
+        member.setProfileImage(profileImage);
+
+        member.setAuthorities(List.of(new Authorities(member, Authority.USER), new Authorities(member, Authority.ADMIN)));
+
+        sessionMember = SessionMember.of(member);
+    }
+
+    @Benchmark
+    public Object member() {
+        return serializer.deserialize(serializer.serialize(member));
+    }
+
+    @Benchmark
+    public Object sessionMember() {
+        return serializer.deserialize(serializer.serialize(sessionMember));
+    }
+}
@@ -0,0 +1,107 @@
+package org.koreait.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 닫힌 루프 부하 발생기
+ *  - concurrency 갯수의 작업자가 응답을 받는 즉시 다음 요청을 보낸다.
+ *  - warmup 구간은 측정에서 제외
+ *  - 응답 시간은 HdrHistogram(마이크로초)에 기록하고 시나리오별 .hgrm 보고서로 저장
+ */
+public class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE = TimeUnit.SECONDS.toMicros(60);
+
+    private final HttpClient client;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Path reportDir;
+
+    public LoadDriver(HttpClient client, int concurrency, Duration warmup, Duration duration, Path reportDir) {
+        this.client = client;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.reportDir = reportDir;
+    }
+
+    public LoadResult run(String name, Supplier<HttpRequest> requests) throws Exception {
+        Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE, 3);
+        LongAdder errors = new LongAdder();
+
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        boolean failed;
+                        try {
+                            HttpResponse<Void> res = client.send(requests.get(), HttpResponse.BodyHandlers.discarding());
+                            failed = res.statusCode() >= 400;
+                        } catch (IOException e) {
+                            failed = true;
+                        }
+
+                        long elapsed = System.nanoTime() - now;
+                        if (now < measureStart) continue; // 워밍업 구간
+
+                        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsed), HIGHEST_TRACKABLE));
+                        if (failed) errors.increment();
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        writeReport(name, histogram);
+
+        double seconds = duration.toNanos() / 1_000_000_000.0;
+        return new LoadResult(name, histogram.getTotalCount(), errors.sum(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50.0) / 1000.0,
+                histogram.getValueAtPercentile(99.0) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    /**
+     * 백분위 분포 보고서 - 단위 ms
+     *  https://hdrhistogram.github.io/HdrHistogram/plotFiles.html 에서 그래프로 확인 가능
+     */
+    private void writeReport(String name, Histogram histogram) throws IOException {
+        Files.createDirectories(reportDir);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(name + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
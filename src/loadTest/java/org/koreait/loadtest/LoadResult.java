@@ -0,0 +1,21 @@
+package org.koreait.loadtest;
+
+/**
+ * 부하 테스트 결과
+ *
+ * @param name : 시나리오 이름
+ * @param requests : 측정 구간 요청 수
+ * @param errors : 실패(4xx, 5xx, 예외) 요청 수
+ * @param rps : 초당 요청 수
+ * @param p50 : 응답 시간 50% (ms)
+ * @param p99 : 응답 시간 99% (ms)
+ * @param max : 최대 응답 시간 (ms)
+ */
+public record LoadResult(String name, long requests, long errors, double rps, double p50, double p99, double max) {
+
+    @Override
+    public String toString() {
+        return String.format("%-12s requests=%d, errors=%d, rps=%.1f, p50=%.2fms, p99=%.2fms, max=%.2fms",
+                name, requests, errors, rps, p50, p99, max);
+    }
+}
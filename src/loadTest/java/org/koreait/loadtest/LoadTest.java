@@ -0,0 +1,310 @@
+package org.koreait.loadtest;
+
+import com.github.javafaker.Faker;
+import org.junit.jupiter.api.*;
+import org.koreait.board.entities.Board;
+import org.koreait.board.entities.BoardData;
+import org.koreait.board.repositories.BoardDataRepository;
+import org.koreait.board.repositories.BoardRepository;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.file.repositories.FileInfoRepository;
+import org.koreait.file.services.FileInfoService;
+import org.koreait.member.constants.Authority;
+import org.koreait.pokemon.entities.Pokemon;
+import org.koreait.pokemon.repositories.PokemonRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.CookieManager;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주요 페이지 부하 테스트
+ *  - H2 + 내장 Redis 로 애플리케이션을 띄우고 JavaFaker 로 데이터를 채운 뒤 측정
+ *  - 시나리오별 초당 요청 수, p99 를 loadtest-thresholds.properties 기준값과 비교해서 실패 처리
+ *  - 기준값은 -Ploadtest.시나리오.p99=ms, -Ploadtest.시나리오.rps=초당요청수 로 변경 가능
+ *
+ * ./gradlew loadTest
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"default", "loadtest"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("주요 페이지 부하 테스트")
+public class LoadTest {
+
+    private static final String BID = "loadtest";
+    private static final int BOARD_ROWS = 1_000;
+    private static final int POKEMON_ROWS = 300;
+    private static final int[][] THUMB_SIZES = {{100, 100}, {250, 350}, {800, 600}};
+
+    private static RedisServer redisServer;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardDataRepository boardDataRepository;
+
+    @Autowired
+    private PokemonRepository pokemonRepository;
+
+    @Autowired
+    private FileInfoRepository fileInfoRepository;
+
+    @Autowired
+    private FileInfoService fileInfoService;
+
+    private final Properties thresholds = new Properties();
+    private final List<LoadResult> results = new ArrayList<>();
+
+    private LoadDriver driver;
+    private HttpClient client;
+    private String csrfToken;
+    private List<Long> boardSeqs;
+    private Long thumbSeq;
+    private byte[] image;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        int redisPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        Path uploadDir = Files.createTempDirectory("loadtest-upload");
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("file.upload.path", () -> uploadDir.toString() + File.separator);
+    }
+
+    @BeforeAll
+    void init() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/loadtest-thresholds.properties")) {
+            thresholds.load(in);
+        }
+
+        seed();
+
+        client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        driver = new LoadDriver(client,
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 30L)),
+                Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest")));
+
+        csrfToken = fetchCsrfToken();
+    }
+
+    @AfterAll
+    void finish() throws IOException {
+        results.forEach(System.out::println);
+
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 목록")
+    void boardList() throws Exception {
+        check(driver.run("board-list", () -> get(String.format("/board/list/%s?page=%d", BID, random(1, BOARD_ROWS / 20)))));
+    }
+
+    @Test
+    @DisplayName("게시글 보기")
+    void boardView() throws Exception {
+        check(driver.run("board-view", () -> get("/board/view/" + boardSeqs.get(random(0, boardSeqs.size() - 1)))));
+    }
+
+    @Test
+    @DisplayName("포켓몬 목록")
+    void pokemonList() throws Exception {
+        check(driver.run("pokemon-list", () -> get("/pokemon/list?page=" + random(1, POKEMON_ROWS / 20))));
+    }
+
+    @Test
+    @DisplayName("썸네일")
+    void thumb() throws Exception {
+        check(driver.run("file-thumb", () -> {
+            int[] size = THUMB_SIZES[random(0, THUMB_SIZES.length - 1)];
+            return get(String.format("/api/file/thumb?seq=%d&width=%d&height=%d", thumbSeq, size[0], size[1]));
+        }));
+    }
+
+    @Test
+    @DisplayName("파일 업로드")
+    void upload() throws Exception {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        byte[] body = multipart(boundary, "loadtest-upload", image);
+
+        check(driver.run("file-upload", () -> HttpRequest.newBuilder(uri("/api/file/upload"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .header("X-CSRF-TOKEN", csrfToken)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build()));
+    }
+
+    /**
+     * 기준값 비교
+     *
+     * @param result
+     */
+    private void check(LoadResult result) {
+        results.add(result);
+        System.out.println(result);
+
+        String name = result.name();
+        double p99 = Double.parseDouble(System.getProperty("loadtest." + name + ".p99", thresholds.getProperty(name + ".p99")));
+        double rps = Double.parseDouble(System.getProperty("loadtest." + name + ".rps", thresholds.getProperty(name + ".rps")));
+
+        assertTrue(result.requests() > 0, name + " - 측정된 요청 없음");
+        assertEquals(0L, result.errors(), name + " - 실패 요청 발생");
+        assertTrue(result.p99() <= p99, String.format("%s - p99 %.2fms > 기준 %.2fms", name, result.p99(), p99));
+        assertTrue(result.rps() >= rps, String.format("%s - rps %.1f < 기준 %.1f", name, result.rps(), rps));
+    }
+
+    /**
+     * 테스트 데이터 - 게시판, 게시글, 포켓몬, 썸네일 원본 이미지
+     */
+    private void seed() throws IOException {
+        Faker faker = new Faker(Locale.KOREA);
+
+        Board board = new Board();
+        board.setBid(BID);
+        board.setName("부하 테스트");
+        board.setOpen(true);
+        board.setRowsPerPage(20);
+        board.setPageRanges(10);
+        board.setPageRangesMobile(5);
+        board.setUseComment(true);
+        board.setSkin("default");
+        board.setLocationAfterWriting("list");
+        board.setListAuthority(Authority.ALL);
+        board.setViewAuthority(Authority.ALL);
+        board.setWriteAuthority(Authority.ALL);
+        board.setCommentAuthority(Authority.ALL);
+        boardRepository.saveAndFlush(board);
+
+        List<BoardData> items = new ArrayList<>();
+        for (int i = 0; i < BOARD_ROWS; i++) {
+            BoardData item = new BoardData();
+            item.setBoard(board);
+            item.setGid(UUID.randomUUID().toString());
+            item.setPoster(faker.name().fullName());
+            item.setSubject(faker.lorem().sentence());
+            item.setContent(String.join("<br>", faker.lorem().paragraphs(5)));
+            items.add(item);
+        }
+        boardSeqs = boardDataRepository.saveAllAndFlush(items).stream().map(BoardData::getSeq).toList();
+
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (long i = 1; i <= POKEMON_ROWS; i++) {
+            Pokemon pokemon = new Pokemon();
+            pokemon.setSeq(i);
+            pokemon.setName(faker.funnyName().name());
+            pokemon.setNameEn(faker.name().firstName());
+            pokemon.setWeight(faker.number().numberBetween(1, 1000));
+            pokemon.setHeight(faker.number().numberBetween(1, 100));
+            pokemon.setBaseExperience(faker.number().numberBetween(1, 300));
+            pokemon.setFlavorText(faker.lorem().paragraph());
+            pokemon.setTypes("grass||poison");
+            pokemon.setAbilities("overgrow||chlorophyll");
+            pokemon.setGenus(faker.lorem().word());
+            pokemons.add(pokemon);
+        }
+        pokemonRepository.saveAllAndFlush(pokemons);
+
+        // 썸네일 원본 1920x1080
+        BufferedImage bufferedImage = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(bufferedImage, "png", out);
+        image = out.toByteArray();
+
+        FileInfo fileInfo = new FileInfo();
+        fileInfo.setGid("loadtest-thumb");
+        fileInfo.setFileName("original.png");
+        fileInfo.setExtension(".png");
+        fileInfo.setContentType("image/png");
+        fileInfo.setDone(true);
+        fileInfoRepository.saveAndFlush(fileInfo);
+        thumbSeq = fileInfo.getSeq();
+
+        Path path = Path.of(fileInfoService.getFilePath(fileInfo));
+        Files.createDirectories(path.getParent());
+        Files.write(path, image);
+    }
+
+    private String fetchCsrfToken() throws IOException {
+        try {
+            String html = client.send(get("/pokemon/list"), HttpResponse.BodyHandlers.ofString()).body();
+            Matcher matcher = Pattern.compile("<meta name=\"_csrf\" content=\"([^\"]+)\"").matcher(html);
+            assertTrue(matcher.find(), "CSRF 토큰 없음");
+
+            return matcher.group(1);
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private byte[] multipart(String boundary, String gid, byte[] file) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String head = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"gid\"\r\n\r\n" + gid + "\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"upload.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n";
+
+        out.writeBytes(head.getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(file);
+        out.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        return out.toByteArray();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private int random(int min, int max) {
+        return ThreadLocalRandom.current().nextInt(min, max + 1);
+    }
+}
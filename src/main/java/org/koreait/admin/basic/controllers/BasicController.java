@@ -10,6 +10,8 @@ import org.koreait.global.annotations.ApplyErrorPage;
 import org.koreait.global.entities.SiteConfig;
 import org.koreait.global.entities.Terms;
 import org.koreait.global.libs.Utils;
+import org.koreait.global.scheduling.JobLockService;
+import org.koreait.global.scheduling.JobRunService;
 import org.koreait.global.services.CodeValueService;
 import org.koreait.member.social.entities.SocialConfig;
 import org.springframework.stereotype.Controller;
@@ -18,6 +20,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
@@ -30,6 +33,8 @@ public class BasicController implements SubMenus {
     private final CodeValueService codeValueService;
     private final TermsUpdateService termsUpdateService;
     private final TermsInfoService termsInfoService;
+    private final JobLockService jobLockService;
+    private final JobRunService jobRunService;
     private final HttpServletRequest request;
 
     private final Utils utils;
@@ -139,6 +144,25 @@ public class BasicController implements SubMenus {
         return "admin/basic/social";
     }
 
+    /**
+     * 예약 작업 - 작업별 잠금 현황, 실행 시간 요약, 최근 실행 이력
+     *
+     * @param model
+     * @return
+     */
+    @GetMapping("/jobs")
+    public String jobs(Model model) {
+        commonProcess("jobs", model);
+
+        model.addAttribute("nodeId", jobLockService.getNodeId());
+        model.addAttribute("now", LocalDateTime.now());
+        model.addAttribute("locks", jobLockService.getList());
+        model.addAttribute("summaries", jobRunService.getSummaries());
+        model.addAttribute("items", jobRunService.getList());
+
+        return "admin/basic/jobs";
+    }
+
     /**
      * 기본설정 공통 처리 부분
      *
@@ -155,6 +179,8 @@ public class BasicController implements SubMenus {
             pageTitle = "약관 관리";
         } else if (mode.equals("social")) {
             pageTitle = "소셜 로그인";
+        } else if (mode.equals("jobs")) {
+            pageTitle = "예약 작업";
         }
 
         pageTitle += " - 기본설정";
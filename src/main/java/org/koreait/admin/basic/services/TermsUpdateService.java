@@ -10,7 +10,9 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Lazy
 @Service
@@ -43,6 +45,7 @@ public class TermsUpdateService {
         }
 
         List<String> deleteCodes = new ArrayList<>();
+        Map<String, Terms> updates = new LinkedHashMap<>();
         for (int chk : chks) {
             String code = utils.getParam("code_" + chk);
             String subject = utils.getParam("subject_" + chk);
@@ -56,10 +59,14 @@ public class TermsUpdateService {
                         .subject(subject)
                         .content(content)
                         .build();
-                save(terms);
+                updates.put(String.format("term_%s", code), terms);
             }
         } // endfor
 
+        if (!updates.isEmpty()) { // 수정 - 한번에 저장
+            service.saveAll(updates);
+        }
+
         if (!deleteCodes.isEmpty()) {
             service.remove(deleteCodes);
         }
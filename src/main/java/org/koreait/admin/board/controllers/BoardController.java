@@ -5,7 +5,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.koreait.admin.board.validators.BoardValidator;
 import org.koreait.admin.global.menu.SubMenus;
+import org.koreait.board.controllers.BoardListItem;
+import org.koreait.board.controllers.BoardSearch;
 import org.koreait.board.entities.Board;
+import org.koreait.board.services.BoardInfoService;
 import org.koreait.board.services.configs.BoardConfigInfoService;
 import org.koreait.board.services.configs.BoardConfigUpdateService;
 import org.koreait.global.annotations.ApplyErrorPage;
@@ -31,6 +34,7 @@ public class BoardController implements SubMenus {
     private final BoardValidator boardValidator;
     private final BoardConfigUpdateService configUpdateService;
     private final BoardConfigInfoService configInfoService;
+    private final BoardInfoService boardInfoService;
     private final HttpServletRequest request;
 
     @Override
@@ -131,9 +135,14 @@ public class BoardController implements SubMenus {
      * @return
      */
     @GetMapping("/posts")
-    public String posts(Model model) {
+    public String posts(@ModelAttribute BoardSearch search, Model model) {
         commonProcess("posts", model);
 
+        ListData<BoardListItem> data = boardInfoService.getList(search);
+
+        model.addAttribute("items", data.getItems());
+        model.addAttribute("pagination", data.getPagination());
+
         return "admin/board/posts";
     }
 
@@ -14,7 +14,8 @@ public class Menus {
         submenus.put("basic", List.of(
            new MenuDetail("siteConfig", "사이트 기본정보", "/admin/basic/siteConfig"),
                 new MenuDetail("terms", "약관 관리", "/admin/basic/terms"),
-                new MenuDetail("social", "소셜로그인", "/admin/basic/social")
+                new MenuDetail("social", "소셜로그인", "/admin/basic/social"),
+                new MenuDetail("jobs", "예약 작업", "/admin/basic/jobs")
         ));
 
         // 회원관리
@@ -7,7 +7,6 @@ import org.koreait.global.annotations.ApplyErrorPage;
 import org.koreait.global.libs.Utils;
 import org.koreait.global.paging.ListData;
 import org.koreait.member.constants.Authority;
-import org.koreait.member.entities.Member;
 import org.koreait.member.services.MemberInfoService;
 import org.koreait.member.services.MemberUpdateService;
 import org.koreait.mypage.controllers.RequestProfile;
@@ -51,7 +50,7 @@ public class MemberController implements SubMenus {
     public String list(@ModelAttribute MemberSearch search, Model model) {
         commonProcess("list", model);
 
-        ListData<Member> data = memberInfoService.getList(search);
+        ListData<MemberListItem> data = memberInfoService.getList(search);
 
         model.addAttribute("items", data.getItems());
         model.addAttribute("pagination", data.getPagination());
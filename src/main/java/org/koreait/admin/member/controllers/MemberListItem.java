@@ -0,0 +1,24 @@
+package org.koreait.admin.member.controllers;
+
+import lombok.Data;
+import org.koreait.member.constants.Authority;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 회원 목록 항목
+ *  - 목록에 출력하는 컬럼만 조회
+ */
+@Data
+public class MemberListItem {
+    private Long seq;
+    private String email;
+    private String name;
+    private String nickName;
+    private LocalDateTime createdAt;
+    private LocalDateTime credentialChangedAt;
+    private LocalDateTime deletedAt;
+    private List<Authority> authorities = new ArrayList<>();
+}
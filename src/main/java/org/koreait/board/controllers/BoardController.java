@@ -25,6 +25,7 @@ import org.koreait.global.libs.Utils;
 import org.koreait.global.paging.ListData;
 import org.koreait.global.services.CodeValueService;
 import org.koreait.member.libs.MemberUtil;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.util.StringUtils;
@@ -84,7 +85,7 @@ public class BoardController {
     public String list(@PathVariable("bid") String bid, BoardSearch search, Model model) {
         commonProcess(bid, "list", model);
 
-        ListData<BoardData> data = boardInfoService.getList(bid, search);
+        ListData<BoardListItem> data = boardInfoService.getList(bid, search);
         model.addAttribute("items", data.getItems());
         model.addAttribute("pagination", data.getPagination());
 
@@ -102,9 +103,11 @@ public class BoardController {
     public String view(@PathVariable("seq") Long seq, Model model, @ModelAttribute RequestComment form) {
         commonProcess(seq, "view", model);
 
-        long viewCount = boardViewUpdateService.process(seq); // 조회수 업데이트
         BoardData data = (BoardData)model.getAttribute("boardData");
-        data.setViewCount(viewCount);
+        try {
+            long viewCount = boardViewUpdateService.process(seq); // 조회수 업데이트
+            data.setViewCount(viewCount);
+        } catch (DataIntegrityViolationException e) {} // 같은 회원의 동시 조회 - 다른 요청에서 조회 기록 저장
 
         Board board = data.getBoard();
         if (board.isListUnderView()) { // 보기페이지 하단에 게시글 목록 출력
@@ -112,7 +115,7 @@ public class BoardController {
             BoardSearch search = new BoardSearch();
             search.setPage(boardInfoService.getPage(board.getBid(), seq, board.getRowsPerPage()));
 
-            ListData<BoardData> listData = boardInfoService.getList(board.getBid(), search);
+            ListData<BoardListItem> listData = boardInfoService.getList(board.getBid(), search);
             model.addAttribute("items", listData.getItems());
             model.addAttribute("pagination", listData.getPagination());
         }
@@ -0,0 +1,31 @@
+package org.koreait.board.controllers;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 항목
+ *  - 목록, 최신글, 관리자 게시글 관리에 출력하는 컬럼만 조회(content 는 조회하지 않음)
+ *  - 내용 요약, 목록 이미지, 파일 수는 저장 시점에 기록한 값을 사용 - 파일 조회 없음
+ */
+@Data
+public class BoardListItem {
+    private Long seq;
+    private String bid;
+    private String gid;
+    private String poster;
+    private boolean notice;
+    private String subject;
+    private String category;
+    private long viewCount;
+    private long commentCount;
+    private String ipAddr;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private String email; // 회원 게시글인 경우 작성 회원 이메일
+    private String excerpt; // 내용 요약
+    private Long selectedImageSeq; // 목록 노출 이미지 파일 번호
+    private int imageCount;
+    private int attachCount;
+}
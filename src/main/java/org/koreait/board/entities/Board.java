@@ -2,6 +2,8 @@ package org.koreait.board.entities;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.koreait.global.entities.BaseMemberEntity;
 import org.koreait.member.constants.Authority;
 
@@ -10,6 +12,8 @@ import java.util.List;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "board") // 관리자 설정 저장시에만 변경
 public class Board extends BaseMemberEntity implements Serializable {
     @Id
     @Column(length=30)
@@ -2,6 +2,7 @@ package org.koreait.board.entities;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 import org.koreait.file.entities.FileInfo;
 import org.koreait.global.entities.BaseEntity;
 import org.koreait.member.entities.Member;
@@ -13,7 +14,8 @@ import java.util.List;
 @Entity
 @Table(indexes = {
         @Index(name="idx_bd_created_at", columnList = "createdAt DESC"),
-        @Index(name="idx_bd_notice_created_at", columnList = "notice DESC, createdAt DESC")
+        @Index(name="idx_bd_notice_created_at", columnList = "notice DESC, createdAt DESC"),
+        @Index(name="idx_bd_bid_notice_created_at", columnList = "bid, notice DESC, createdAt DESC") // 게시판별 목록
 })
 public class BoardData extends BaseEntity implements Serializable {
     @Id @GeneratedValue
@@ -61,6 +63,19 @@ public class BoardData extends BaseEntity implements Serializable {
     @Column(length=60)
     private String category; // 게시글 분류
 
+    /* 목록 출력용 요약 정보 - 저장, 파일 변경시 갱신(BoardSummaryService) S */
+    @Column(length=200)
+    private String excerpt; // 내용 요약 - HTML 태그 제거
+
+    private Long selectedImageSeq; // 목록 노출 이미지 파일 번호
+
+    @ColumnDefault("0")
+    private int imageCount; // 에디터 이미지 수
+
+    @ColumnDefault("0")
+    private int attachCount; // 첨부 파일 수
+    /* 목록 출력용 요약 정보 E */
+
     @Transient
     private BoardData prev; // 이전 게시글
 
@@ -9,7 +9,10 @@ import java.io.Serializable;
 
 @Data
 @Entity
-@Table(indexes = @Index(name = "idx_comment_data_created_at", columnList = "createdAt ASC"))
+@Table(indexes = {
+        @Index(name = "idx_comment_data_created_at", columnList = "createdAt ASC"),
+        @Index(name = "idx_cd_data_created_at", columnList = "data_seq, createdAt ASC") // 게시글별 댓글
+})
 public class CommentData extends BaseEntity implements Serializable {
     @Id @GeneratedValue
     private Long seq;
@@ -36,6 +39,11 @@ public class CommentData extends BaseEntity implements Serializable {
     @Column(length=150)
     private String userAgent;
 
+    private Double sentiment; // 감정 분석 점수(0~1, 1에 가까울수록 긍정), 분석 전 null
+
+    @Column(length=40)
+    private String sentimentModel; // 분석한 모델 버전
+
     @Transient
     private boolean editable; // 댓글 수정, 삭제 가능 여부
 }
\ No newline at end of file
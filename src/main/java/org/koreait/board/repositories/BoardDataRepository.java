@@ -1,8 +1,14 @@
 package org.koreait.board.repositories;
 
 import org.koreait.board.entities.BoardData;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 
+import java.util.Optional;
+
 public interface BoardDataRepository extends JpaRepository<BoardData, Long>, QuerydslPredicateExecutor<BoardData> {
+    // 보기, 수정 화면 - 게시판 설정, 작성 회원을 함께 조회
+    @EntityGraph(attributePaths = {"board", "member"})
+    Optional<BoardData> findBySeq(Long seq);
 }
@@ -1,9 +1,14 @@
 package org.koreait.board.repositories;
 
 import org.koreait.board.entities.CommentData;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 
-public interface CommentDataRepository extends JpaRepository<CommentData, Long>, QuerydslPredicateExecutor<CommentData> {
+import java.util.Optional;
 
+public interface CommentDataRepository extends JpaRepository<CommentData, Long>, QuerydslPredicateExecutor<CommentData> {
+    // 댓글 수정, 삭제 - 작성 회원, 게시글, 게시판 설정을 함께 조회
+    @EntityGraph(attributePaths = {"member", "data", "data.board"})
+    Optional<CommentData> findBySeq(Long seq);
 }
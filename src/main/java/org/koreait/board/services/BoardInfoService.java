@@ -1,11 +1,14 @@
 package org.koreait.board.services;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import io.micrometer.core.annotation.Timed;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.koreait.board.controllers.BoardListItem;
 import org.koreait.board.controllers.BoardSearch;
 import org.koreait.board.controllers.RequestBoard;
 import org.koreait.board.entities.Board;
@@ -20,17 +23,21 @@ import org.koreait.global.libs.Utils;
 import org.koreait.global.paging.ListData;
 import org.koreait.global.paging.Pagination;
 import org.koreait.member.entities.Member;
+import org.koreait.member.entities.QMember;
 import org.koreait.member.libs.MemberUtil;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Objects;
 
 @Lazy
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true) // 조회 전용 - 복제 DB 사용 가능
 public class BoardInfoService {
 
     private final BoardConfigInfoService configInfoService;
@@ -50,7 +57,7 @@ public class BoardInfoService {
      */
     public BoardData get(Long seq) {
 
-        BoardData item = boardDataRepository.findById(seq).orElseThrow(BoardDataNotFoundException::new);
+        BoardData item = boardDataRepository.findBySeq(seq).orElseThrow(BoardDataNotFoundException::new);
 
         addInfo(item, true); // 추가 정보 처리
 
@@ -77,11 +84,15 @@ public class BoardInfoService {
 
     /**
      * 게시글 목록
+     *  - 목록 컬럼만 BoardListItem 으로 조회, content(CLOB)는 조회하지 않는다
+     *  - 목록 이미지는 저장 시점에 기록한 selectedImageSeq 사용(BoardSummaryService) - 파일 조회 없음
+     *  - 보기, 수정 페이지는 get(seq)로 엔티티 전체를 조회
      *
      * @param search
      * @return
      */
-    public ListData<BoardData> getList(BoardSearch search) {
+    @Timed(value="board.list", description = "게시글 목록 조회")
+    public ListData<BoardListItem> getList(BoardSearch search) {
         int page = Math.max(search.getPage(), 1);
         Board board = null;
         int rowsPerPage = 0;
@@ -96,6 +107,7 @@ public class BoardInfoService {
         /* 검색 처리 S */
         BooleanBuilder andBuilder = new BooleanBuilder();
         QBoardData boardData = QBoardData.boardData;
+        QMember member = QMember.member;
 
         // 게시판 아이디
         if (bids != null && !bids.isEmpty()) {
@@ -125,8 +137,8 @@ public class BoardInfoService {
 
             StringExpression subject = boardData.subject;
             StringExpression content = boardData.content;
-            StringExpression poster = boardData.poster.concat(boardData.member.name)
-                    .concat(boardData.member.email);
+            StringExpression poster = boardData.poster.concat(member.name.coalesce(""))
+                    .concat(member.email.coalesce(""));
 
             StringExpression condition = null;
             if (sopt.equals("SUBJECT")) { // 제목 검색
@@ -147,16 +159,19 @@ public class BoardInfoService {
         // 회원 이메일
         List<String> emails = search.getEmail();
         if (emails != null && !emails.isEmpty()) {
-            andBuilder.and(boardData.member.email.in(emails));
+            andBuilder.and(member.email.in(emails));
         }
 
         /* 검색 처리 E */
 
-        JPAQuery<BoardData> query = queryFactory.selectFrom(boardData)
-                .leftJoin(boardData.board)
-                .fetchJoin()
-                .leftJoin(boardData.member)
-                .fetchJoin()
+        JPAQuery<BoardListItem> query = queryFactory.select(Projections.fields(BoardListItem.class,
+                        boardData.seq, boardData.board.bid.as("bid"), boardData.gid, boardData.poster,
+                        boardData.notice, boardData.subject, boardData.category,
+                        boardData.viewCount, boardData.commentCount, boardData.ipAddr,
+                        boardData.createdAt, boardData.modifiedAt, member.email.as("email"),
+                        boardData.excerpt, boardData.selectedImageSeq, boardData.imageCount, boardData.attachCount))
+                .from(boardData)
+                .leftJoin(boardData.member, member)
                 .where(andBuilder)
                 .offset(offset)
                 .limit(limit);
@@ -181,11 +196,13 @@ public class BoardInfoService {
 
         /* 정렬 조건 처리 E */
 
-        List<BoardData> items = query.fetch();
+        List<BoardListItem> items = query.fetch();
 
-        long total = boardDataRepository.count(andBuilder);
-
-        items.forEach(this::addInfo); // 추가 정보 처리
+        long total = Objects.requireNonNullElse(queryFactory.select(boardData.count())
+                .from(boardData)
+                .leftJoin(boardData.member, member)
+                .where(andBuilder)
+                .fetchOne(), 0L);
 
         int ranges = utils.isMobile() ? 5 : 10;
         if (board != null) { // 게시판별 설정이 있는 경우
@@ -197,7 +214,8 @@ public class BoardInfoService {
         return new ListData<>(items, pagination);
     }
 
-    public ListData<BoardData> getList(String bid, BoardSearch search) {
+    @Timed(value="board.list", description = "게시글 목록 조회")
+    public ListData<BoardListItem> getList(String bid, BoardSearch search) {
         search.setBid(List.of(bid));
 
         return getList(search);
@@ -210,23 +228,23 @@ public class BoardInfoService {
      * @param limit
      * @return
      */
-    public List<BoardData> getLatest(String bid, String category, int limit) {
+    public List<BoardListItem> getLatest(String bid, String category, int limit) {
         BoardSearch search = new BoardSearch();
         search.setLimit(limit);
         search.setBid(List.of(bid));
         search.setCategory(category == null ? null : List.of(category));
 
-        ListData<BoardData> data = getList(search);
+        ListData<BoardListItem> data = getList(search);
 
-        List<BoardData> items = data.getItems();
+        List<BoardListItem> items = data.getItems();
         return items == null ? List.of() : items;
     }
 
-    public List<BoardData> getLatest(String bid, int limit) {
+    public List<BoardListItem> getLatest(String bid, int limit) {
         return getLatest(bid, null, limit);
     }
 
-    public List<BoardData> getLatest(String bid) {
+    public List<BoardListItem> getLatest(String bid) {
         return getLatest(bid, 5);
     }
 
@@ -236,7 +254,7 @@ public class BoardInfoService {
      * @param search
      * @return
      */
-    public ListData<BoardData> getMyList(BoardSearch search) {
+    public ListData<BoardListItem> getMyList(BoardSearch search) {
         if (!memberUtil.isLogin()) {
             return new ListData<>(List.of(), null);
         }
@@ -311,10 +329,6 @@ public class BoardInfoService {
         /* listable, writable, editable, mine 처리 E */
     }
 
-    private void addInfo(BoardData item) {
-        addInfo(item, false);
-    }
-
     /**
      * 게시글 번호와 게시판 아이디로 현재 페이지 구하기
      *
@@ -0,0 +1,32 @@
+package org.koreait.board.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 게시글 목록 요약 정보 생성
+ *  - board-summary 프로필로 실행시 한번 수행
+ *  - 예) java -jar app.jar --spring.profiles.active=default,board-summary --board.summary.batch-size=1000
+ */
+@Slf4j
+@Component
+@Profile("board-summary")
+@RequiredArgsConstructor
+public class BoardSummaryRunner implements ApplicationRunner {
+
+    private final BoardSummaryService summaryService;
+
+    @Value("${board.summary.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long total = summaryService.rebuild(batchSize);
+        log.info("게시글 요약 정보 생성 완료 - {}건", total);
+    }
+}
@@ -0,0 +1,203 @@
+package org.koreait.board.services;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.board.entities.BoardData;
+import org.koreait.board.entities.QBoardData;
+import org.koreait.file.entities.QFileInfo;
+import org.koreait.file.services.FileChangedEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 목록 요약 정보
+ *  - 내용 요약(excerpt), 목록 노출 이미지, 이미지/첨부 파일 수를 저장 시점에 BoardData 에 기록
+ *  - 목록 조회시 파일 조회, content(CLOB) 조회 없이 출력
+ */
+@Slf4j
+@Lazy
+@Service
+@RequiredArgsConstructor
+public class BoardSummaryService {
+
+    public static final int EXCERPT_LENGTH = 200;
+
+    private static final Pattern SCRIPT = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1>");
+    private static final Pattern TAG = Pattern.compile("(?s)<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final JPAQueryFactory queryFactory;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 내용 요약 - HTML 태그 제거 후 EXCERPT_LENGTH 자
+     *
+     * @param content
+     * @return
+     */
+    public String getExcerpt(String content) {
+        if (!StringUtils.hasText(content)) {
+            return null;
+        }
+
+        String text = SCRIPT.matcher(content).replaceAll(" ");
+        text = TAG.matcher(text).replaceAll(" ");
+        text = HtmlUtils.htmlUnescape(text).replace('\u00A0', ' ');
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+
+        return text.length() > EXCERPT_LENGTH ? text.substring(0, EXCERPT_LENGTH) : text;
+    }
+
+    /**
+     * 저장 전 요약 정보 반영 - 파일 그룹 작업 완료 후 호출
+     *
+     * @param item
+     */
+    public void apply(BoardData item) {
+        item.setExcerpt(getExcerpt(item.getContent()));
+
+        FileSummary files = getFileSummary(item.getGid());
+        item.setSelectedImageSeq(files.selectedImageSeq());
+        item.setImageCount(files.imageCount());
+        item.setAttachCount(files.attachCount());
+    }
+
+    /**
+     * 파일 요약 정보만 갱신 - 엔티티를 조회하지 않고 UPDATE 한번
+     *
+     * @param gid
+     */
+    @Transactional
+    public void updateFiles(String gid) {
+        FileSummary files = getFileSummary(gid);
+
+        QBoardData boardData = QBoardData.boardData;
+        queryFactory.update(boardData)
+                .set(boardData.selectedImageSeq, files.selectedImageSeq())
+                .set(boardData.imageCount, files.imageCount())
+                .set(boardData.attachCount, files.attachCount())
+                .where(boardData.gid.eq(gid))
+                .execute();
+    }
+
+    /**
+     * 대표 이미지 선택, 파일 삭제시 갱신 - 파일 처리와 같은 트랜잭션
+     *
+     * @param event
+     */
+    @EventListener
+    public void onFileChanged(FileChangedEvent event) {
+        String location = event.location();
+        if (!StringUtils.hasText(event.gid())
+                || (StringUtils.hasText(location) && !location.equals("editor") && !location.equals("attach"))) {
+            return;
+        }
+
+        updateFiles(event.gid());
+    }
+
+    /**
+     * 기존 게시글 요약 정보 일괄 생성
+     *  - seq 기준으로 이어서 처리하므로 중단 후 다시 실행해도 된다
+     *  - 엔티티를 저장하지 않고 UPDATE 로 요약 컬럼만 반영 - 수정일시(modifiedAt)는 그대로 유지
+     *
+     * @param batchSize : 한번에 처리할 게시글 수
+     * @return 처리한 게시글 수
+     */
+    public long rebuild(int batchSize) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        long lastSeq = 0L;
+        long total = 0L;
+        while (true) {
+            long from = lastSeq;
+            Batch batch = template.execute(status -> rebuildBatch(from, batchSize));
+            if (batch == null || batch.count() == 0) break;
+
+            lastSeq = batch.lastSeq();
+            total += batch.count();
+            log.info("게시글 요약 정보 생성 진행 - {}건, 마지막 seq: {}", total, lastSeq);
+        }
+
+        return total;
+    }
+
+    private Batch rebuildBatch(long lastSeq, int batchSize) {
+        QBoardData boardData = QBoardData.boardData;
+
+        List<Tuple> items = queryFactory.select(boardData.seq, boardData.gid, boardData.content)
+                .from(boardData)
+                .where(boardData.seq.gt(lastSeq))
+                .orderBy(boardData.seq.asc())
+                .limit(batchSize)
+                .fetch();
+
+        for (Tuple item : items) {
+            lastSeq = item.get(boardData.seq);
+
+            FileSummary files = getFileSummary(item.get(boardData.gid));
+            queryFactory.update(boardData)
+                    .set(boardData.excerpt, getExcerpt(item.get(boardData.content)))
+                    .set(boardData.selectedImageSeq, files.selectedImageSeq())
+                    .set(boardData.imageCount, files.imageCount())
+                    .set(boardData.attachCount, files.attachCount())
+                    .where(boardData.seq.eq(lastSeq))
+                    .execute();
+        }
+
+        return new Batch(lastSeq, items.size());
+    }
+
+    /**
+     * 그룹작업 완료된 에디터 이미지, 첨부 파일 집계 - 목록 컬럼만 한번 조회
+     *  - 목록 노출 이미지 : 선택한 이미지, 없으면 첫번째 이미지
+     *
+     * @param gid
+     * @return
+     */
+    private FileSummary getFileSummary(String gid) {
+        if (!StringUtils.hasText(gid)) {
+            return new FileSummary(null, 0, 0);
+        }
+
+        QFileInfo fileInfo = QFileInfo.fileInfo;
+        List<Tuple> files = queryFactory.select(fileInfo.seq, fileInfo.location, fileInfo.selected)
+                .from(fileInfo)
+                .where(fileInfo.gid.eq(gid), fileInfo.done.isTrue(), fileInfo.location.in("editor", "attach"))
+                .orderBy(fileInfo.listOrder.asc(), fileInfo.createdAt.asc())
+                .fetch();
+
+        Long firstImageSeq = null;
+        Long selectedImageSeq = null;
+        int imageCount = 0;
+        int attachCount = 0;
+        for (Tuple file : files) {
+            if ("attach".equals(file.get(fileInfo.location))) {
+                attachCount++;
+                continue;
+            }
+
+            imageCount++;
+            Long seq = file.get(fileInfo.seq);
+            if (firstImageSeq == null) firstImageSeq = seq;
+            if (selectedImageSeq == null && Boolean.TRUE.equals(file.get(fileInfo.selected))) selectedImageSeq = seq;
+        }
+
+        return new FileSummary(selectedImageSeq == null ? firstImageSeq : selectedImageSeq, imageCount, attachCount);
+    }
+
+    private record FileSummary(Long selectedImageSeq, int imageCount, int attachCount) {}
+
+    private record Batch(long lastSeq, int count) {}
+}
@@ -30,6 +30,7 @@ public class BoardUpdateService {
     private final PasswordEncoder passwordEncoder;
     private final HttpServletRequest request;
     private final FileDoneService fileDoneService;
+    private final BoardSummaryService summaryService;
 
     public BoardData process(RequestBoard form) {
 
@@ -74,8 +75,10 @@ public class BoardUpdateService {
         data.setYoutubeUrl(form.getYoutubeUrl());
         data.setCategory(form.getCategory());
 
-        boardDataRepository.saveAndFlush(data);
         fileDoneService.process(form.getGid());
+        summaryService.apply(data); // 목록 출력용 요약 정보 - 내용 요약, 목록 이미지, 파일 수
+
+        boardDataRepository.save(data); // 커밋할 때 INSERT, UPDATE
 
         // 비회원 게시글 인증 정보 삭제
         request.getSession().removeAttribute("board_" + seq);
@@ -1,14 +1,16 @@
 package org.koreait.board.services;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.koreait.board.entities.BoardData;
 import org.koreait.board.entities.BoardView;
+import org.koreait.board.entities.QBoardData;
 import org.koreait.board.entities.QBoardView;
 import org.koreait.board.repositories.BoardDataRepository;
 import org.koreait.board.repositories.BoardViewRepository;
 import org.koreait.global.libs.Utils;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Lazy
 @Service
@@ -16,25 +18,35 @@ import org.springframework.stereotype.Service;
 public class BoardViewUpdateService {
     private final BoardDataRepository boardDataRepository;
     private final BoardViewRepository boardViewRepository;
+    private final JPAQueryFactory queryFactory;
     private final Utils utils;
 
+    /**
+     * 조회 기록, 조회수 업데이트 - 한번에 커밋
+     *  - 이미 조회한 기록이 있으면 merge 시 SELECT 만 실행
+     *  - 조회수는 UPDATE 한번으로 반영(게시글 엔티티를 조회, 수정하지 않으므로 수정일시 유지)
+     *
+     * @param seq
+     * @return 조회수
+     */
+    @Transactional
     public long process(Long seq) {
-        BoardData item = boardDataRepository.findById(seq).orElse(null);
-        if (item == null) return 0L;
+        if (!boardDataRepository.existsById(seq)) return 0L;
 
-        try {
-            BoardView view = new BoardView();
-            view.setSeq(seq);
-            view.setHash(utils.getMemberHash());
-            boardViewRepository.saveAndFlush(view);
-        } catch (Exception e) {}
+        BoardView view = new BoardView();
+        view.setSeq(seq);
+        view.setHash(utils.getMemberHash());
+        boardViewRepository.save(view);
 
-        // 조회수 업데이트
+        // 조회수 업데이트 - 갯수 조회 전에 조회 기록이 자동으로 flush 된다
         QBoardView boardView = QBoardView.boardView;
         long total = boardViewRepository.count(boardView.seq.eq(seq));
 
-        item.setViewCount(total);
-        boardDataRepository.saveAndFlush(item);
+        QBoardData boardData = QBoardData.boardData;
+        queryFactory.update(boardData)
+                .set(boardData.viewCount, total)
+                .where(boardData.seq.eq(seq))
+                .execute();
 
         return total;
     }
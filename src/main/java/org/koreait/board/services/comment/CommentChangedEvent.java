@@ -0,0 +1,9 @@
+package org.koreait.board.services.comment;
+
+/**
+ * 댓글 등록, 내용 수정 - 커밋 후 감정 분석 대상(dl 프로필의 CommentSentimentWorker)
+ *
+ * @param seq : 댓글 번호
+ */
+public record CommentChangedEvent(Long seq) {
+}
@@ -0,0 +1,13 @@
+package org.koreait.board.services.comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감정 분석할 댓글 내용
+ *
+ * @param seq : 댓글 번호
+ * @param content : 조회 시점의 내용
+ * @param modifiedAt : 조회 시점의 수정일시 - 저장시 내용이 그대로인지 확인(분석 중 수정된 댓글에 이전 내용의 점수를 저장하지 않도록)
+ */
+public record CommentContent(Long seq, String content, LocalDateTime modifiedAt) {
+}
@@ -6,6 +6,7 @@ import org.koreait.board.entities.CommentData;
 import org.koreait.board.repositories.CommentDataRepository;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Lazy
 @Service
@@ -22,14 +23,14 @@ public class CommentDeleteService {
      * @param seq
      * @return
      */
+    @Transactional // 댓글 삭제, 게시글 댓글 수 반영을 한번에 커밋
     public BoardData delete(Long seq) {
         CommentData item = infoService.get(seq);
         BoardData data = item.getData();
 
         commentDataRepository.delete(item);
-        commentDataRepository.flush();
 
-        // 댓글 갯수 업데이트
+        // 댓글 갯수 업데이트 - 갯수 조회 전에 삭제가 자동으로 flush 된다
         updateService.updateCount(data.getSeq());
 
         return data;
@@ -32,7 +32,7 @@ public class CommentInfoService {
      * @return
      */
     public CommentData get(Long seq) {
-        CommentData item = commentDataRepository.findById(seq).orElseThrow(CommentNotFoundException::new);
+        CommentData item = commentDataRepository.findBySeq(seq).orElseThrow(CommentNotFoundException::new);
 
         addInfo(item); // 추가 데이터 처리
 
@@ -0,0 +1,86 @@
+package org.koreait.board.services.comment;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.koreait.board.entities.QCommentData;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 감정 분석 결과 조회, 저장
+ *  - 화면에서는 저장된 점수(CommentData.sentiment)만 출력
+ */
+@Lazy
+@Service
+@RequiredArgsConstructor
+public class CommentSentimentService {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 분석할 댓글 내용
+     *
+     * @param seqs : 댓글 번호
+     * @return 삭제된 댓글은 제외
+     */
+    @Transactional(readOnly = true)
+    public List<CommentContent> getContents(List<Long> seqs) {
+        QCommentData commentData = QCommentData.commentData;
+
+        return queryFactory.select(Projections.constructor(CommentContent.class, commentData.seq, commentData.content, commentData.modifiedAt))
+                .from(commentData)
+                .where(commentData.seq.in(seqs))
+                .fetch();
+    }
+
+    /**
+     * 분석하지 않았거나 다른 모델로 분석한 댓글 - 최근 댓글부터
+     *
+     * @param model : 현재 분석 모델 버전
+     * @param limit
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getTargets(String model, int limit) {
+        QCommentData commentData = QCommentData.commentData;
+
+        return queryFactory.select(commentData.seq)
+                .from(commentData)
+                .where(commentData.sentiment.isNull().or(commentData.sentimentModel.ne(model)))
+                .orderBy(commentData.seq.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 분석 결과 저장 - 엔티티를 읽지 않고 바로 UPDATE, 한번에 커밋
+     *  - 조회 이후 수정된 댓글(수정일시가 다름)은 저장하지 않음 - 수정된 내용은 다시 분석 대기열에 들어간다
+     *  - content 는 CLOB 이라 Oracle 에서 = 비교가 안되므로 수정일시로 확인
+     *
+     * @param scores : 분석한 내용별 점수
+     * @param model : 분석 모델 버전
+     * @return 저장한 댓글 수
+     */
+    @Transactional
+    public long save(Map<CommentContent, Double> scores, String model) {
+        QCommentData commentData = QCommentData.commentData;
+
+        long total = 0L;
+        for (Map.Entry<CommentContent, Double> entry : scores.entrySet()) {
+            CommentContent item = entry.getKey();
+            total += queryFactory.update(commentData)
+                    .set(commentData.sentiment, entry.getValue())
+                    .set(commentData.sentimentModel, model)
+                    .where(commentData.seq.eq(item.seq()),
+                            item.modifiedAt() == null ? commentData.modifiedAt.isNull() : commentData.modifiedAt.eq(item.modifiedAt()))
+                    .execute();
+        }
+
+        return total;
+    }
+}
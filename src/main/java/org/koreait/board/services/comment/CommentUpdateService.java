@@ -11,9 +11,11 @@ import org.koreait.board.repositories.BoardDataRepository;
 import org.koreait.board.repositories.CommentDataRepository;
 import org.koreait.board.services.BoardInfoService;
 import org.koreait.member.libs.MemberUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.Objects;
@@ -21,6 +23,7 @@ import java.util.Objects;
 @Lazy
 @Service
 @RequiredArgsConstructor
+@Transactional // 댓글 저장, 게시글 댓글 수 반영을 한번에 커밋
 public class CommentUpdateService {
 
     private final CommentDataRepository commentDataRepository;
@@ -29,6 +32,7 @@ public class CommentUpdateService {
     private final MemberUtil memberUtil;
     private final HttpServletRequest request;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 등록, 수정
@@ -54,17 +58,26 @@ public class CommentUpdateService {
             item.setUserAgent(request.getHeader("User-Agent"));
         }
 
+        boolean changed = !Objects.equals(item.getContent(), form.getContent());
         item.setCommenter(form.getCommenter());
         item.setContent(form.getContent());
+        if (changed) { // 이전 내용의 분석 결과는 사용하지 않음
+            item.setSentiment(null);
+            item.setSentimentModel(null);
+        }
 
         String guestPw = form.getGuestPw();
         if (StringUtils.hasText(guestPw)) {
             item.setGuestPw(passwordEncoder.encode(guestPw));
         }
 
-        commentDataRepository.saveAndFlush(item);
+        commentDataRepository.save(item);
+
+        if (changed) { // 커밋 후 감정 분석
+            eventPublisher.publishEvent(new CommentChangedEvent(item.getSeq()));
+        }
 
-        // 댓글 갯수 업데이트
+        // 댓글 갯수 업데이트 - 갯수 조회 전에 저장한 댓글이 자동으로 flush 된다
         updateCount(boardDataSeq);
 
         return item;
@@ -80,8 +93,7 @@ public class CommentUpdateService {
         long total = commentDataRepository.count(commentData.data.seq.eq(seq)); // 게시글별 댓글 갯수
         BoardData item = boardDataRepository.findById(seq).orElse(null);
         if (item != null) {
-            item.setCommentCount(total);
-            boardDataRepository.saveAndFlush(item);
+            item.setCommentCount(total); // 영속 상태 - 커밋시 변경 감지로 UPDATE
         }
     }
 }
\ No newline at end of file
@@ -9,11 +9,14 @@ import org.koreait.global.libs.Utils;
 import org.koreait.member.constants.Authority;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Lazy
 @Service
@@ -58,32 +61,35 @@ public class BoardConfigUpdateService {
      *
      * @param chks
      */
+    @Transactional
     public void process(List<Integer> chks, String mode) {
         mode = StringUtils.hasText(mode) ? mode : "edit";
         if (chks == null || chks.isEmpty()) {
             throw new AlertException("처리할 게시판을 선택하세요.");
         }
 
-        List<Board> items = new ArrayList<>();
+        Map<Integer, String> bids = new LinkedHashMap<>();
         for (int chk : chks) {
-            String bid = utils.getParam("bid_" + chk);
+            bids.put(chk, utils.getParam("bid_" + chk));
+        }
+
+        if (mode.equals("delete")) { // 삭제 - DELETE ... WHERE bid IN (...) 한번으로 처리
+            boardRepository.deleteAllByIdInBatch(bids.values());
+            return;
+        }
 
-            if (mode.equals("delete")) {
-                boardRepository.deleteById(bid);
-                continue;
-            }
+        // 수정 - IN 조회 한번 후 변경 감지 + JDBC 배치로 UPDATE
+        Map<String, Board> items = boardRepository.findAllById(bids.values()).stream()
+                .collect(Collectors.toMap(Board::getBid, b -> b));
 
-            Board item = boardRepository.findById(bid).orElse(null);
+        for (Map.Entry<Integer, String> entry : bids.entrySet()) {
+            int chk = entry.getKey();
+            Board item = items.get(entry.getValue());
             if (item == null) continue;
 
             item.setName(utils.getParam("name_" + chk));
             item.setOpen(Boolean.parseBoolean(utils.getParam("open_" + chk)));
             item.setSkin(utils.getParam("skin_" + chk));
-            items.add(item);
-        }
-
-        if (!items.isEmpty()) { // 수정 처리
-            boardRepository.saveAll(items);
         }
 
         boardRepository.flush();
@@ -0,0 +1,10 @@
+package org.koreait.dl.constants;
+
+public enum TrainStatus {
+    QUEUED, // 실행 대기
+    RUNNING, // 실행 중
+    SUCCESS, // 완료 - 새 모델 적용
+    FAIL, // 실패(종료 코드 0 이 아님)
+    TIMEOUT, // 제한 시간 초과로 중단
+    CANCELLED // 취소
+}
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.koreait.dl.entities.TrainItem;
 import org.koreait.dl.services.PredictService;
 import org.koreait.dl.services.SentimentService;
+import org.koreait.dl.services.TrainJobManager;
+import org.koreait.dl.services.TrainJobStatus;
 import org.koreait.dl.services.TrainService;
 import org.koreait.global.rests.JSONData;
 import org.springframework.context.annotation.Profile;
@@ -20,6 +22,7 @@ public class ApiDlController {
     private final PredictService predictService;
     private final TrainService trainService;
     private final SentimentService sentimentService;
+    private final TrainJobManager jobManager;
 
     @GetMapping("/data")
     public List<TrainItem> sendData(@RequestParam(name="mode", required = false) String mode) {
@@ -42,4 +45,41 @@ public class ApiDlController {
 
         return new JSONData(predictions);
     }
+
+    /**
+     * 모델 훈련 시작 - 이미 실행 중이면 실행 중인 작업
+     *
+     * @return
+     */
+    @PostMapping("/train")
+    public JSONData train() {
+        return new JSONData(jobManager.getStatus(trainService.start().getJobId(), 0L));
+    }
+
+    /**
+     * 훈련 상태, 출력 조회
+     *
+     * @param jobId
+     * @param from : 이 번호 이후 출력만 조회, 이전 응답의 next
+     * @return
+     */
+    @GetMapping("/train/{jobId}")
+    public JSONData trainStatus(@PathVariable("jobId") String jobId, @RequestParam(name="from", defaultValue = "0") long from) {
+        TrainJobStatus status = jobManager.getStatus(jobId, from);
+
+        return new JSONData(status);
+    }
+
+    /**
+     * 훈련 취소
+     *
+     * @param jobId
+     * @return
+     */
+    @DeleteMapping("/train/{jobId}")
+    public JSONData cancel(@PathVariable("jobId") String jobId) {
+        jobManager.cancel(jobId);
+
+        return new JSONData(jobManager.getStatus(jobId, 0L));
+    }
 }
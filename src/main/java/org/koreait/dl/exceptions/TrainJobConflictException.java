@@ -0,0 +1,13 @@
+package org.koreait.dl.exceptions;
+
+import org.koreait.global.exceptions.CommonException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 다른 서버에서 훈련 중 - 응답 코드 409
+ */
+public class TrainJobConflictException extends CommonException {
+    public TrainJobConflictException() {
+        super("다른 서버에서 모델 훈련이 진행 중입니다.", HttpStatus.CONFLICT);
+    }
+}
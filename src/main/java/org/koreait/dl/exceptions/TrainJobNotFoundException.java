@@ -0,0 +1,13 @@
+package org.koreait.dl.exceptions;
+
+import org.koreait.global.exceptions.CommonException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 훈련 작업 없음 - 잘못된 작업 번호 또는 보관 수(dl.train.history)를 넘어 삭제된 작업
+ */
+public class TrainJobNotFoundException extends CommonException {
+    public TrainJobNotFoundException() {
+        super("훈련 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,51 @@
+package org.koreait.dl.libs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최근 출력 보관 - 고정 크기 원형 버퍼
+ *  - 줄마다 0부터 증가하는 번호를 붙이고, 가득 차면 가장 오래된 줄을 덮어쓴다
+ *  - 상태 조회시 마지막으로 받은 번호 이후만 요청하면 이어서 볼 수 있다
+ */
+public class LogRingBuffer {
+
+    private final String[] lines;
+    private long next; // 다음 줄 번호 = 지금까지 기록한 줄 수
+
+    public LogRingBuffer(int capacity) {
+        this.lines = new String[Math.max(capacity, 1)];
+    }
+
+    public synchronized void add(String line) {
+        lines[(int)(next % lines.length)] = line;
+        next++;
+    }
+
+    /**
+     * 번호 from 이상인 줄 - 이미 덮어쓴 줄은 제외
+     *
+     * @param from
+     * @return
+     */
+    public synchronized List<LogLine> since(long from) {
+        long start = Math.max(Math.max(from, 0L), next - lines.length);
+        List<LogLine> items = new ArrayList<>();
+        for (long seq = start; seq < next; seq++) {
+            items.add(new LogLine(seq, lines[(int)(seq % lines.length)]));
+        }
+
+        return items;
+    }
+
+    public synchronized long getNext() {
+        return next;
+    }
+
+    // 덮어써서 볼 수 없는 줄 수
+    public synchronized long getDropped() {
+        return Math.max(next - lines.length, 0L);
+    }
+
+    public record LogLine(long seq, String text) {}
+}
@@ -0,0 +1,136 @@
+package org.koreait.dl.services;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.board.services.comment.CommentChangedEvent;
+import org.koreait.board.services.comment.CommentContent;
+import org.koreait.board.services.comment.CommentSentimentService;
+import org.koreait.global.annotations.SchedulerLock;
+import org.koreait.global.configs.SentimentProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 감정 분석
+ *  - 댓글 등록, 수정이 커밋되면 대기열에 추가하고 batchSize 만큼 모이거나 batchDelay 가 지나면 한번에 분석
+ *  - 요청 스레드는 분석을 기다리지 않음, 분석 결과는 CommentData.sentiment 에 저장
+ *  - 서버 종료, 분석 실패로 빠진 댓글은 보충 작업(sentiment-backfill)에서 다시 분석
+ *  - 분석 건수는 sentiment.batch.size, 실패는 sentiment.batch.fail
+ */
+@Slf4j
+@Component
+@Profile("dl")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SentimentProperties.class)
+public class CommentSentimentWorker {
+
+    private final SentimentService sentimentService;
+    private final SentimentCache cache;
+    private final CommentSentimentService commentSentimentService;
+    private final SentimentProperties properties;
+    private final MeterRegistry registry;
+
+    private final ConcurrentLinkedQueue<Long> queue = new ConcurrentLinkedQueue<>();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "comment-sentiment");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void init() {
+        long delay = Math.max(properties.getBatchDelay(), 100L);
+        executor.scheduleWithFixedDelay(this::flush, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void add(CommentChangedEvent event) {
+        queue.offer(event.seq());
+        if (queue.size() >= properties.getBatchSize()) { // 가득 차면 주기를 기다리지 않고 분석
+            executor.execute(this::flush);
+        }
+    }
+
+    /**
+     * 미분석 댓글 보충 - 대기열 유실(서버 종료), 분석 실패, 모델 변경으로 빠진 댓글
+     */
+    @Scheduled(cron = "${dl.sentiment.backfill-cron:0 */10 * * * *}") // 기본 10분 마다
+    @SchedulerLock(name = "sentiment-backfill", lockAtLeastSeconds = 60L)
+    public void backfill() {
+        List<Long> seqs = commentSentimentService.getTargets(cache.getVersion(), properties.getBackfillLimit());
+        queue.addAll(seqs);
+        log.debug("미분석 댓글 {}건 추가", seqs.size());
+    }
+
+    /**
+     * 대기열의 댓글을 batchSize 단위로 분석
+     *  - 분석 스레드 하나에서만 실행
+     */
+    void flush() {
+        try {
+            while (!queue.isEmpty()) {
+                Set<Long> seqs = new LinkedHashSet<>();
+                Long seq;
+                while (seqs.size() < properties.getBatchSize() && (seq = queue.poll()) != null) {
+                    seqs.add(seq);
+                }
+
+                process(new ArrayList<>(seqs));
+            }
+        } catch (Exception e) { // 예외가 나면 이후 주기 실행이 중단되므로 기록만
+            log.warn("댓글 감정 분석 실패", e);
+        }
+    }
+
+    private void process(List<Long> seqs) {
+        List<CommentContent> targets = commentSentimentService.getContents(seqs);
+        if (targets.isEmpty()) return;
+
+        double[] scores = sentimentService.predict(targets.stream().map(CommentContent::content).toList());
+        if (scores == null) {
+            registry.counter("sentiment.batch.fail").increment(targets.size());
+            log.warn("댓글 감정 분석 실패 - {}건, 보충 작업에서 다시 분석", targets.size());
+            return;
+        }
+
+        Map<CommentContent, Double> results = new LinkedHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            results.put(targets.get(i), scores[i]);
+        }
+
+        long saved = commentSentimentService.save(results, cache.getVersion());
+        if (saved < targets.size()) {
+            log.debug("분석 중 수정된 댓글 {}건 저장 제외", targets.size() - saved);
+        }
+
+        DistributionSummary.builder("sentiment.batch.size")
+                .description("댓글 감정 분석 1회 처리 건수")
+                .register(registry)
+                .record(targets.size());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
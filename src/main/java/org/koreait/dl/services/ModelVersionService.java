@@ -0,0 +1,180 @@
+package org.koreait.dl.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.global.configs.TrainProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * 모델 버전 관리
+ *  - 훈련 작업마다 versions/작업번호 경로에 새 모델을 만들고, 성공한 경우만 현재 모델로 교체
+ *  - 현재 모델은 current 파일에 버전명을 기록 - 임시 파일 작성 후 이름 변경(원자적 이동)하므로 읽는 쪽은 이전 또는 새 버전 중 하나만 본다
+ *  - 예측 프로세스는 시작 시점의 현재 모델 경로에서 실행되므로 교체 중에도 반쯤 쓰인 모델을 읽지 않는다
+ *  - 조회시 current 파일의 수정 시각이 바뀌었으면 다시 읽는다 - 모델 경로를 공유하는 다른 서버에서 교체한 모델도 반영
+ */
+@Slf4j
+@Lazy
+@Service
+@Profile("dl")
+@EnableConfigurationProperties(TrainProperties.class)
+public class ModelVersionService {
+
+    private static final String CURRENT = "current";
+
+    private final TrainProperties properties;
+    private final Path basePath;
+    private final Path versionsPath;
+    private final Path pointer;
+    private final AtomicReference<Path> current = new AtomicReference<>();
+    private volatile FileTime pointerModified; // 마지막으로 읽은 current 파일의 수정 시각
+
+    public ModelVersionService(TrainProperties properties, @Value("${python.script.path}") String scriptPath) {
+        this.properties = properties;
+        this.basePath = Path.of(StringUtils.hasText(properties.getModelPath()) ? properties.getModelPath() : scriptPath + "models");
+        this.versionsPath = basePath.resolve("versions");
+        this.pointer = basePath.resolve(CURRENT);
+
+        try {
+            Files.createDirectories(versionsPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        refresh(); // 재시작시 마지막으로 적용한 모델
+    }
+
+    /**
+     * 새 버전 경로 생성
+     *
+     * @param version
+     * @return
+     */
+    public Path create(String version) {
+        try {
+            return Files.createDirectories(versionsPath.resolve(version));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 현재 모델로 교체
+     *
+     * @param dir
+     */
+    public synchronized void activate(Path dir) {
+        try {
+            Path tmp = Files.createTempFile(basePath, CURRENT, ".tmp");
+            Files.writeString(tmp, dir.getFileName().toString());
+            Files.move(tmp, pointer, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            pointerModified = Files.getLastModifiedTime(pointer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Path prev = current.getAndSet(dir);
+        log.info("모델 교체 - {} -> {}", prev == null ? "없음" : prev.getFileName(), dir.getFileName());
+
+        cleanup();
+    }
+
+    /**
+     * 적용하지 않은 버전 삭제 - 실패, 취소된 훈련 결과
+     *
+     * @param dir
+     */
+    public void discard(Path dir) {
+        if (dir.equals(current.get())) return;
+
+        try {
+            FileSystemUtils.deleteRecursively(dir);
+        } catch (IOException e) {
+            log.warn("모델 버전 삭제 실패 - {}", dir, e);
+        }
+    }
+
+    /**
+     * 현재 모델 경로, 아직 훈련된 모델이 없으면 null
+     *
+     * @return
+     */
+    public Path getCurrent() {
+        refresh();
+
+        return current.get();
+    }
+
+    public String getCurrentVersion() {
+        Path dir = getCurrent();
+        return dir == null ? null : dir.getFileName().toString();
+    }
+
+    /**
+     * current 파일이 바뀐 경우만 다시 읽기 - 수정 시각 비교
+     */
+    private void refresh() {
+        try {
+            FileTime modified = Files.getLastModifiedTime(pointer);
+            if (modified.equals(pointerModified)) return;
+
+            synchronized (this) {
+                if (modified.equals(pointerModified)) return;
+
+                String version = Files.readString(pointer).trim();
+                Path dir = versionsPath.resolve(version);
+                if (StringUtils.hasText(version) && Files.isDirectory(dir)) {
+                    Path prev = current.getAndSet(dir);
+                    if (!dir.equals(prev)) log.info("모델 변경 반영 - {}", version);
+                }
+
+                pointerModified = modified;
+            }
+        } catch (NoSuchFileException e) { // 아직 훈련된 모델 없음
+        } catch (IOException e) {
+            log.warn("현재 모델 확인 실패 - {}", pointer, e);
+        }
+    }
+
+    /**
+     * 오래된 버전 정리 - 현재 버전 포함 keepVersions 개만 유지
+     *  - 직전 버전을 남겨두므로 교체 직전에 시작한 예측 프로세스는 계속 이전 모델을 읽을 수 있다
+     */
+    private void cleanup() {
+        Path dir = current.get();
+        try (Stream<Path> stream = Files.list(versionsPath)) {
+            List<Path> items = stream.filter(Files::isDirectory)
+                    .filter(p -> !p.equals(dir))
+                    .sorted(Comparator.comparing(this::lastModified).reversed())
+                    .toList();
+
+            items.stream().skip(Math.max(properties.getKeepVersions() - 1, 0)).forEach(this::discard);
+        } catch (IOException e) {
+            log.warn("모델 버전 정리 실패", e);
+        }
+    }
+
+    private long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
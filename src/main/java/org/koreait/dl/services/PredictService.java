@@ -1,6 +1,7 @@
 package org.koreait.dl.services;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
@@ -8,6 +9,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 
 @Lazy
@@ -26,11 +28,21 @@ public class PredictService {
     @Autowired
     private ObjectMapper om;
 
+    @Autowired
+    private ModelVersionService versionService;
+
+    @Timed(value="python.process", extraTags = {"script", "predict"}, histogram = true, description = "파이썬 예측 프로세스")
     public int[] predict(List<int[]> items) {
         try {
             String data = om.writeValueAsString(items);
 
             ProcessBuilder builder = new ProcessBuilder(runPath, scriptPath + "predict.py", dataUrl + "?mode=ALL", data);
+            Path modelDir = versionService.getCurrent(); // 시작 시점의 현재 모델로 실행, 이후 교체되어도 영향 없음
+            if (modelDir != null) {
+                builder.directory(modelDir.toFile());
+                builder.environment().put("MODEL_DIR", modelDir.toString());
+            }
+
             Process process = builder.start();
             InputStream in = process.getInputStream();
             return om.readValue(in.readAllBytes(), int[].class);
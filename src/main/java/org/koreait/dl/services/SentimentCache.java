@@ -0,0 +1,178 @@
+package org.koreait.dl.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.global.configs.SentimentProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 감정 분석 결과 캐시
+ *  - 키 : sentiment:모델 버전:내용 SHA-256 - 같은 내용은 한번만 분석, 모델이 바뀌면 이전 결과는 사용하지 않음
+ *  - 서버 메모리(LRU) -> Redis 순으로 조회, Redis 에서 찾은 결과는 서버 메모리에도 저장
+ *  - Redis 장애시 서버 메모리만 사용(분석은 계속 가능)
+ *  - 적중률은 sentiment.cache{result=hit|miss}
+ */
+@Slf4j
+@Lazy
+@Service
+@Profile("dl")
+@EnableConfigurationProperties(SentimentProperties.class)
+public class SentimentCache {
+
+    private static final String PREFIX = "sentiment:";
+
+    private final SentimentProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry registry;
+    private final String version;
+
+    private final Map<String, Entry> local;
+
+    public SentimentCache(SentimentProperties properties, StringRedisTemplate redisTemplate, MeterRegistry registry, @Value("${python.bert.path}") String bertPath) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.registry = registry;
+        this.version = StringUtils.hasText(properties.getModelVersion()) ? properties.getModelVersion() : version(bertPath);
+
+        int size = Math.max(properties.getCacheSize(), 1);
+        this.local = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > size;
+            }
+        });
+    }
+
+    /**
+     * 캐시된 결과 조회
+     *
+     * @param texts
+     * @return 내용별 점수 - 캐시에 없는 내용은 포함하지 않음
+     */
+    public Map<String, Double> getAll(Collection<String> texts) {
+        Map<String, Double> items = new HashMap<>();
+        Map<String, String> remote = new LinkedHashMap<>(); // 서버 메모리에 없는 항목 - Redis 키, 내용
+        long now = System.currentTimeMillis();
+        for (String text : new LinkedHashSet<>(texts)) {
+            String key = key(text);
+            Entry entry = local.get(key);
+            if (entry != null && entry.expiresAt() > now) {
+                items.put(text, entry.score());
+            } else {
+                remote.put(key, text);
+            }
+        }
+
+        if (!remote.isEmpty()) {
+            try {
+                List<String> keys = new ArrayList<>(remote.keySet());
+                List<String> values = redisTemplate.opsForValue().multiGet(keys);
+                for (int i = 0; values != null && i < keys.size(); i++) {
+                    String value = values.get(i);
+                    if (value == null) continue;
+
+                    double score = Double.parseDouble(value);
+                    items.put(remote.get(keys.get(i)), score);
+                    local.put(keys.get(i), new Entry(score, now + properties.getCacheTtl().toMillis()));
+                }
+            } catch (RuntimeException e) {
+                log.debug("감정 분석 캐시 조회 실패(Redis)", e);
+            }
+        }
+
+        long hits = texts.stream().filter(items::containsKey).count(); // 중복 포함
+        registry.counter("sentiment.cache", "result", "hit").increment(hits);
+        registry.counter("sentiment.cache", "result", "miss").increment(texts.size() - hits);
+
+        return items;
+    }
+
+    /**
+     * 분석 결과 저장
+     *
+     * @param scores : 내용별 점수
+     */
+    public void putAll(Map<String, Double> scores) {
+        long expiresAt = System.currentTimeMillis() + properties.getCacheTtl().toMillis();
+        scores.forEach((text, score) -> {
+            String key = key(text);
+            local.put(key, new Entry(score, expiresAt));
+            try {
+                redisTemplate.opsForValue().set(key, String.valueOf(score), properties.getCacheTtl());
+            } catch (RuntimeException e) {
+                log.debug("감정 분석 캐시 저장 실패(Redis) - {}", key, e);
+            }
+        });
+    }
+
+    /**
+     * 분석 모델 버전 - 캐시 키, 댓글 분석 결과에 함께 기록
+     *
+     * @return
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    private String key(String text) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return PREFIX + version + ":" + HexFormat.of().formatHex(md.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 모델 파일 내용의 SHA-256 - 경로, 수정 시각과 관계없이 같은 모델이면 서버마다 같은 버전
+     *  - 모델 경로 아래 모든 파일을 상대 경로 순서대로 읽어서 계산, 앞 16자리 사용
+     *  - 모델을 읽을 수 없으면 시작하지 않음 - dl.sentiment.model-version 을 직접 지정해야 한다
+     */
+    private String version(String bertPath) {
+        Path base = Path.of(bertPath);
+        try (Stream<Path> stream = Files.walk(base)) {
+            List<Path> files = stream.filter(Files::isRegularFile).sorted().toList();
+            if (files.isEmpty()) {
+                throw new IOException("모델 파일 없음");
+            }
+
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            for (Path file : files) {
+                md.update(base.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = Files.newInputStream(file)) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        md.update(buffer, 0, read);
+                    }
+                }
+            }
+
+            String version = HexFormat.of().formatHex(md.digest()).substring(0, 16);
+            log.info("감정 분석 모델 버전 - {} ({}개 파일)", version, files.size());
+
+            return version;
+
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            throw new IllegalStateException("감정 분석 모델 버전을 확인할 수 없습니다. dl.sentiment.model-version 을 설정하세요. - " + bertPath, e);
+        }
+    }
+
+    private record Entry(double score, long expiresAt) {}
+}
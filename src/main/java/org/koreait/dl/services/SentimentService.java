@@ -1,6 +1,8 @@
 package org.koreait.dl.services;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
@@ -8,7 +10,9 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Lazy
 @Service
@@ -27,20 +31,73 @@ public class SentimentService {
     @Autowired
     private ObjectMapper om;
 
+    @Autowired
+    private SentimentCache cache;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    /**
+     * 감정 분석
+     *  - 캐시에 없는 내용만 중복을 제거해 한번에 분석
+     *
+     * @param items
+     * @return 내용 순서대로 점수, 분석 실패시 null
+     */
     public double[] predict(List<String> items) {
+        Map<String, Double> scores = new HashMap<>(cache.getAll(items));
+
+        List<String> targets = items.stream().filter(item -> !scores.containsKey(item)).distinct().toList();
+        if (!targets.isEmpty()) {
+            double[] predictions = run(targets);
+            if (predictions == null || predictions.length != targets.size()) {
+                return null;
+            }
+
+            Map<String, Double> results = new HashMap<>();
+            for (int i = 0; i < targets.size(); i++) {
+                results.put(targets.get(i), predictions[i]);
+            }
+
+            cache.putAll(results);
+            scores.putAll(results);
+        }
+
+        return items.stream().mapToDouble(scores::get).toArray();
+    }
+
+    /**
+     * 분석 프로세스 실행 - 캐시에 없는 내용이 있을 때만 실행, 실행 시간은 python.process{script=sentiment}
+     *
+     * @param items
+     * @return
+     */
+    private double[] run(List<String> items) {
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
         try {
-            String data = String.join("__", items);
+            // 내용 구분자(__)가 내용에 포함되면 항목 수가 달라지므로 분리
+            String data = String.join("__", items.stream().map(item -> item.replace("__", "_ _")).toList());
 
             ProcessBuilder builder = new ProcessBuilder(runPath, scriptPath + "naver.py", bertPath, data);
             Process process = builder.start();
             InputStream in = process.getInputStream();
 
+            byte[] bytes = in.readAllBytes(); // 출력을 먼저 읽어야 출력 버퍼가 가득 차도 멈추지 않음
             process.waitFor();
 
-            return om.readValue(in.readAllBytes(), double[].class);
+            return om.readValue(bytes, double[].class);
 
         } catch (Exception e) {
+            exception = e.getClass().getSimpleName();
             e.printStackTrace();
+        } finally {
+            // 예측(PredictService, @Timed)과 같은 이름이므로 태그 구성도 같게 유지
+            sample.stop(Timer.builder("python.process")
+                    .description("파이썬 감정 분석 프로세스")
+                    .tags("script", "sentiment", "class", SentimentService.class.getName(), "method", "run", "exception", exception)
+                    .publishPercentileHistogram()
+                    .register(registry));
         }
 
         return null;
@@ -0,0 +1,100 @@
+package org.koreait.dl.services;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import org.koreait.dl.constants.TrainStatus;
+import org.koreait.dl.libs.LogRingBuffer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 훈련 작업 상태
+ *  - 실행 스레드에서 변경하고 요청 스레드에서 조회하므로 상태 값은 volatile
+ */
+@Getter
+public class TrainJob {
+
+    private final String jobId;
+
+    @JsonIgnore
+    private final Path modelDir; // 이 작업의 모델 저장 경로(버전 경로)
+
+    @JsonIgnore
+    private final LogRingBuffer logs;
+
+    private volatile TrainStatus status = TrainStatus.QUEUED;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime endedAt;
+    private volatile Integer exitCode;
+    private volatile String message;
+
+    @JsonIgnore
+    private volatile boolean cancelRequested;
+
+    @JsonIgnore
+    private volatile Process process;
+
+    @JsonIgnore
+    private final CompletableFuture<TrainJob> done = new CompletableFuture<>();
+
+    TrainJob(String jobId, Path modelDir, int logLines) {
+        this.jobId = jobId;
+        this.modelDir = modelDir;
+        this.logs = new LogRingBuffer(logLines);
+    }
+
+    public boolean isFinished() {
+        return done.isDone();
+    }
+
+    // 실행 시간(ms), 실행 중이면 현재까지
+    public Long getElapsed() {
+        if (startedAt == null) return null;
+
+        return Duration.between(startedAt, endedAt == null ? LocalDateTime.now() : endedAt).toMillis();
+    }
+
+    public String getModelVersion() {
+        return modelDir.getFileName().toString();
+    }
+
+    /**
+     * 작업 종료까지 대기
+     *
+     * @return
+     */
+    public TrainJob await() {
+        return done.join();
+    }
+
+    void start(Process process) {
+        this.process = process;
+        this.startedAt = LocalDateTime.now();
+        this.status = TrainStatus.RUNNING;
+    }
+
+    /**
+     * 취소 요청 - 실행 중이면 프로세스 종료 요청, 대기 중이면 실행하지 않음
+     */
+    void cancel() {
+        cancelRequested = true;
+        Process process = this.process;
+        if (process != null) {
+            process.destroy();
+        }
+    }
+
+    void finish(TrainStatus status, Integer exitCode, String message) {
+        if (startedAt == null) startedAt = LocalDateTime.now();
+        this.endedAt = LocalDateTime.now();
+        this.exitCode = exitCode;
+        this.message = message;
+        this.status = status;
+        this.process = null;
+        done.complete(this);
+    }
+}
@@ -0,0 +1,276 @@
+package org.koreait.dl.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.dl.constants.TrainStatus;
+import org.koreait.dl.exceptions.TrainJobConflictException;
+import org.koreait.dl.exceptions.TrainJobNotFoundException;
+import org.koreait.dl.libs.LogRingBuffer;
+import org.koreait.global.configs.TrainProperties;
+import org.koreait.global.scheduling.JobLockService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모델 훈련 작업 관리
+ *  - 요청 스레드와 분리된 전용 스레드에서 한번에 하나씩 실행, 실행 중에 다시 요청하면 실행 중인 작업을 반환
+ *  - 여러 서버 중 한 곳에서만 훈련 - 클러스터 잠금(dl-train-job)을 작업이 끝날 때까지 유지, 다른 서버에서 실행 중이면 409
+ *  - 표준 출력과 오류를 합쳐 별도 스레드에서 계속 읽어 최근 출력만 보관(출력 버퍼가 가득 차 프로세스가 멈추는 문제 방지)
+ *  - 제한 시간(dl.train.timeout-seconds) 초과 또는 취소시 종료 요청, 유예 시간 후에도 살아 있으면 강제 종료
+ *  - 종료 코드 0 인 경우만 새 모델 적용, 실행 시간은 dl.train{status} 로 기록
+ */
+@Slf4j
+@Lazy
+@Service
+@Profile("dl")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(TrainProperties.class)
+public class TrainJobManager {
+
+    public static final String LOCK_NAME = "dl-train-job";
+
+    private final TrainProperties properties;
+    private final JobLockService lockService;
+    private final ModelVersionService versionService;
+    private final MeterRegistry registry;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "dl-train");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 최근 작업 - 보관 수를 넘으면 오래된 작업부터 제거
+    private final Map<String, TrainJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TrainJob> eldest) {
+            return size() > Math.max(properties.getHistory(), 1) && eldest.getValue().isFinished();
+        }
+    });
+
+    private volatile TrainJob current;
+
+    /**
+     * 훈련 작업 등록
+     *
+     * @param command : 실행 명령, 모델 버전 경로에서 실행되며 환경변수 MODEL_DIR 로도 전달
+     * @return 등록한 작업 또는 이미 실행 중인 작업
+     * @throws TrainJobConflictException 다른 서버에서 훈련 중인 경우
+     */
+    public synchronized TrainJob submit(List<String> command) {
+        if (current != null && !current.isFinished()) {
+            return current;
+        }
+
+        if (!lockService.tryLock(LOCK_NAME, getLease())) {
+            throw new TrainJobConflictException();
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        TrainJob job;
+        try {
+            job = new TrainJob(jobId, versionService.create(jobId), properties.getLogLines());
+        } catch (RuntimeException e) {
+            lockService.unlock(LOCK_NAME);
+            throw e;
+        }
+
+        jobs.put(jobId, job);
+        current = job;
+
+        executor.execute(() -> run(job, command));
+
+        return job;
+    }
+
+    public TrainJob get(String jobId) {
+        TrainJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new TrainJobNotFoundException();
+        }
+
+        return job;
+    }
+
+    public TrainJobStatus getStatus(String jobId, long from) {
+        return TrainJobStatus.of(get(jobId), versionService.getCurrentVersion(), from);
+    }
+
+    /**
+     * 작업 취소 - 이미 종료된 작업은 변화 없음
+     *
+     * @param jobId
+     * @return
+     */
+    public TrainJob cancel(String jobId) {
+        TrainJob job = get(jobId);
+        if (!job.isFinished()) {
+            job.cancel();
+        }
+
+        return job;
+    }
+
+    private void run(TrainJob job, List<String> command) {
+        if (job.isCancelRequested()) {
+            finish(job, TrainStatus.CANCELLED, null, "실행 전 취소");
+            return;
+        }
+
+        LogRingBuffer logs = job.getLogs();
+        Process process = null;
+        try {
+            ProcessBuilder builder = new ProcessBuilder(command)
+                    .directory(job.getModelDir().toFile())
+                    .redirectErrorStream(true);
+            builder.environment().put("MODEL_DIR", job.getModelDir().toString());
+
+            process = builder.start();
+            job.start(process);
+            log.info("모델 훈련 시작 - {}, pid={}", job.getJobId(), process.pid());
+
+            Thread drainer = drain(process, logs, job.getJobId());
+
+            // 1초 간격으로 취소 요청, 제한 시간 확인, 임대 시간의 1/3 마다 잠금 연장
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(properties.getTimeoutSeconds());
+            long renewPeriod = Math.max(getLease().toNanos() / 3L, TimeUnit.SECONDS.toNanos(1L));
+            long renewAt = System.nanoTime() + renewPeriod;
+            while (!process.waitFor(1L, TimeUnit.SECONDS)) {
+                if (System.nanoTime() - renewAt >= 0L) {
+                    renewAt += renewPeriod;
+                    renew(job);
+                }
+
+                if (job.isCancelRequested()) {
+                    stop(process);
+                    break;
+                }
+
+                if (System.nanoTime() - deadline >= 0L) {
+                    stop(process);
+                    drainer.join(TimeUnit.SECONDS.toMillis(properties.getStopGraceSeconds()));
+                    finish(job, TrainStatus.TIMEOUT, null, String.format("제한 시간(%d초) 초과", properties.getTimeoutSeconds()));
+                    return;
+                }
+            }
+
+            drainer.join(TimeUnit.SECONDS.toMillis(properties.getStopGraceSeconds())); // 남은 출력
+            int exitCode = process.waitFor();
+            if (job.isCancelRequested()) {
+                finish(job, TrainStatus.CANCELLED, exitCode, "취소");
+            } else if (exitCode == 0) {
+                versionService.activate(job.getModelDir());
+                finish(job, TrainStatus.SUCCESS, exitCode, null);
+            } else {
+                finish(job, TrainStatus.FAIL, exitCode, "종료 코드 " + exitCode);
+            }
+
+        } catch (InterruptedException e) { // 서버 종료
+            stop(process);
+            Thread.currentThread().interrupt();
+            finish(job, TrainStatus.CANCELLED, null, "서버 종료");
+        } catch (Exception e) {
+            if (process != null) stop(process);
+            logs.add(e.toString());
+            finish(job, TrainStatus.FAIL, null, e.getMessage());
+        }
+    }
+
+    /**
+     * 출력 읽기 - 프로세스가 끝나면(스트림 종료) 함께 종료
+     */
+    private Thread drain(Process process, LogRingBuffer logs, String jobId) {
+        Thread thread = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    logs.add(line);
+                }
+            } catch (IOException e) {
+                log.debug("훈련 출력 읽기 종료 - {}", jobId, e);
+            }
+        }, "dl-train-log");
+        thread.setDaemon(true);
+        thread.start();
+
+        return thread;
+    }
+
+    /**
+     * 종료 요청 후 유예 시간 동안 종료되지 않으면 강제 종료
+     */
+    private void stop(Process process) {
+        if (process == null || !process.isAlive()) return;
+
+        process.destroy();
+        try {
+            if (!process.waitFor(properties.getStopGraceSeconds(), TimeUnit.SECONDS)) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void finish(TrainJob job, TrainStatus status, Integer exitCode, String message) {
+        if (status != TrainStatus.SUCCESS) {
+            versionService.discard(job.getModelDir());
+        }
+
+        lockService.unlock(LOCK_NAME); // 종료 상태로 바꾸기 전에 해제 - 종료 확인 직후 재요청해도 잠금을 얻을 수 있도록
+        job.finish(status, exitCode, message);
+
+        Timer.builder("dl.train")
+                .description("모델 훈련 작업 실행 시간")
+                .tag("status", status.name())
+                .register(registry)
+                .record(Duration.ofMillis(job.getElapsed()));
+
+        log.info("모델 훈련 종료 - {} : {}, {}ms{}", job.getJobId(), status, job.getElapsed(), message == null ? "" : ", " + message);
+    }
+
+    private void renew(TrainJob job) {
+        try {
+            if (!lockService.renew(LOCK_NAME, getLease())) {
+                log.warn("모델 훈련 잠금 유실 - {} : 임대 시간이 지나 다른 서버가 가져감", job.getJobId());
+            }
+        } catch (Exception e) { // 연장 실패로 훈련을 중단하지 않음
+            log.warn("모델 훈련 잠금 연장 실패 - {}", job.getJobId(), e);
+        }
+    }
+
+    private Duration getLease() {
+        return Duration.ofSeconds(Math.max(properties.getLockSeconds(), 3L));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        TrainJob job = current;
+        if (job != null && !job.isFinished()) {
+            job.cancel();
+        }
+
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,37 @@
+package org.koreait.dl.services;
+
+import org.koreait.dl.constants.TrainStatus;
+import org.koreait.dl.libs.LogRingBuffer.LogLine;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 훈련 작업 상태 조회 응답
+ *  - logs : 요청한 번호(from) 이후 출력, 다음 조회는 next 부터
+ *  - dropped : 버퍼 크기를 넘어 볼 수 없는 앞부분 줄 수
+ */
+public record TrainJobStatus(
+        String jobId,
+        TrainStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        Long elapsed,
+        Integer exitCode,
+        String message,
+        String modelVersion,
+        boolean current,
+        List<LogLine> logs,
+        long next,
+        long dropped
+) {
+    public static TrainJobStatus of(TrainJob job, String currentVersion, long from) {
+        List<LogLine> logs = job.getLogs().since(from);
+        long next = logs.isEmpty() ? Math.max(from, 0L) : logs.get(logs.size() - 1).seq() + 1L; // 조회 중 추가된 줄은 다음 조회에서
+
+        return new TrainJobStatus(job.getJobId(), job.getStatus(), job.getCreatedAt(), job.getStartedAt(),
+                job.getEndedAt(), job.getElapsed(), job.getExitCode(), job.getMessage(), job.getModelVersion(),
+                job.getModelVersion().equals(currentVersion), logs, next, job.getLogs().getDropped());
+    }
+}
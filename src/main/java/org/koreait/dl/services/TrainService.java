@@ -1,9 +1,13 @@
 package org.koreait.dl.services;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.dl.constants.TrainStatus;
 import org.koreait.dl.entities.QTrainItem;
 import org.koreait.dl.entities.TrainItem;
+import org.koreait.dl.exceptions.TrainJobConflictException;
 import org.koreait.dl.repositories.TrainItemRepository;
+import org.koreait.global.annotations.SchedulerLock;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Profile;
@@ -18,6 +22,7 @@ import java.util.List;
 
 import static org.springframework.data.domain.Sort.Order.asc;
 
+@Slf4j
 @Lazy
 @Service
 @Profile("dl")
@@ -25,6 +30,7 @@ import static org.springframework.data.domain.Sort.Order.asc;
 public class TrainService {
 
     private final TrainItemRepository repository;
+    private final TrainJobManager jobManager;
 
     @Value("${python.run.path}")
     private String runPath;
@@ -36,14 +42,29 @@ public class TrainService {
     private String dataUrl;
 
     @Scheduled(cron="0 0 1 * * *") // 새벽 1시 마다 훈련
+    @SchedulerLock(name="dl-train", leaseSeconds = 600L) // 여러 서버 중 한 곳에서만 예약 실행, 실행 이력 기록
     public void process() {
+        TrainJob job;
         try {
-            ProcessBuilder builder = new ProcessBuilder(runPath, scriptPath + "train.py", dataUrl + "?mode=ALL", dataUrl);
-            Process process = builder.start();
-            int exitCode = process.waitFor();
-            System.out.println(exitCode);
+            job = start().await();
+        } catch (TrainJobConflictException e) { // 관리자가 요청한 훈련이 다른 서버에서 진행 중
+            log.info("예약 훈련 건너뜀 - {}", e.getMessage());
+            return;
+        }
+
+        if (job.getStatus() != TrainStatus.SUCCESS) {
+            throw new IllegalStateException(String.format("모델 훈련 실패 - %s : %s", job.getStatus(), job.getMessage())); // 실행 이력에 실패로 기록
+        }
+    }
 
-        } catch (Exception e) {}
+    /**
+     * 훈련 시작 - 종료를 기다리지 않음, 진행 상태는 작업 번호로 조회
+     *  - 예약 실행, 관리자 요청(POST /api/dl/train) 모두 클러스터 잠금을 얻은 경우만 실행(TrainJobManager)
+     *
+     * @return
+     */
+    public TrainJob start() {
+        return jobManager.submit(List.of(runPath, scriptPath + "train.py", dataUrl + "?mode=ALL", dataUrl));
     }
 
     public void log(TrainItem item) {
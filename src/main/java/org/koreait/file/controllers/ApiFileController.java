@@ -5,23 +5,29 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.koreait.file.constants.FileStatus;
+import org.koreait.file.entities.ChunkUpload;
 import org.koreait.file.entities.FileInfo;
 import org.koreait.file.services.*;
+import org.koreait.file.storage.FileStorage;
 import org.koreait.global.exceptions.BadRequestException;
 import org.koreait.global.libs.Utils;
 import org.koreait.global.rests.JSONData;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
-import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.List;
 
 @Tag(name="파일 API", description = "파일 업로드, 조회, 다운로드, 삭제 기능 제공합니다.")
@@ -46,6 +52,10 @@ public class ApiFileController {
 
     private final FileImageService imageService;
 
+    private final FileChunkUploadService chunkUploadService;
+
+    private final FileStorage storage;
+
     /**
      * 파일 업로드
      *
@@ -87,6 +97,105 @@ public class ApiFileController {
         return data;
     }
 
+    /**
+     * 분할 업로드 시작
+     *  - 업로드 ID 발급, 이후 PATCH 로 이어서 전송
+     */
+    @Operation(summary = "분할 업로드 시작")
+    @ApiResponse(responseCode = "201", description = "업로드 ID(id)와 현재 위치(offset=0)를 반환한다.")
+    @Parameters({
+            @Parameter(name="gid", description = "파일 그룹 ID", required = true),
+            @Parameter(name="location", description = "파일 그룹 내에서 위치 코드"),
+            @Parameter(name="fileName", description = "원 파일명", required = true),
+            @Parameter(name="length", description = "전체 파일 크기", required = true),
+            @Parameter(name="checksum", description = "SHA-256(16진수), 완료시 검증")
+    })
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping("/upload/chunk")
+    public JSONData createChunk(@Valid RequestChunkUpload form, Errors errors) {
+        if (errors.hasErrors()) {
+            throw new BadRequestException(utils.getErrorMessages(errors));
+        }
+
+        JSONData data = new JSONData(chunkUploadService.create(form));
+        data.setStatus(HttpStatus.CREATED);
+
+        return data;
+    }
+
+    /**
+     * 분할 업로드 현재 위치 조회
+     *  - 전송이 끊긴 경우 Upload-Offset 부터 다시 전송
+     */
+    @Operation(summary = "분할 업로드 현재 위치 조회")
+    @RequestMapping(path="/upload/chunk/{id}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> chunkOffset(@PathVariable("id") String id) {
+        ChunkUpload upload = chunkUploadService.get(id);
+
+        return ResponseEntity.ok()
+                .header("Upload-Offset", String.valueOf(upload.getOffset()))
+                .header("Upload-Length", String.valueOf(upload.getLength()))
+                .header("Cache-Control", "no-store")
+                .build();
+    }
+
+    /**
+     * 분할 업로드 이어서 전송
+     *  - 요청 본문은 파일 데이터(application/offset+octet-stream)
+     *  - Upload-Offset 이 서버 위치와 다르면 409
+     */
+    @Operation(summary = "분할 업로드 이어서 전송")
+    @ApiResponse(responseCode = "204", description = "기록 후 위치를 Upload-Offset 헤더로 반환한다.")
+    @PatchMapping("/upload/chunk/{id}")
+    public ResponseEntity<Void> appendChunk(@PathVariable("id") String id,
+                                            @RequestHeader("Upload-Offset") long offset,
+                                            HttpServletRequest request) throws IOException {
+
+        long position = chunkUploadService.append(id, offset, request.getInputStream());
+
+        return ResponseEntity.noContent()
+                .header("Upload-Offset", String.valueOf(position))
+                .build();
+    }
+
+    /**
+     * 분할 업로드 완료
+     *  - 여러 파일을 한번에 완료 처리, 업로드 완료된 파일 목록 반환
+     */
+    @Operation(summary = "분할 업로드 완료")
+    @ApiResponse(responseCode = "201", description = "크기, 체크섬 검증 후 업로드 완료된 파일 목록을 반환한다.")
+    @Parameters({
+            @Parameter(name="id", description = "업로드 ID, 복수개 전송 가능", required = true),
+            @Parameter(name="done", description = "업로드 하자마자 완료 처리")
+    })
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping("/upload/chunk/complete")
+    public JSONData completeChunk(@RequestParam("id") List<String> ids,
+                                  @RequestParam(name="done", defaultValue = "false") boolean done) {
+
+        List<FileInfo> uploadedFiles = chunkUploadService.complete(ids);
+
+        // 업로드 완료 하자마자 완료 처리
+        if (done) {
+            uploadedFiles.stream()
+                    .map(item -> Arrays.asList(item.getGid(), item.getLocation()))
+                    .distinct()
+                    .forEach(key -> doneService.process(key.get(0), key.get(1)));
+        }
+
+        JSONData data = new JSONData(uploadedFiles);
+        data.setStatus(HttpStatus.CREATED);
+
+        return data;
+    }
+
+    // 분할 업로드 취소
+    @DeleteMapping("/upload/chunk/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void cancelChunk(@PathVariable("id") String id) {
+        chunkUploadService.cancel(id);
+    }
+
     // 파일 다운로드
     @GetMapping("/download/{seq}")
     public void download(@PathVariable("seq") Long seq) {
@@ -135,20 +244,18 @@ public class ApiFileController {
 
     @GetMapping("/thumb")
     public void thumb(RequestThumb form, HttpServletResponse response) {
-        String path = thumbnailService.create(form);
-        if (!StringUtils.hasText(path)) {
+        String key = thumbnailService.create(form);
+        if (!StringUtils.hasText(key)) {
             return;
         }
 
-        File file = new File(path);
-        try (FileInputStream fis = new FileInputStream(file);
-             BufferedInputStream bis = new BufferedInputStream(fis)) {
-
-            String contentType = Files.probeContentType(file.toPath());
+        // 저장소에서 바로 응답으로 전송
+        try (InputStream in = storage.get(key)) {
+            String contentType = MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
             response.setContentType(contentType);
 
             OutputStream out = response.getOutputStream();
-            out.write(bis.readAllBytes());
+            in.transferTo(out);
 
         } catch (IOException e) {}
     }
@@ -0,0 +1,24 @@
+package org.koreait.file.controllers;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+@Data
+public class RequestChunkUpload {
+    @NotBlank
+    private String gid;
+    private String location;
+
+    @NotBlank
+    private String fileName; // 원 파일명
+
+    private String contentType;
+
+    @PositiveOrZero
+    private long length; // 전체 파일 크기
+
+    private String checksum; // SHA-256(16진수)
+
+    private boolean imageOnly; // 이미지 형식 파일만 허용
+}
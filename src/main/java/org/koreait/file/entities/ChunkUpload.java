@@ -0,0 +1,24 @@
+package org.koreait.file.entities;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분할 업로드 진행 정보
+ *  - 임시 파일({업로드 ID}.part) 옆에 JSON({업로드 ID}.json)으로 보관
+ *  - offset 은 저장하지 않고 임시 파일 크기로 판단한다.
+ */
+@Data
+public class ChunkUpload {
+    private String id; // 업로드 ID
+    private String gid;
+    private String location;
+    private String fileName;
+    private String extension;
+    private String contentType;
+    private long length; // 전체 파일 크기
+    private String checksum; // SHA-256(16진수), 업로드 완료시 검증
+    private long offset; // 현재까지 받은 크기
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,45 @@
+package org.koreait.file.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.koreait.global.entities.BaseEntity;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 내용 기반(SHA-256) 저장 파일
+ *  - 같은 내용, 같은 확장자의 파일은 한번만 저장하고 참조 수(refCount)로 관리
+ *  - 참조 수가 0이 되면 실제 파일 삭제
+ */
+@Data
+@Entity
+public class FileBlob extends BaseEntity implements Persistable<String> {
+    @Id
+    @Column(length=100)
+    private String blobKey; // SHA-256 + 확장자
+
+    private long refCount; // 참조하는 파일 정보 수
+
+    @Column(name="blob_size")
+    private long size; // 파일 크기 - SIZE 는 Oracle 예약어이므로 컬럼명 변경
+
+    @Transient
+    @JsonIgnore
+    private boolean isNew = true; // 키를 직접 지정하므로 merge 대신 persist 하도록 처리
+
+    @Override
+    public String getId() {
+        return blobKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
@@ -1,8 +1,12 @@
 package org.koreait.file.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.koreait.file.libs.FileLocator;
 import org.koreait.global.entities.BaseMemberEntity;
 import org.springframework.util.StringUtils;
 
@@ -12,7 +16,10 @@ import java.io.Serializable;
 @Entity
 @Table(indexes = {
         @Index(name="idx_gid", columnList = "gid, listOrder, createdAt"),
-        @Index(name="idx_gid_location", columnList = "gid, location, listOrder, createdAt")
+        @Index(name="idx_gid_location", columnList = "gid, location, listOrder, createdAt"),
+        @Index(name="idx_file_hash", columnList = "hash"),
+        @Index(name="idx_file_done_created_at", columnList = "done, createdAt"),
+        @Index(name="idx_file_gid_location_done", columnList = "gid, location, done")
 })
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class FileInfo extends BaseMemberEntity implements Serializable {
@@ -34,6 +41,9 @@ public class FileInfo extends BaseMemberEntity implements Serializable {
     @Column(length=65)
     private String contentType; // 파일 형식  image/png   application/..
 
+    @Column(length=64)
+    private String hash; // 파일 내용 SHA-256, 없으면 기존 경로(seq % 10)
+
     @Transient
     private String fileUrl; // URL로 파일 접근할 수 있는 주소 - 2차 가공
 
@@ -43,11 +53,40 @@ public class FileInfo extends BaseMemberEntity implements Serializable {
     @Transient
     private String thumbUrl; // 썸네일 기본 URL
 
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient FileLocator locator; // 경로, 주소 지연 생성 - FileInfoService.addInfo 에서 지정
+
     private boolean done; // 파일과 연관된 작업이 완료되었는지 여부
 
     private boolean selected; // 노출을 1개 하는 경우 대표 이미지 선택
     private long listOrder; // 정렬 순서, 오름 차순
 
+    public String getFileUrl() {
+        if (fileUrl == null && locator != null) {
+            fileUrl = locator.getUrl(seq, extension, hash);
+        }
+
+        return fileUrl;
+    }
+
+    public String getFilePath() {
+        if (filePath == null && locator != null) {
+            filePath = locator.getPath(seq, extension, hash);
+        }
+
+        return filePath;
+    }
+
+    public String getThumbUrl() {
+        if (thumbUrl == null && locator != null && isImage()) {
+            thumbUrl = locator.getThumbUrl(seq);
+        }
+
+        return thumbUrl;
+    }
+
     // 이미지 형식 여부
     public boolean isImage() {
 
@@ -0,0 +1,14 @@
+package org.koreait.file.exceptions;
+
+import org.koreait.global.exceptions.CommonException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 분할 업로드 위치(offset) 불일치 또는 동시 업로드
+ *  - 응답 코드 409, 클라이언트는 HEAD 로 현재 위치를 다시 조회 후 이어서 전송
+ */
+public class ChunkConflictException extends CommonException {
+    public ChunkConflictException(long offset) {
+        super(String.format("업로드 위치가 일치하지 않습니다. 현재 위치: %d", offset), HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,82 @@
+package org.koreait.file.libs;
+
+import jakarta.servlet.ServletContext;
+import org.koreait.global.configs.FileProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 경로, 주소 생성
+ *  - 업로드 경로, 파일 주소, 썸네일 주소의 앞부분은 시작할 때 한번만 만들어 둔다.
+ *  - DB 조회 없이 (seq, 확장자, 해시)만으로 생성, FileInfo 에서는 처음 사용할 때 생성(지연 생성)
+ */
+@Component
+@EnableConfigurationProperties(FileProperties.class)
+public class FileLocator {
+
+    private static final String BLOB_DIR = "blobs/";
+
+    private final String pathPrefix;
+    private final String urlPrefix;
+    private final String thumbUrlPrefix;
+
+    @Autowired
+    public FileLocator(FileProperties properties, ServletContext servletContext) {
+        this(properties.getPath(), properties.getUrl(), servletContext.getContextPath());
+    }
+
+    public FileLocator(String path, String url, String contextPath) {
+        this.pathPrefix = path;
+        this.urlPrefix = url.startsWith("http") ? url : contextPath + url; // 외부 저장소(버킷, CDN) 주소는 그대로
+        this.thumbUrlPrefix = contextPath + "/api/file/thumb?seq=";
+    }
+
+    /**
+     * 저장소(FileStorage) 경로
+     *  - 내용 기반 저장 파일 : blobs/해시 1~2자리/해시 3~4자리/해시.확장자
+     *  - 기존 파일 : 폴더번호/seq.확장자
+     *
+     * @param seq
+     * @param extension
+     * @param hash
+     * @return
+     */
+    public String getKey(Long seq, String extension, String hash) {
+        if (hash != null && !hash.isEmpty()) {
+            return getBlobKey(hash, extension);
+        }
+
+        extension = extension == null ? "" : extension;
+
+        return getFolder(seq) + "/" + seq + extension;
+    }
+
+    public String getPath(Long seq, String extension, String hash) {
+        return pathPrefix + getKey(seq, extension, hash);
+    }
+
+    public String getUrl(Long seq, String extension, String hash) {
+        return urlPrefix + getKey(seq, extension, hash);
+    }
+
+    public String getThumbUrl(Long seq) {
+        return thumbUrlPrefix + seq;
+    }
+
+    public static String getBlobKey(String hash, String extension) {
+        extension = extension == null ? "" : extension;
+
+        return BLOB_DIR + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + extension;
+    }
+
+    /**
+     * 기존 저장 경로의 폴더 - 내용 기반 저장 이전에 업로드된 파일
+     *
+     * @param seq
+     * @return
+     */
+    public static long getFolder(long seq) {
+        return seq % 10L;
+    }
+}
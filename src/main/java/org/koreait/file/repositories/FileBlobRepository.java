@@ -0,0 +1,40 @@
+package org.koreait.file.repositories;
+
+import org.koreait.file.entities.FileBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    // 참조 수 증가 - 저장된 파일이 없으면 0
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount + 1 WHERE b.blobKey = :key")
+    int increase(@Param("key") String key);
+
+    // 참조 수 감소 - 남은 참조 수보다 많이 해제해도(중복 삭제 등) 0 미만으로 내려가지 않음, 감소한 경우 1
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = CASE WHEN b.refCount > :cnt THEN b.refCount - :cnt ELSE 0 END WHERE b.blobKey = :key AND b.refCount > 0")
+    int decrease(@Param("key") String key, @Param("cnt") long cnt);
+
+    // 참조가 없는 파일 정보 삭제 - 삭제된 경우 1
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.blobKey = :key AND b.refCount <= 0")
+    int deleteUnused(@Param("key") String key);
+
+    // 참조가 없는 파일인지(삭제 대기)
+    @Query("SELECT COUNT(b) > 0 FROM FileBlob b WHERE b.blobKey = :key AND b.refCount <= 0")
+    boolean isUnused(@Param("key") String key);
+
+    // 삭제 대기 파일 키
+    @Query("SELECT b.blobKey FROM FileBlob b WHERE b.refCount <= 0 ORDER BY b.blobKey")
+    List<String> findUnused(Pageable pageable);
+}
@@ -2,8 +2,15 @@ package org.koreait.file.repositories;
 
 import org.koreait.file.entities.FileInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
 public interface FileInfoRepository extends JpaRepository<FileInfo, Long>, QuerydslPredicateExecutor<FileInfo> {
 
+    // 내용 기반 저장소 이전 - 아직 이전하지 않은 파일만 반영, 반영한 경우 1
+    @Modifying
+    @Query("UPDATE FileInfo f SET f.hash = :hash WHERE f.seq = :seq AND f.hash IS NULL")
+    int updateHash(@Param("seq") Long seq, @Param("hash") String hash);
 }
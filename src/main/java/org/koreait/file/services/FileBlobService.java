@@ -0,0 +1,265 @@
+package org.koreait.file.services;
+
+import lombok.RequiredArgsConstructor;
+import org.koreait.file.entities.FileBlob;
+import org.koreait.file.libs.FileLocator;
+import org.koreait.file.repositories.FileBlobRepository;
+import org.koreait.file.storage.FileStorage;
+import org.koreait.global.configs.FileProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 내용 기반 파일 저장소
+ *  - 경로 : blobs/{해시 1~2자리}/{해시 3~4자리}/{SHA-256}{확장자}
+ *  - 임시 파일은 서버 디스크에 기록하고, 해시 계산 후 FileStorage 로 이동
+ *  - 2단계(256 x 256) 분산으로 폴더 하나에 파일이 몰리지 않게 처리
+ *  - 같은 파일은 한번만 저장하고 FileBlob 참조 수로 관리
+ *  - 참조 수가 0이 된 정보는 삭제 대기로 남겨두고, 커밋 후 purge 에서 정보가 그대로인 경우만 실제 파일 삭제
+ */
+@Lazy
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FileProperties.class)
+public class FileBlobService {
+
+    private static final String BLOB_DIR = "blobs/";
+    private static final String TEMP_DIR = "tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int HASH_LENGTH = 64; // SHA-256(16진수) 길이
+
+    private final FileProperties properties;
+    private final FileBlobRepository repository;
+    private final FileStorage storage;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 파일 저장
+     *  - 임시 파일에 기록하면서 SHA-256 계산, 이미 있는 내용이면 참조 수만 증가
+     *
+     * @param in
+     * @param extension
+     * @return SHA-256(16진수)
+     */
+    public String store(InputStream in, String extension) throws IOException {
+        Path tempDir = Path.of(properties.getPath(), BLOB_DIR, TEMP_DIR);
+        Files.createDirectories(tempDir);
+
+        Path temp = tempDir.resolve(UUID.randomUUID().toString());
+        MessageDigest md = digest();
+        try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), md)) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        String hash = HexFormat.of().formatHex(md.digest());
+        put(temp, hash, extension, true);
+
+        return hash;
+    }
+
+    /**
+     * 해시를 알고 있는 파일 저장
+     *
+     * @param source : 저장할 파일
+     * @param hash : SHA-256(16진수)
+     * @param extension
+     * @param move : true - 원본 파일 이동(이미 저장된 내용이면 원본 삭제), false - 원본 유지
+     */
+    public void put(Path source, String hash, String extension, boolean move) throws IOException {
+        String key = getKey(hash, extension);
+        String storageKey = getStorageKey(hash, extension);
+        if (repository.increase(key) > 0) { // 이미 저장된 내용
+            if (!storage.exists(storageKey)) { // 삭제 대기 중 파일 삭제에 실패한 경우 - 다시 저장
+                storage.put(storageKey, source, move);
+            } else if (move) {
+                Files.deleteIfExists(source);
+            }
+
+            return;
+        }
+
+        long size = Files.size(source);
+        storage.put(storageKey, source, move);
+
+        if (!insert(key, size)) { // 동시에 같은 내용이 저장된 경우 - 먼저 등록된 정보의 참조 수 증가
+            repository.increase(key);
+            return;
+        }
+
+        // 호출한 쪽 트랜잭션이 롤백되면 별도 트랜잭션으로 등록한 참조도 해제
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        newTransaction().executeWithoutResult(s -> release(hash, extension));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 파일 정보 등록 - 별도 트랜잭션
+     *  - 키 중복(동시 저장)으로 실패해도 호출한 쪽 트랜잭션은 롤백 대상이 되지 않는다
+     *
+     * @return 등록한 경우 true, 이미 등록된 키인 경우 false
+     */
+    private boolean insert(String key, long size) {
+        try {
+            newTransaction().executeWithoutResult(status -> {
+                FileBlob blob = new FileBlob();
+                blob.setBlobKey(key);
+                blob.setRefCount(1L);
+                blob.setSize(size);
+                repository.saveAndFlush(blob);
+            });
+
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        return template;
+    }
+
+    /**
+     * 참조 해제
+     *  - 참조 수가 0이 되면 커밋 후(트랜잭션이 없으면 바로) FileCleanupWorker 에서 실제 파일 삭제
+     *
+     * @param hash
+     * @param extension
+     */
+    public void release(String hash, String extension) {
+        String key = release(hash, extension, 1L);
+        if (key != null) {
+            eventPublisher.publishEvent(new FileCleanupEvent("release", List.of(), List.of(), List.of(key)));
+        }
+    }
+
+    /**
+     * 참조 해제 - 실제 파일 삭제는 호출한 쪽에서 처리(트랜잭션 커밋 후 purge)
+     *  - 참조 수가 0이 된 정보는 삭제하지 않고 남겨둔다(삭제 대기 표시)
+     *
+     * @param hash
+     * @param extension
+     * @param count : 해제할 참조 수
+     * @return 참조가 없어져 삭제 대기가 된 파일 키(SHA-256 + 확장자), 참조가 남아 있거나 감소하지 않은 경우 null
+     */
+    public String release(String hash, String extension, long count) {
+        String key = getKey(hash, extension);
+        if (repository.decrease(key, count) == 0) { // 정보가 없거나 이미 삭제 대기 - 이미 처리된 해제
+            return null;
+        }
+
+        return repository.isUnused(key) ? key : null;
+    }
+
+    /**
+     * 삭제 대기 파일 삭제
+     *  - 정보가 아직 삭제 대기(참조 수 0)인 경우만 정보와 실제 파일 삭제
+     *  - 정보 삭제 후 커밋 전에 파일을 삭제하므로 그 사이 같은 내용을 저장하는 요청은 행 잠금으로 대기,
+     *    커밋 후에는 정보가 없으므로 새로 저장한다
+     *  - 그 사이 같은 내용이 다시 저장되어 참조 수가 늘었거나, 이미 삭제되어 정보가 없으면 파일 유지
+     *
+     * @param key : 파일 키(SHA-256 + 확장자)
+     * @return 삭제한 파일 크기, 삭제하지 않은 경우 -1
+     */
+    public long purge(String key) {
+        String storageKey = getStorageKey(key.substring(0, HASH_LENGTH), key.substring(HASH_LENGTH));
+
+        Long size = newTransaction().execute(status -> {
+            if (repository.deleteUnused(key) == 0) {
+                return -1L;
+            }
+
+            try {
+                long bytes = storage.exists(storageKey) ? storage.size(storageKey) : 0L;
+                storage.delete(storageKey);
+
+                return bytes;
+            } catch (IOException e) { // 파일 삭제 실패시 정보 삭제도 롤백 - 다음 정리 작업에서 다시 시도
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return Objects.requireNonNullElse(size, -1L);
+    }
+
+    /**
+     * 삭제 대기 파일 키 - 커밋 후 삭제 작업이 유실된 경우(서버 종료) 정리용
+     *
+     * @param limit
+     * @return
+     */
+    public List<String> getUnused(int limit) {
+        return repository.findUnused(PageRequest.of(0, limit));
+    }
+
+    /**
+     * 저장소 경로
+     *
+     * @param hash
+     * @param extension
+     * @return
+     */
+    public String getStorageKey(String hash, String extension) {
+        return FileLocator.getBlobKey(hash, extension);
+    }
+
+    public String hash(Path path) throws IOException {
+        MessageDigest md = digest();
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                md.update(buffer, 0, len);
+            }
+        }
+
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    private String getKey(String hash, String extension) {
+        return hash + Objects.requireNonNullElse(extension, "");
+    }
+
+    private MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
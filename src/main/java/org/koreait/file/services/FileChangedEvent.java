@@ -0,0 +1,11 @@
+package org.koreait.file.services;
+
+/**
+ * 파일 그룹 변경 알림 - 대표 이미지 선택, 파일 삭제
+ *  - 파일 정보를 요약해서 보관하는 쪽(게시글 등)에서 같은 트랜잭션 안에서 갱신
+ *
+ * @param gid
+ * @param location
+ */
+public record FileChangedEvent(String gid, String location) {
+}
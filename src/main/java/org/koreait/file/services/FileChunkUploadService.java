@@ -0,0 +1,340 @@
+package org.koreait.file.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.koreait.file.controllers.RequestChunkUpload;
+import org.koreait.file.entities.ChunkUpload;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.file.exceptions.ChunkConflictException;
+import org.koreait.file.exceptions.FileNotFoundException;
+import org.koreait.file.repositories.FileInfoRepository;
+import org.koreait.global.configs.FileProperties;
+import org.koreait.global.exceptions.BadRequestException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * 분할(이어받기) 업로드
+ *  - 요청 본문을 메모리에 모으지 않고 FileChannel 로 임시 파일에 바로 기록
+ *  - 전송이 끊기면 HEAD 로 받은 위치(offset)를 확인하고 그 위치부터 다시 전송
+ *  - 완료시 SHA-256 검증 후 파일 정보를 한번에 저장하고, 임시 파일을 내용 기반 저장소에 등록(하드 링크)
+ *  - 임시 파일은 커밋 후 삭제 - 커밋이 실패해도 같은 ID로 다시 완료 요청 가능
+ */
+@Lazy
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FileProperties.class)
+public class FileChunkUploadService {
+
+    private static final String CHUNK_DIR = "chunks";
+    private static final long TRANSFER_SIZE = 1024L * 1024L; // 한번에 옮기는 최대 크기
+
+    private final FileProperties properties;
+    private final FileInfoRepository fileInfoRepository;
+    private final FileInfoService infoService;
+    private final FileBlobService blobService;
+    private final ObjectMapper om;
+
+    /**
+     * 업로드 시작
+     *  - 빈 임시 파일과 진행 정보를 생성
+     *
+     * @param form
+     * @return
+     */
+    public ChunkUpload create(RequestChunkUpload form) {
+        String contentType = StringUtils.hasText(form.getContentType()) ? form.getContentType() : "application/octet-stream";
+        // 이미지 형식의 파일만 허용하는 경우
+        if (form.isImageOnly() && !contentType.startsWith("image/")) {
+            throw new BadRequestException("이미지 형식의 파일만 업로드 가능합니다.");
+        }
+
+        if (form.getLength() > properties.getChunkMaxLength()) {
+            throw new BadRequestException(String.format("업로드 가능한 최대 크기(%d바이트)를 초과하였습니다.", properties.getChunkMaxLength()));
+        }
+
+        String fileName = form.getFileName();
+        int pos = fileName.lastIndexOf(".");
+
+        ChunkUpload upload = new ChunkUpload();
+        upload.setId(UUID.randomUUID().toString());
+        upload.setGid(form.getGid());
+        upload.setLocation(form.getLocation());
+        upload.setFileName(fileName);
+        upload.setExtension(pos == -1 ? "" : fileName.substring(pos));
+        upload.setContentType(contentType);
+        upload.setLength(form.getLength());
+        upload.setChecksum(StringUtils.hasText(form.getChecksum()) ? form.getChecksum().toLowerCase() : null);
+        upload.setCreatedAt(LocalDateTime.now());
+
+        try {
+            Files.createDirectories(chunkDir());
+            Files.createFile(partPath(upload.getId()));
+            om.writeValue(infoPath(upload.getId()).toFile(), upload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return upload;
+    }
+
+    /**
+     * 업로드 진행 정보 조회
+     *  - offset 은 임시 파일 크기
+     *
+     * @param id
+     * @return
+     */
+    public ChunkUpload get(String id) {
+        Path info = infoPath(id);
+        Path part = partPath(id);
+        if (!Files.exists(info) || !Files.exists(part)) {
+            throw new FileNotFoundException();
+        }
+
+        try {
+            ChunkUpload upload = om.readValue(info.toFile(), ChunkUpload.class);
+            upload.setOffset(Files.size(part));
+
+            return upload;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 이어서 기록
+     *  - 요청한 offset 이 현재 크기와 다르거나 다른 요청이 기록 중이면 409
+     *  - 전체 크기를 넘는 본문은 기록하지 않는다.
+     *
+     * @param id
+     * @param offset : 클라이언트가 알고 있는 현재 위치
+     * @param in : 요청 본문
+     * @return 기록 후 위치
+     */
+    public long append(String id, long offset, InputStream in) {
+        ChunkUpload upload = get(id);
+        long length = upload.getLength();
+
+        try (FileChannel channel = FileChannel.open(partPath(id), WRITE)) {
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) { // 같은 서버의 다른 요청이 기록 중
+                lock = null;
+            }
+
+            if (lock == null) { // 같은 업로드를 다른 요청이 기록 중
+                throw new ChunkConflictException(channel.size());
+            }
+
+            try {
+                long position = channel.size();
+                if (position != offset) {
+                    throw new ChunkConflictException(position);
+                }
+
+                ReadableByteChannel src = Channels.newChannel(in);
+                while (position < length) {
+                    long count = channel.transferFrom(src, position, Math.min(TRANSFER_SIZE, length - position));
+                    if (count <= 0) break; // 본문 끝
+
+                    position += count;
+                }
+
+                if (position == length && src.read(ByteBuffer.allocate(1)) > 0) {
+                    throw new BadRequestException("업로드 파일 크기를 초과하였습니다.");
+                }
+
+                channel.force(false);
+
+                return position;
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) { // 전송 중 끊긴 경우 - 기록된 위치까지는 유지, 다음 요청에서 이어서 전송
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 업로드 완료
+     *  - 크기, 체크섬 검증 후 파일 정보를 한번에 저장(seq 발급)
+     *  - 같은 ID가 여러번 있어도 한번만 처리
+     *  - 임시 파일은 유지한 채 저장소에 등록(같은 파일 시스템이면 하드 링크), 커밋 후 임시 파일 삭제
+     *
+     * @param ids
+     * @return
+     */
+    @Transactional
+    public List<FileInfo> complete(List<String> ids) {
+        List<ChunkUpload> uploads = new ArrayList<>();
+        List<FileInfo> items = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            ChunkUpload upload = get(id);
+            if (upload.getOffset() != upload.getLength()) {
+                throw new BadRequestException(String.format("업로드가 완료되지 않은 파일입니다. (%s)", upload.getFileName()));
+            }
+
+            String hash = hash(partPath(id));
+            if (upload.getChecksum() != null && !upload.getChecksum().equals(hash)) {
+                throw new BadRequestException(String.format("파일이 손상되었습니다. 다시 업로드 하세요. (%s)", upload.getFileName()));
+            }
+
+            FileInfo item = new FileInfo();
+            item.setGid(upload.getGid());
+            item.setLocation(upload.getLocation());
+            item.setFileName(upload.getFileName());
+            item.setExtension(upload.getExtension());
+            item.setContentType(upload.getContentType());
+            item.setHash(hash);
+
+            uploads.add(upload);
+            items.add(item);
+        }
+
+        fileInfoRepository.saveAllAndFlush(items);
+
+        for (int i = 0; i < items.size(); i++) {
+            FileInfo item = items.get(i);
+            String id = uploads.get(i).getId();
+
+            try {
+                // 내용 기반 저장소에 등록, 롤백되면 등록한 참조도 해제되고 임시 파일은 남아 있으므로 다시 완료 요청 가능
+                blobService.put(partPath(id), item.getHash(), item.getExtension(), false);
+            } catch (IOException e) { // 예외 발생시 파일 정보 저장은 롤백
+                throw new UncheckedIOException(e);
+            }
+
+            infoService.addInfo(item);
+        }
+
+        List<String> completed = uploads.stream().map(ChunkUpload::getId).toList();
+        afterCommit(() -> completed.forEach(this::cancel));
+
+        return items;
+    }
+
+    /**
+     * 업로드 취소
+     *
+     * @param id
+     */
+    public void cancel(String id) {
+        try {
+            Files.deleteIfExists(partPath(id));
+            Files.deleteIfExists(infoPath(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 중단된 업로드 정리
+     *  - 마지막 기록 이후 chunkExpireHours 가 지난 임시 파일, 진행 정보 삭제
+     *  - 임시 파일은 서버별 경로에 있을 수 있으므로 서버마다 실행
+     *
+     * @return 삭제한 업로드 수
+     */
+    public long purgeExpired() {
+        Path dir = chunkDir();
+        if (!Files.isDirectory(dir)) return 0L;
+
+        long before = System.currentTimeMillis() - properties.getChunkExpireHours() * 3600_000L;
+        Set<String> ids = new HashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.{part,json}")) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                String id = name.substring(0, name.lastIndexOf("."));
+                try {
+                    // 진행 정보만 남은 경우도 포함, 임시 파일이 있으면 임시 파일의 마지막 기록 시각 기준
+                    Path part = partPath(id);
+                    Path target = Files.exists(part) ? part : path;
+                    if (Files.getLastModifiedTime(target).toMillis() < before) {
+                        ids.add(id);
+                    }
+                } catch (FileNotFoundException | NoSuchFileException e) { // UUID 형식이 아닌 파일, 이미 삭제된 파일
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ids.forEach(this::cancel);
+
+        return ids.size();
+    }
+
+    /**
+     * 트랜잭션 커밋 후 처리 - 롤백되지 않는 임시 파일 삭제
+     *
+     * @param task
+     */
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private String hash(Path path) {
+        try {
+            return blobService.hash(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path chunkDir() {
+        return Path.of(properties.getPath(), CHUNK_DIR);
+    }
+
+    private Path partPath(String id) {
+        return chunkDir().resolve(uploadId(id) + ".part");
+    }
+
+    private Path infoPath(String id) {
+        return chunkDir().resolve(uploadId(id) + ".json");
+    }
+
+    /**
+     * 업로드 ID 검증 - UUID 형식만 허용(경로 조작 방지)
+     *
+     * @param id
+     * @return
+     */
+    private String uploadId(String id) {
+        try {
+            return UUID.fromString(id).toString();
+        } catch (IllegalArgumentException e) {
+            throw new FileNotFoundException();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.koreait.file.services;
+
+import java.util.List;
+
+/**
+ * 저장소 파일 삭제 요청 - DB 삭제가 커밋된 후 FileCleanupWorker 에서 처리
+ *
+ * @param source : 삭제 사유(delete - 사용자 삭제, orphan - 미완료 파일 정리, release - 참조 해제)
+ * @param keys : 삭제할 저장소 경로
+ * @param prefixes : 경로가 prefix 로 시작하는 파일 모두 삭제(썸네일)
+ * @param blobs : 참조가 없어진 내용 기반 저장 파일 키(SHA-256 + 확장자) - 삭제 직전에 다시 저장되지 않았는지 DB 에서 확인
+ */
+public record FileCleanupEvent(String source, List<String> keys, List<String> prefixes, List<String> blobs) {
+}
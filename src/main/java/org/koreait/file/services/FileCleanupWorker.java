@@ -0,0 +1,72 @@
+package org.koreait.file.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.file.storage.FileStorage;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+
+/**
+ * 저장소 파일 삭제 작업
+ *  - DB 트랜잭션이 커밋된 경우에만 실행(롤백시 파일 유지)
+ *  - 내용 기반 저장 파일은 삭제 직전에 DB 에서 삭제 대기 상태인지 다시 확인 - 그 사이 같은 내용이 다시 저장되면 유지
+ *  - fileCleanupExecutor 큐에서 순서대로 처리, 요청 스레드는 파일 삭제를 기다리지 않음
+ *  - 회수한 용량은 file.cleanup.bytes, 삭제 파일 수는 file.cleanup.files 로 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileCleanupWorker {
+
+    private final FileStorage storage;
+    private final FileBlobService blobService;
+    private final MeterRegistry registry;
+
+    @Async("fileCleanupExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void process(FileCleanupEvent event) {
+        long bytes = 0L;
+        long files = 0L;
+        for (String key : event.keys()) {
+            try {
+                long size = storage.size(key);
+                storage.delete(key);
+
+                bytes += size;
+                files++;
+            } catch (NoSuchFileException e) { // 이미 삭제된 파일
+            } catch (IOException e) {
+                log.warn("파일 삭제 실패 - {}", key, e);
+            }
+        }
+
+        for (String key : event.blobs()) { // 삭제 대기 상태가 유지된 경우만 삭제
+            try {
+                long size = blobService.purge(key);
+                if (size >= 0L) {
+                    bytes += size;
+                    files++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("파일 삭제 실패 - {}", key, e);
+            }
+        }
+
+        for (String prefix : event.prefixes()) {
+            try {
+                bytes += storage.deleteByPrefix(prefix);
+            } catch (IOException e) {
+                log.warn("파일 삭제 실패 - {}*", prefix, e);
+            }
+        }
+
+        registry.counter("file.cleanup.bytes", "source", event.source()).increment(bytes);
+        registry.counter("file.cleanup.files", "source", event.source()).increment(files);
+    }
+}
@@ -6,53 +6,116 @@ import org.koreait.file.entities.FileInfo;
 import org.koreait.file.repositories.FileInfoRepository;
 import org.koreait.global.exceptions.UnAuthorizedException;
 import org.koreait.member.libs.MemberUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
+/**
+ * 파일 삭제
+ *  - DB 정보는 한번에 삭제하고, 저장소 파일은 커밋 후 FileCleanupWorker 에서 삭제
+ */
 @Lazy
 @Service
 @RequiredArgsConstructor
 public class FileDeleteService {
     private final FileInfoService infoService;
     private final FileInfoRepository infoRepository;
+    private final FileBlobService blobService;
+    private final ThumbnailService thumbnailService;
+    private final ApplicationEventPublisher eventPublisher;
     private final MemberUtil memberUtil;
 
+    @Transactional
     public FileInfo delete(Long seq) {
         FileInfo item = infoService.get(seq);
-        String filePath = item.getFilePath();
-        // 0. 파일 소유자만 삭제 가능하게 통제 - 다만 관리자는 가능
-        String createdBy = item.getCreatedBy();
-        if (!memberUtil.isAdmin() && StringUtils.hasText(createdBy)
-                && (!memberUtil.isLogin() || !memberUtil.getMember().getEmail().equals(createdBy))) {
-            throw new UnAuthorizedException();
-        }
 
-        // 1. DB에서 정보를 제거
-        infoRepository.delete(item);
-        infoRepository.flush();
-
-        // 2. 파일이 서버에 존재하면 파일도 삭제
-        File file = new File(filePath);
-        if (file.exists() && file.isFile()) {
-            file.delete();
-        }
+        process(List.of(item), "delete", true);
 
-        // 3. 삭제된 파일 정보를 반환
+        // 삭제된 파일 정보를 반환
         return item;
     }
 
+    @Transactional
     public List<FileInfo> deletes(String gid, String location) {
         List<FileInfo> items = infoService.getList(gid, location, FileStatus.ALL);
-        items.forEach(i -> delete(i.getSeq()));
+
+        process(items, "delete", true);
 
         return items;
     }
 
+    @Transactional
     public List<FileInfo> deletes(String gid) {
         return deletes(gid, null);
     }
+
+    /**
+     * 미완료 파일 정리 - 소유자 확인 없이 삭제
+     *
+     * @param items
+     */
+    @Transactional
+    public void purge(List<FileInfo> items) {
+        process(items, "orphan", false);
+    }
+
+    private void process(List<FileInfo> items, String source, boolean checkOwner) {
+        if (items.isEmpty()) return;
+
+        // 0. 파일 소유자만 삭제 가능하게 통제 - 다만 관리자는 가능
+        if (checkOwner) {
+            items.forEach(this::checkOwner);
+        }
+
+        // 1. DB에서 정보를 제거 - 한번에 삭제
+        infoRepository.deleteAllInBatch(items);
+
+        // 2. 저장소에서 삭제할 파일
+        List<String> keys = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+        List<String> unused = new ArrayList<>();
+
+        // 내용 기반 저장 파일 - 같은 내용을 묶어서 참조 해제, 참조가 없어진 파일만 삭제
+        Map<List<String>, Long> blobs = items.stream()
+                .filter(item -> StringUtils.hasText(item.getHash()))
+                .collect(Collectors.groupingBy(item -> List.of(item.getHash(), Objects.requireNonNullElse(item.getExtension(), "")), Collectors.counting()));
+
+        blobs.forEach((blob, cnt) -> {
+            String key = blobService.release(blob.get(0), blob.get(1), cnt);
+            if (key != null) unused.add(key);
+        });
+
+        for (FileInfo item : items) {
+            if (!StringUtils.hasText(item.getHash())) { // 기존 경로(seq % 10) 파일
+                keys.add(infoService.getFileKey(item));
+            }
+
+            prefixes.add(thumbnailService.getThumbPrefix(item.getSeq()));
+        }
+
+        // 3. 파일 그룹 변경 알림 - 게시글 첨부 수 등 요약 정보 갱신
+        items.stream()
+                .map(item -> new FileChangedEvent(item.getGid(), item.getLocation()))
+                .distinct()
+                .forEach(eventPublisher::publishEvent);
+
+        // 4. 커밋 후 저장소 파일 삭제
+        eventPublisher.publishEvent(new FileCleanupEvent(source, keys, prefixes, unused));
+    }
+
+    private void checkOwner(FileInfo item) {
+        String createdBy = item.getCreatedBy();
+        if (!memberUtil.isAdmin() && StringUtils.hasText(createdBy)
+                && (!memberUtil.isLogin() || !memberUtil.getMember().getEmail().equals(createdBy))) {
+            throw new UnAuthorizedException();
+        }
+    }
 }
@@ -1,31 +1,47 @@
 package org.koreait.file.services;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.koreait.file.constants.FileStatus;
-import org.koreait.file.entities.FileInfo;
-import org.koreait.file.repositories.FileInfoRepository;
+import org.koreait.file.entities.QFileInfo;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
+/**
+ * 파일 그룹 작업 완료 처리
+ *  - 엔티티를 조회하지 않고 UPDATE 한번으로 처리
+ */
 @Lazy
 @Service
 @RequiredArgsConstructor
 public class FileDoneService {
 
-    private final FileInfoService infoService;
-    private final FileInfoRepository repository;
-
+    private final JPAQueryFactory queryFactory;
 
+    @Transactional
     public void process(String gid, String location) {
-        List<FileInfo> items = infoService.getList(gid, location, FileStatus.ALL);
+        QFileInfo fileInfo = QFileInfo.fileInfo;
+
+        BooleanBuilder andBuilder = new BooleanBuilder();
+        andBuilder.and(fileInfo.gid.eq(gid))
+                .and(fileInfo.done.isFalse()); // 이미 완료된 파일은 제외
 
-        items.forEach(item -> item.setDone(true));
+        if (StringUtils.hasText(location)) {
+            andBuilder.and(fileInfo.location.eq(location));
+        }
 
-        repository.saveAllAndFlush(items);
+        queryFactory.update(fileInfo)
+                .set(fileInfo.done, true)
+                .set(fileInfo.modifiedAt, LocalDateTime.now())
+                .where(andBuilder)
+                .execute();
     }
 
+    @Transactional
     public void process(String gid) {
         process(gid, null);
     }
@@ -1,23 +1,37 @@
 package org.koreait.file.services;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.koreait.file.entities.FileInfo;
 import org.koreait.file.exceptions.FileNotFoundException;
+import org.koreait.file.storage.FileStorage;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpRange;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
 
 @Lazy
 @Service
 @RequiredArgsConstructor
 public class FileDownloadService {
     private final FileInfoService infoService;
+    private final FileStorage storage;
+    private final HttpServletRequest request;
     private final HttpServletResponse response;
 
+    /**
+     * 파일 다운로드
+     *  - 저장소 스트림을 그대로 응답으로 전송(파일 전체를 메모리에 올리지 않음)
+     *  - Range 요청 헤더가 있으면 해당 범위만 전송(206), 이어받기, 동영상 탐색 등
+     *
+     * @param seq
+     */
     public void process(Long seq) {
 
         FileInfo item = infoService.get(seq);
@@ -29,27 +43,60 @@ public class FileDownloadService {
         String contentType = item.getContentType();
         contentType = StringUtils.hasText(contentType) ? contentType : "application/octet-stream";
 
-        File file = new File(item.getFilePath());
-        if (!file.exists()) {
+        String key = infoService.getFileKey(item);
+        long length;
+        try {
+            length = storage.size(key);
+        } catch (IOException e) {
             throw new FileNotFoundException();
         }
 
-        try (FileInputStream fis = new FileInputStream(file);
-            BufferedInputStream bis = new BufferedInputStream(fis)) {
+        // 요청 범위 - 여러 범위를 요청하는 경우는 전체 전송
+        long start = 0L, end = length - 1;
+        List<HttpRange> ranges = parseRanges(request.getHeader("Range"));
+        boolean partial = false;
+        if (ranges.size() == 1 && length > 0L) {
+            try {
+                HttpRange range = ranges.get(0);
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                partial = true;
+            } catch (IllegalArgumentException e) { // 파일 크기를 벗어난 범위는 전체 전송
+                start = 0L;
+                end = length - 1;
+            }
+        }
+
+        try (InputStream in = partial ? storage.get(key, start, end) : storage.get(key)) {
             // 바디의 출력을 filename에 지정된 파일로 변경
             response.setHeader("Content-Disposition", "attachment; filename=" + fileName);
             response.setContentType(contentType);
             response.setHeader("Cache-Control", "no-cache");
             response.setHeader("Pragma", "no-cache");
             response.setIntHeader("Expires", 0); // 만료시간을 없앤다.
-            response.setContentLengthLong(file.length());
+            response.setHeader("Accept-Ranges", "bytes");
+            if (partial) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range", String.format("bytes %d-%d/%d", start, end, length));
+            }
+            response.setContentLengthLong(end - start + 1);
 
             OutputStream out = response.getOutputStream();
-            out.write(bis.readAllBytes());
+            in.transferTo(out);
 
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException();
         } catch(IOException e) {
             e.printStackTrace();
         }
 
     }
+
+    private List<HttpRange> parseRanges(String header) {
+        try {
+            return HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) { // 잘못된 범위는 무시하고 전체 전송
+            return List.of();
+        }
+    }
 }
@@ -1,34 +1,64 @@
 package org.koreait.file.services;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.koreait.file.constants.FileStatus;
-import org.koreait.file.entities.FileInfo;
-import org.koreait.file.repositories.FileInfoRepository;
+import org.koreait.file.entities.QFileInfo;
+import org.koreait.file.exceptions.FileNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @Lazy
 @Service
 @RequiredArgsConstructor
 public class FileImageService {
-    private final FileInfoService infoService;
-    private final FileInfoRepository repository;
+    private final JPAQueryFactory queryFactory;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 목록 노출 이미지 선택
+     *  - 같은 그룹(gid, location) 파일의 selected 를 CASE 로 한번에 변경
+     *  - 선택한 파일만 true, 나머지는 false
      *
      * @param seq
      */
+    @Transactional
     public void select(Long seq) {
-        FileInfo item = infoService.get(seq);
-        String gid = item.getGid();
-        String location = item.getLocation();
+        QFileInfo fileInfo = QFileInfo.fileInfo;
 
-        List<FileInfo> items = infoService.getList(gid, location, FileStatus.ALL);
-        items.forEach(i -> i.setSelected(i.getSeq().equals(seq)));
+        Tuple group = queryFactory.select(fileInfo.gid, fileInfo.location)
+                .from(fileInfo)
+                .where(fileInfo.seq.eq(seq))
+                .fetchOne();
 
-        repository.saveAllAndFlush(items);
+        if (group == null) {
+            throw new FileNotFoundException();
+        }
+
+        String gid = group.get(fileInfo.gid);
+        String location = group.get(fileInfo.location);
+
+        BooleanBuilder andBuilder = new BooleanBuilder();
+        andBuilder.and(fileInfo.gid.eq(gid));
+        if (StringUtils.hasText(location)) {
+            andBuilder.and(fileInfo.location.eq(location));
+        }
+
+        queryFactory.update(fileInfo)
+                .set(fileInfo.selected, new CaseBuilder()
+                        .when(fileInfo.seq.eq(seq)).then(true)
+                        .otherwise(false))
+                .set(fileInfo.modifiedAt, LocalDateTime.now())
+                .where(andBuilder)
+                .execute();
+
+        eventPublisher.publishEvent(new FileChangedEvent(gid, location));
     }
-}
\ No newline at end of file
+}
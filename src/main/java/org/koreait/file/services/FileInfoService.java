@@ -1,18 +1,17 @@
 package org.koreait.file.services;
 
 import com.querydsl.core.BooleanBuilder;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.koreait.file.constants.FileStatus;
 import org.koreait.file.entities.FileInfo;
 import org.koreait.file.entities.QFileInfo;
 import org.koreait.file.exceptions.FileNotFoundException;
+import org.koreait.file.libs.FileLocator;
 import org.koreait.file.repositories.FileInfoRepository;
-import org.koreait.global.configs.FileProperties;
-import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
@@ -23,13 +22,11 @@ import static org.springframework.data.domain.Sort.Order.asc;
 @Lazy
 @Service
 @RequiredArgsConstructor
-@EnableConfigurationProperties(FileProperties.class)
+@Transactional(readOnly = true) // 조회 전용 - 복제 DB 사용 가능
 public class FileInfoService  {
     private final FileInfoRepository infoRepository;
 
-    private final FileProperties properties;
-
-    private final HttpServletRequest request;
+    private final FileLocator locator;
 
     public FileInfo get(Long seq) {
         FileInfo item = infoRepository.findById(seq).orElseThrow(FileNotFoundException::new);
@@ -73,46 +70,79 @@ public class FileInfoService  {
 
     /**
      * 추가 정보 처리
+     *  - filePath(서버에 올라간 실제 경로), fileUrl(브라우저 접근 주소), thumbUrl(이미지 형식인 경우)은
+     *    처음 사용할 때 FileLocator 로 생성
      *
      * @param item
      */
     public void addInfo(FileInfo item) {
-        // filePath - 서버에 올라간 실제 경로(다운로드, 삭제시 활용...)
-        item.setFilePath(getFilePath(item));
-
-        // fileUrl - 접근할 수 있는 주소(브라우저)
-        item.setFileUrl(getFileUrl(item));
+        item.setLocator(locator);
+    }
 
-        // thumbUrl - 이미지 형식인 경우
-        if (item.getContentType().contains("image/")) {
-            item.setThumbUrl(String.format("%s/api/file/thumb?seq=%d", request.getContextPath(), item.getSeq()));
-        }
+    /**
+     * 저장소(FileStorage) 경로
+     *
+     * @param item
+     * @return
+     */
+    public String getFileKey(FileInfo item) {
+        return locator.getKey(item.getSeq(), item.getExtension(), item.getHash());
     }
 
+    /**
+     * 서버 디스크 경로 - 서버 디스크 저장소(local)인 경우에만 파일이 존재
+     *
+     * @param item
+     * @return
+     */
     public String getFilePath(FileInfo item) {
-        Long seq = item.getSeq();
-        String extension = Objects.requireNonNullElse(item.getExtension(), "");
-        return String.format("%s%s/%s", properties.getPath(), getFolder(seq), seq + extension);
+        return locator.getPath(item.getSeq(), item.getExtension(), item.getHash());
     }
 
+    /**
+     * seq 로 조회 후 경로 생성 - 파일 정보가 이미 있으면 getFilePath(FileInfo) 사용
+     *
+     * @param seq
+     * @return
+     */
     public String getFilePath(Long seq) {
         FileInfo item = infoRepository.findById(seq).orElseThrow(FileNotFoundException::new);
         return getFilePath(item);
     }
 
     public String getFileUrl(FileInfo item) {
-        Long seq = item.getSeq();
-        String extension = Objects.requireNonNullElse(item.getExtension(), "");
-        return String.format("%s%s%s/%s", request.getContextPath(), properties.getUrl(), getFolder(seq), seq + extension);
+        return locator.getUrl(item.getSeq(), item.getExtension(), item.getHash());
     }
 
+    /**
+     * seq 로 조회 후 주소 생성 - 파일 정보가 이미 있으면 getFileUrl(FileInfo) 사용
+     *
+     * @param seq
+     * @return
+     */
     public String getFileUrl(Long seq) {
         FileInfo item = infoRepository.findById(seq).orElseThrow(FileNotFoundException::new);
         return getFileUrl(item);
     }
 
-    private long getFolder(long seq) {
-        return seq % 10L;
+    /**
+     * 썸네일 주소 - 파일 번호만으로 생성, DB 조회 없음
+     *
+     * @param seq
+     * @return
+     */
+    public String getThumbUrl(Long seq) {
+        return locator.getThumbUrl(seq);
+    }
+
+    /**
+     * 기존 저장 경로의 폴더 - 내용 기반 저장 이전에 업로드된 파일
+     *
+     * @param seq
+     * @return
+     */
+    public long getFolder(long seq) {
+        return FileLocator.getFolder(seq);
     }
 
 }
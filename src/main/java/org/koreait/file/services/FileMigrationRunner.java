@@ -0,0 +1,32 @@
+package org.koreait.file.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 저장소 이전 실행
+ *  - file-migration 프로필로 실행시 한번 수행
+ *  - 예) java -jar app.jar --spring.profiles.active=default,file-migration --file.migration.batch-size=1000
+ */
+@Slf4j
+@Component
+@Profile("file-migration")
+@RequiredArgsConstructor
+public class FileMigrationRunner implements ApplicationRunner {
+
+    private final FileMigrationService migrationService;
+
+    @Value("${file.migration.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long total = migrationService.migrate(batchSize);
+        log.info("파일 저장소 이전 완료 - {}건", total);
+    }
+}
@@ -0,0 +1,108 @@
+package org.koreait.file.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.file.entities.QFileInfo;
+import org.koreait.file.repositories.FileInfoRepository;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.domain.Sort.Order.asc;
+
+/**
+ * 기존 저장 경로(seq % 10) 파일을 내용 기반 저장소로 이전
+ *  - hash 가 없는 파일만 대상이므로 중단 후 다시 실행해도 이어서 진행
+ *  - hash 기록과 참조 수 증가는 같은 트랜잭션, hash 를 기록한 파일만 참조 수에 반영(다시 실행해도 중복 반영 없음)
+ *  - 원본은 하드 링크(또는 복사)로 옮기고, DB 반영이 끝난 뒤에 삭제
+ */
+@Slf4j
+@Lazy
+@Service
+@RequiredArgsConstructor
+public class FileMigrationService {
+
+    private final FileInfoRepository infoRepository;
+    private final FileInfoService infoService;
+    private final FileBlobService blobService;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 이전 처리
+     *  - 배치 단위로 트랜잭션 하나에서 처리 - 참조 수 증가와 파일 정보의 hash 반영이 함께 커밋되거나 함께 롤백
+     *
+     * @param batchSize : 한번에 처리할 파일 수
+     * @return 이전한 파일 수
+     */
+    public long migrate(int batchSize) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        long lastSeq = 0L;
+        long total = 0L;
+        while (true) {
+            long from = lastSeq;
+            Batch batch = template.execute(status -> migrateBatch(from, batchSize));
+            if (batch == null || batch.lastSeq() == from) break;
+
+            lastSeq = batch.lastSeq();
+
+            // DB 반영 후 기존 파일 삭제
+            for (Path source : batch.sources()) {
+                try {
+                    Files.deleteIfExists(source);
+                } catch (IOException e) {
+                    log.warn("기존 파일 삭제 실패 - {}", source, e);
+                }
+            }
+
+            total += batch.sources().size();
+            log.info("파일 이전 진행 - {}건, 마지막 seq: {}", total, lastSeq);
+        }
+
+        return total;
+    }
+
+    private Batch migrateBatch(long lastSeq, int batchSize) {
+        QFileInfo fileInfo = QFileInfo.fileInfo;
+
+        // seq 기준으로 이어서 조회 - 원본 파일이 없어 건너띈 항목을 다시 조회하지 않도록 처리
+        List<FileInfo> items = infoRepository.findAll(fileInfo.hash.isNull().and(fileInfo.seq.gt(lastSeq)),
+                PageRequest.of(0, batchSize, Sort.by(asc("seq")))).getContent();
+
+        List<Path> sources = new ArrayList<>();
+        for (FileInfo item : items) {
+            lastSeq = item.getSeq();
+
+            Path source = Path.of(infoService.getFilePath(item));
+            if (!Files.exists(source)) {
+                log.warn("원본 파일 없음 - seq: {}, path: {}", item.getSeq(), source);
+                continue;
+            }
+
+            try {
+                String hash = blobService.hash(source);
+                // hash 를 기록한 경우만 참조 수 증가 - 동시에 실행하거나 다시 실행해도 파일당 한번만 반영
+                if (infoRepository.updateHash(item.getSeq(), hash) > 0) {
+                    blobService.put(source, hash, item.getExtension(), false);
+                    sources.add(source);
+                }
+            } catch (IOException e) {
+                log.warn("파일 이전 실패 - seq: {}", item.getSeq(), e);
+            }
+        }
+
+        return new Batch(lastSeq, sources);
+    }
+
+    private record Batch(long lastSeq, List<Path> sources) {}
+}
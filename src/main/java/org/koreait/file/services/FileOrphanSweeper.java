@@ -0,0 +1,92 @@
+package org.koreait.file.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.file.entities.QFileInfo;
+import org.koreait.file.repositories.FileInfoRepository;
+import org.koreait.global.annotations.SchedulerLock;
+import org.koreait.global.configs.FileCleanupProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.domain.Sort.Order.asc;
+
+/**
+ * 미완료 파일 정리
+ *  - 양식 작성 중 업로드하고 저장하지 않은 파일(done = false)은 orphanHours 가 지나면 삭제
+ *  - batchSize 단위로 트랜잭션을 나눠서 삭제, 저장소 파일과 썸네일은 커밋 후 FileCleanupWorker 에서 삭제
+ *  - 참조 수가 0인 채로 남은 내용 기반 저장 파일(삭제 대기) 정리
+ *  - 마지막 기록 이후 file.upload.chunk-expire-hours 가 지난 분할 업로드 임시 파일 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FileCleanupProperties.class)
+public class FileOrphanSweeper {
+
+    private final FileInfoRepository infoRepository;
+    private final FileDeleteService deleteService;
+    private final FileBlobService blobService;
+    private final FileChunkUploadService chunkUploadService;
+    private final FileCleanupProperties properties;
+    private final MeterRegistry registry;
+
+    @Scheduled(cron = "${file.cleanup.cron:0 30 * * * *}") // 기본 매시 30분
+    @SchedulerLock(name = "file-orphan-sweep", lockAtLeastSeconds = 60L) // 여러 서버 중 한 곳에서만 정리
+    public void scheduled() {
+        long total = sweep();
+        if (total > 0L) {
+            log.info("미완료 파일 정리 - {}건", total);
+        }
+    }
+
+    /**
+     * 중단된 분할 업로드 정리
+     *  - 임시 파일은 서버 디스크에 있으므로 잠금 없이 서버마다 실행
+     */
+    @Scheduled(cron = "${file.cleanup.chunk-cron:0 45 * * * *}") // 기본 매시 45분
+    public void scheduledChunks() {
+        long total = chunkUploadService.purgeExpired();
+        registry.counter("file.cleanup.chunks").increment(total);
+        if (total > 0L) {
+            log.info("중단된 분할 업로드 정리 - {}건", total);
+        }
+    }
+
+    /**
+     * 정리 처리
+     *
+     * @return 삭제한 파일 정보 수
+     */
+    public long sweep() {
+        QFileInfo fileInfo = QFileInfo.fileInfo;
+        LocalDateTime before = LocalDateTime.now().minusHours(properties.getOrphanHours());
+
+        long total = 0L;
+        while (true) {
+            List<FileInfo> items = infoRepository.findAll(fileInfo.done.isFalse().and(fileInfo.createdAt.before(before)),
+                    PageRequest.of(0, properties.getBatchSize(), Sort.by(asc("seq")))).getContent();
+            if (items.isEmpty()) break;
+
+            deleteService.purge(items);
+            total += items.size();
+        }
+
+        registry.counter("file.cleanup.orphans").increment(total);
+
+        // 커밋 후 삭제 작업이 유실된(서버 종료 등) 삭제 대기 파일
+        List<String> unused = blobService.getUnused(properties.getBatchSize());
+        long purged = unused.stream().filter(key -> blobService.purge(key) >= 0L).count();
+        registry.counter("file.cleanup.files", "source", "orphan").increment(purged);
+
+        return total;
+    }
+}
@@ -1,18 +1,17 @@
 package org.koreait.file.services;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.koreait.file.controllers.RequestUpload;
 import org.koreait.file.entities.FileInfo;
 import org.koreait.file.repositories.FileInfoRepository;
-import org.koreait.global.configs.FileProperties;
-import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -20,12 +19,12 @@ import java.util.UUID;
 @Lazy
 @Service
 @RequiredArgsConstructor
-@EnableConfigurationProperties(FileProperties.class)
 public class FileUploadService {
-    private final FileProperties properties;
     private final FileInfoRepository fileInfoRepository;
     private final FileInfoService infoService;
+    private final FileBlobService blobService;
 
+    @Timed(value="file.upload", description = "파일 업로드 처리")
     public List<FileInfo> upload(RequestUpload form) {
         String gid = form.getGid();
         gid = StringUtils.hasText(gid) ? gid : UUID.randomUUID().toString();
@@ -33,9 +32,6 @@ public class FileUploadService {
         String location = form.getLocation();
         MultipartFile[] files = form.getFiles();
 
-        String rootPath = properties.getPath();
-
-
         // 파일 업로드 성공 파일 정보
         List<FileInfo> uploadedItems = new ArrayList<>();
 
@@ -46,49 +42,44 @@ public class FileUploadService {
                 continue;
             }
 
-            // 1. 파일 업로드 정보 - DB에 기록 S
             // 파일명.확장자 // model.weights.h5
             String fileName = file.getOriginalFilename();
             String extension = fileName.substring(fileName.lastIndexOf("."));
 
+            // 1. 파일 저장 - 내용 기반 저장소, 같은 내용이면 기존 파일 공유 S
+            String hash;
+            try (InputStream in = file.getInputStream()) {
+                hash = blobService.store(in, extension);
+            } catch (IOException e) {
+                continue; // 파일 저장 실패 - 건너띄기
+            }
+            // 1. 파일 저장 E
+
+            // 2. 파일 업로드 정보 S
             FileInfo item = new FileInfo();
             item.setGid(gid);
             item.setLocation(location);
             item.setFileName(fileName);
             item.setExtension(extension);
             item.setContentType(contentType);
+            item.setHash(hash);
 
-            fileInfoRepository.saveAndFlush(item);
-
-            // 1. 파일 업로드 정보 - DB에 기록 E
-
-            // 2. 파일 업로드 처리 S
-            long seq = item.getSeq();
-            String uploadFileName = seq + extension;
-            long folder = seq % 10L; // 0 ~ 9
-            File dir = new File(rootPath + folder);
-            // 디렉토리가 존재 하지 않거나 파일로만 있는 경우 생성
-            if (!dir.exists() || !dir.isDirectory()) {
-                dir.mkdirs();
-            }
-
-            File _file = new File(dir, uploadFileName);
-            try {
-                file.transferTo(_file);
-
-                // 추가 정보 처리
-                infoService.addInfo(item);
-
-                uploadedItems.add(item);
+            uploadedItems.add(item);
+            // 2. 파일 업로드 정보 E
+        }
 
-            } catch (IOException e) {
-                // 파일 업로드 실패 -> DB 저장된 데이터를 삭제
-                fileInfoRepository.delete(item);
-                fileInfoRepository.flush();
-            }
-            // 2. 파일 업로드 처리 E
+        // 3. 파일 업로드 정보 - 트랜잭션 하나로 DB에 기록(JDBC 배치 INSERT) S
+        try {
+            fileInfoRepository.saveAll(uploadedItems);
+        } catch (RuntimeException e) {
+            // DB 저장 실패 -> 저장한 파일 참조 모두 해제
+            uploadedItems.forEach(item -> blobService.release(item.getHash(), item.getExtension()));
+            throw e;
         }
 
+        // 추가 정보 처리
+        uploadedItems.forEach(infoService::addInfo);
+        // 3. 파일 업로드 정보 - 트랜잭션 하나로 DB에 기록(JDBC 배치 INSERT) E
 
         return uploadedItems;
     }
@@ -1,33 +1,42 @@
 package org.koreait.file.services;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import net.coobird.thumbnailator.Thumbnails;
 import org.koreait.file.controllers.RequestThumb;
 import org.koreait.file.entities.FileInfo;
-import org.koreait.global.configs.FileProperties;
-import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.koreait.file.storage.FileStorage;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.net.URI;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.Objects;
 
 @Lazy
 @Service
 @RequiredArgsConstructor
-@EnableConfigurationProperties(FileProperties.class)
 public class ThumbnailService {
 
-    private final FileProperties properties;
     private final FileInfoService infoService;
+    private final FileStorage storage;
     private final RestTemplate restTemplate;
+    private final MeterRegistry registry;
 
 
+    /**
+     * 썸네일 조회, 생성
+     *  - 원본은 저장소에서 스트림으로 읽고, 만든 썸네일은 저장소의 thumbs/ 아래에 저장
+     *
+     * @param form
+     * @return 썸네일 저장소 경로, 생성 실패시 null
+     */
+    @Timed(value="thumbnail.create", description = "썸네일 조회, 생성")
     public String create(RequestThumb form) {
 
         Long seq = form.getSeq();
@@ -35,59 +44,78 @@ public class ThumbnailService {
         int width = Math.max(form.getWidth(), 50);
         int height = Math.max(form.getHeight(), 50);
 
-        String thumbPath = getThumbPath(seq, url, width, height);
-        File file = new File(thumbPath);
-        if (file.exists()) { // 이미 Thumbnail 이미지를 만든 경우
-            return thumbPath;
+        String thumbKey = getThumbKey(seq, url, width, height);
+        if (thumbKey == null) {
+            return null;
+        }
+
+        if (storage.exists(thumbKey)) { // 이미 Thumbnail 이미지를 만든 경우
+            registry.counter("thumbnail.cache", "result", "hit").increment();
+            return thumbKey;
         }
 
+        registry.counter("thumbnail.cache", "result", "miss").increment();
+
         try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            String contentType = null;
             if (seq != null && seq > 0L) { // 서버에 올라간 파일
                 FileInfo item = infoService.get(seq);
-                Thumbnails.of(item.getFilePath())
-                        .size(width, height)
-                        .toFile(file);
+                try (InputStream in = storage.get(infoService.getFileKey(item))) {
+                    Thumbnails.of(in)
+                            .size(width, height)
+                            .toOutputStream(out);
+                }
+
+                contentType = item.getContentType();
 
-            } else if (StringUtils.hasText(url)) { // 원격 URL 이미지
-                String original = String.format("%s_original", thumbPath);
+            } else { // 원격 URL 이미지
                 byte[] bytes = restTemplate.getForObject(URI.create(url), byte[].class);
-                Files.write(Paths.get(original), bytes);
 
-                Thumbnails.of(original)
+                Thumbnails.of(new ByteArrayInputStream(bytes))
                         .size(width, height)
-                        .toFile(file);
-            } else {
-                thumbPath = null;
+                        .toOutputStream(out);
             }
-        } catch (Exception e) {}
 
-        return thumbPath;
+            byte[] thumb = out.toByteArray();
+            storage.put(thumbKey, new ByteArrayInputStream(thumb), thumb.length, contentType);
+
+        } catch (Exception e) {
+            thumbKey = null;
+        }
+
+        return thumbKey;
     }
 
     /**
-     * Thumbnail 경로
+     * Thumbnail 저장소 경로
      * thumbs/폴더번호/seq_너비_높이.확장자
      * thumbs/urls/정수해시코드_너비_높이.확장자
      */
-    public String getThumbPath(Long seq, String url, int width, int height) {
-        String thumbPath = properties.getPath() + "thumbs/";
+    public String getThumbKey(Long seq, String url, int width, int height) {
+        String thumbKey = "thumbs/";
         if (seq != null && seq > 0L) { // 직접 서버에 올린 파일
             FileInfo item = infoService.get(seq);
 
-            thumbPath = thumbPath + String.format("%d/%d_%d_%d%s", seq % 10L, seq, width, height, item.getExtension());
+            return thumbKey + String.format("%d/%d_%d_%d%s", infoService.getFolder(seq), seq, width, height, item.getExtension());
         } else if (StringUtils.hasText(url)){ // 원격 URL 이미지인 경우
             String extension = url.lastIndexOf(".") == -1 ? "": url.substring(url.lastIndexOf("."));
             if (StringUtils.hasText(extension)) {
                 extension = extension.split("[?#]")[0];
             }
-            thumbPath = thumbPath + String.format("urls/%d_%d_%d%s", Objects.hash(url), width, height, extension);
+            return thumbKey + String.format("urls/%d_%d_%d%s", Objects.hash(url), width, height, extension);
         }
 
-        File file = new File(thumbPath);
-        if (!file.getParentFile().exists()) {
-            file.getParentFile().mkdirs();
-        }
+        return null;
+    }
 
-        return thumbPath;
+    /**
+     * 파일의 썸네일 경로 앞부분 - 크기별 썸네일 일괄 삭제
+     *
+     * @param seq
+     * @return
+     */
+    public String getThumbPrefix(Long seq) {
+        return String.format("thumbs/%d/%d_", infoService.getFolder(seq), seq);
     }
 }
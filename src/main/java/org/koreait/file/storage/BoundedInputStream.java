@@ -0,0 +1,56 @@
+package org.koreait.file.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 지정한 크기까지만 읽는 스트림 - 범위 조회
+ */
+class BoundedInputStream extends FilterInputStream {
+
+    private long remaining;
+
+    BoundedInputStream(InputStream in, long limit) {
+        super(in);
+        this.remaining = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (remaining <= 0) return -1;
+
+        int b = super.read();
+        if (b != -1) remaining--;
+
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (remaining <= 0) return -1;
+
+        int cnt = super.read(b, off, (int)Math.min(len, remaining));
+        if (cnt > 0) remaining -= cnt;
+
+        return cnt;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(Math.min(n, remaining));
+        remaining -= skipped;
+
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int)Math.min(super.available(), remaining);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package org.koreait.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 파일 저장소
+ *  - key 는 업로드 경로 기준 상대 경로(예: blobs/ab/cd/해시.png, thumbs/3/123_100_100.png)
+ *  - 구현체 : LocalFileStorage(서버 디스크), S3FileStorage(S3 호환 저장소)
+ *  - 없는 파일 조회시 java.nio.file.NoSuchFileException
+ */
+public interface FileStorage {
+
+    /**
+     * 파일 저장
+     *
+     * @param key
+     * @param in
+     * @param length : 전체 크기
+     * @param contentType
+     */
+    void put(String key, InputStream in, long length, String contentType) throws IOException;
+
+    /**
+     * 서버에 있는 파일 저장
+     *
+     * @param key
+     * @param source
+     * @param move : true - 저장 후 원본 삭제
+     */
+    default void put(String key, Path source, boolean move) throws IOException {
+        try (InputStream in = Files.newInputStream(source)) {
+            put(key, in, Files.size(source), Files.probeContentType(source));
+        }
+
+        if (move) {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    InputStream get(String key) throws IOException;
+
+    /**
+     * 범위 조회
+     *
+     * @param key
+     * @param start : 시작 위치
+     * @param end : 끝 위치(포함)
+     * @return
+     */
+    InputStream get(String key, long start, long end) throws IOException;
+
+    boolean exists(String key);
+
+    long size(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * 경로가 prefix 로 시작하는 파일 모두 삭제 - 썸네일 정리 등
+     *
+     * @param prefix
+     * @return 삭제한 크기(bytes)
+     */
+    long deleteByPrefix(String prefix) throws IOException;
+}
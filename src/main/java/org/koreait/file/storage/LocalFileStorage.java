@@ -0,0 +1,108 @@
+package org.koreait.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+/**
+ * 서버 디스크 저장소
+ *  - 기존 방식, 업로드 경로(file.upload.path) 아래에 저장
+ */
+public class LocalFileStorage implements FileStorage {
+
+    private final Path root;
+
+    public LocalFileStorage(String root) {
+        this.root = Path.of(root);
+    }
+
+    @Override
+    public void put(String key, InputStream in, long length, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 같은 디스크이므로 복사 없이 이동(rename), 원본을 유지하는 경우 하드 링크
+     */
+    @Override
+    public void put(String key, Path source, boolean move) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        if (move) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(target);
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) { // 하드 링크를 지원하지 않으면 복사
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public InputStream get(String key, long start, long end) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+        channel.position(start);
+
+        return new BoundedInputStream(Channels.newInputStream(channel), end - start + 1);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        return Files.size(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public long deleteByPrefix(String prefix) throws IOException {
+        Path path = resolve(prefix);
+        Path dir = prefix.endsWith("/") ? path : path.getParent();
+        String name = prefix.endsWith("/") ? "" : path.getFileName().toString();
+        if (!Files.isDirectory(dir)) {
+            return 0L;
+        }
+
+        long bytes = 0L;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, f -> f.getFileName().toString().startsWith(name))) {
+            for (Path p : stream) {
+                if (!Files.isRegularFile(p)) continue;
+
+                long size = Files.size(p);
+                if (Files.deleteIfExists(p)) {
+                    bytes += size;
+                }
+            }
+        }
+
+        return bytes;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root.normalize())) { // 업로드 경로 밖 접근 차단
+            throw new IllegalArgumentException("Invalid key: " + key);
+        }
+
+        return path;
+    }
+}
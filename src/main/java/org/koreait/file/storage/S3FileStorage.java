@@ -0,0 +1,123 @@
+package org.koreait.file.storage;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * S3 호환 저장소(AWS S3, MinIO 등)
+ *  - 모든 서버가 같은 버킷을 사용하므로 업로드 디스크 공유 없이 수평 확장 가능
+ *  - 조회는 응답 스트림을 그대로 반환, 범위 조회는 Range 요청
+ */
+public class S3FileStorage implements FileStorage {
+
+    private final S3Client s3;
+    private final String bucket;
+
+    public S3FileStorage(S3Client s3, String bucket) {
+        this.s3 = s3;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public void put(String key, InputStream in, long length, String contentType) {
+        s3.putObject(putRequest(key, contentType), RequestBody.fromInputStream(in, length));
+    }
+
+    @Override
+    public void put(String key, Path source, boolean move) throws IOException {
+        s3.putObject(putRequest(key, Files.probeContentType(source)), RequestBody.fromFile(source));
+
+        if (move) {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        try {
+            return s3.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        }
+    }
+
+    @Override
+    public InputStream get(String key, long start, long end) throws IOException {
+        try {
+            return s3.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .range(String.format("bytes=%d-%d", start, end))
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            head(key);
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        try {
+            return head(key).contentLength();
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+
+    @Override
+    public long deleteByPrefix(String prefix) {
+        long bytes = 0L;
+        ListObjectsV2Request request = ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).build();
+        for (ListObjectsV2Response page : s3.listObjectsV2Paginator(request)) { // 페이지당 최대 1000개
+            if (page.contents().isEmpty()) continue;
+
+            List<ObjectIdentifier> ids = page.contents().stream()
+                    .map(o -> ObjectIdentifier.builder().key(o.key()).build())
+                    .toList();
+
+            s3.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(ids).quiet(true).build())
+                    .build());
+
+            bytes += page.contents().stream().mapToLong(S3Object::size).sum();
+        }
+
+        return bytes;
+    }
+
+    private HeadObjectResponse head(String key) {
+        return s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+
+    private PutObjectRequest putRequest(String key, String contentType) {
+        PutObjectRequest.Builder builder = PutObjectRequest.builder().bucket(bucket).key(key);
+        if (contentType != null) {
+            builder.contentType(contentType);
+        }
+
+        return builder.build();
+    }
+}
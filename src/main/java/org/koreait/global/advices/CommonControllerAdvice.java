@@ -1,5 +1,6 @@
 package org.koreait.global.advices;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.koreait.global.annotations.ApplyErrorPage;
@@ -24,6 +25,7 @@ import java.util.Objects;
 public class CommonControllerAdvice {
     private final Utils utils;
     private final CodeValueService codeValueService;
+    private final MeterRegistry registry;
 
 
     @ExceptionHandler(Exception.class)
@@ -77,6 +79,7 @@ public class CommonControllerAdvice {
         mv.addAllObjects(data);
         mv.setViewName(tpl);
 
+        registry.counter("app.errors", "exception", e.getClass().getSimpleName(), "status", String.valueOf(status.value())).increment();
         e.printStackTrace();
 
         return mv;
@@ -1,5 +1,6 @@
 package org.koreait.global.advices;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.koreait.global.exceptions.CommonException;
 import org.koreait.global.libs.Utils;
@@ -18,6 +19,7 @@ import java.util.Map;
 public class CommonRestControllerAdvice {
 
     private final Utils utils;
+    private final MeterRegistry registry;
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<JSONData> errorHandler(Exception e) {
@@ -41,6 +43,7 @@ public class CommonRestControllerAdvice {
         data.setStatus(status);
         data.setMessage(message);
 
+        registry.counter("app.errors", "exception", e.getClass().getSimpleName(), "status", String.valueOf(status.value())).increment();
         e.printStackTrace();
 
         return ResponseEntity.status(status).body(data);
@@ -0,0 +1,26 @@
+package org.koreait.global.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클러스터 단일 실행 - 여러 서버 중 잠금을 얻은 한 곳에서만 실행
+ *  - 잠금을 얻지 못하면 실행하지 않고 건너뛴다
+ *  - 실행 중에는 임대 시간을 주기적으로 연장, 서버가 중단되면 임대 시간이 지난 후 다른 서버가 실행 가능
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLock {
+    String name(); // 작업 이름 - 잠금 키
+
+    long leaseSeconds() default 0L; // 임대 시간, 0 이면 scheduler.lock.lease-seconds
+
+    /**
+     * 최소 잠금 유지 시간(시작 시각 기준)
+     *  - 금방 끝나는 작업은 바로 해제하면 서버간 시계 차이로 같은 예약 시각에 다른 서버가 다시 실행할 수 있다
+     *  - 서버간 시계 차이보다 길고 실행 주기보다 짧게 지정
+     */
+    long lockAtLeastSeconds() default 0L;
+}
@@ -18,11 +18,7 @@ public class AuditorAwareImpl implements AuditorAware<String> {
     @Override
     public Optional<String> getCurrentAuditor() {
 
-        String email = null;
-        if (memberUtil.isLogin()) {
-            email = memberUtil.getMember().getEmail();
-        }
-
-        return Optional.ofNullable(email);
+        // 요청 단위 스냅샷 - 엔티티 저장시마다 세션을 다시 조회하지 않는다.
+        return Optional.ofNullable(memberUtil.getSnapshot().getEmail());
     }
 }
@@ -0,0 +1,52 @@
+package org.koreait.global.configs;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URISyntaxException;
+
+/**
+ * Hibernate 2차 캐시(JCache - Ehcache)
+ *  - 거의 바뀌지 않는 엔티티(Pokemon, Board, Authorities)와 포켓몬 목록 쿼리 결과를 캐시
+ *  - 영역별 보관 시간, 최대 항목 수는 ehcache.xml
+ *  - Hibernate 와 같은 CacheManager 를 사용해서 영역별 적중률을 성능 지표로 노출
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() throws URISyntaxException {
+        return Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(getClass().getResource("/ehcache.xml").toURI(), getClass().getClassLoader());
+    }
+
+    /**
+     * 설정 서버에 값이 있으면 그 값을 우선 사용
+     *
+     * @param cacheManager
+     * @return
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager cacheManager) {
+        return props -> {
+            props.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            props.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, "true");
+            props.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            props.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames()
+                .forEach(name -> JCacheMetrics.monitor(registry, cacheManager.getCache(name), "cacheManager", "hibernate"));
+    }
+}
@@ -3,11 +3,23 @@ package org.koreait.global.configs;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.koreait.global.libs.QueryCounter;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
 
+/**
+ * DB 설정
+ *  - 스키마 변경(인덱스 등)은 Flyway 버전별 SQL 로 관리, 기본값은 db.properties
+ *  - Open Session In View 사용 안함 - 화면에서 출력할 연관 엔티티는 서비스에서 함께 조회
+ */
 @Configuration
+@PropertySource("classpath:db.properties")
 public class DbConfig {
 
     @PersistenceContext
@@ -18,4 +30,44 @@ public class DbConfig {
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(em);
     }
+
+    /**
+     * JDBC 배치 설정
+     *  - 관리자 목록 일괄 수정처럼 여러 행을 변경할 때 INSERT, UPDATE를 묶어서 전송
+     *  - 쓰기 서비스는 트랜잭션 하나로 처리하고 중간에 flush 하지 않아야 커밋할 때 묶어서 전송된다
+     *  - 설정 서버에 값이 있으면 그 값을 우선 사용
+     *
+     * @return
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return props -> {
+            props.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, "50");
+            props.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+            props.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+            props.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, "true");
+        };
+    }
+
+    /**
+     * 요청별 SQL 실행 횟수 집계
+     *
+     * @param queryCounter
+     * @return
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(QueryCounter queryCounter) {
+        return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+    }
+
+    /**
+     * 요청별 트랜잭션 커밋 횟수 집계
+     *
+     * @param queryCounter
+     * @return
+     */
+    @Bean
+    public TransactionManagerCustomizer<AbstractPlatformTransactionManager> commitCounterCustomizer(QueryCounter queryCounter) {
+        return transactionManager -> transactionManager.addListener(queryCounter.getCommitListener());
+    }
 }
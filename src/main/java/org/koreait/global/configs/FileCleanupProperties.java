@@ -0,0 +1,17 @@
+package org.koreait.global.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 파일 정리 설정
+ *  - 작업 완료(done)되지 않은 파일은 orphanHours 가 지나면 삭제
+ */
+@Data
+@ConfigurationProperties(prefix="file.cleanup")
+public class FileCleanupProperties {
+    private int orphanHours = 24; // 미완료 파일 보관 시간
+    private int batchSize = 500; // 한번에 정리할 파일 수
+    private int threads = 1; // 저장소 파일 삭제 스레드 수
+    private int queueCapacity = 10000; // 삭제 대기 작업 수
+}
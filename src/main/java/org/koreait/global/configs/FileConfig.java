@@ -1,21 +1,110 @@
 package org.koreait.global.configs;
 
 import lombok.RequiredArgsConstructor;
+import org.koreait.file.storage.FileStorage;
+import org.koreait.file.storage.LocalFileStorage;
+import org.koreait.file.storage.S3FileStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @RequiredArgsConstructor
-@EnableConfigurationProperties(FileProperties.class)
+@EnableConfigurationProperties({FileProperties.class, FileCleanupProperties.class})
 public class FileConfig implements WebMvcConfigurer {
 
     private final FileProperties properties;
 
+    private final FileCleanupProperties cleanupProperties;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        if (properties.getUrl().startsWith("http")) { // 외부 저장소 주소를 사용하는 경우
+            return;
+        }
+
         registry.addResourceHandler(properties.getUrl() + "**")
                 .addResourceLocations("file:///" + properties.getPath());
     }
+
+    /**
+     * S3 호환 저장소
+     *  - file.upload.storage=s3
+     *
+     * @return
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "file.upload", name = "storage", havingValue = "s3")
+    public S3Client s3Client() {
+        FileProperties.S3 s3 = properties.getS3();
+
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(s3.getRegion()))
+                .forcePathStyle(s3.isPathStyle());
+
+        if (StringUtils.hasText(s3.getEndpoint())) {
+            builder.endpointOverride(URI.create(s3.getEndpoint()));
+        }
+
+        if (StringUtils.hasText(s3.getAccessKey())) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(s3.getAccessKey(), s3.getSecretKey())));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "file.upload", name = "storage", havingValue = "s3")
+    public FileStorage s3FileStorage(S3Client s3Client) {
+        return new S3FileStorage(s3Client, properties.getS3().getBucket());
+    }
+
+    /**
+     * 서버 디스크 저장소 - 기본값
+     *
+     * @return
+     */
+    @Bean
+    @ConditionalOnMissingBean(FileStorage.class)
+    public FileStorage localFileStorage() {
+        return new LocalFileStorage(properties.getPath());
+    }
+
+    /**
+     * 저장소 파일 삭제 작업 큐
+     *  - 종료시 대기 중인 삭제 작업을 마저 처리
+     *  - 큐가 가득 차면 요청 스레드에서 직접 처리
+     *
+     * @return
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileCleanupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("file-cleanup-");
+        executor.setCorePoolSize(cleanupProperties.getThreads());
+        executor.setMaxPoolSize(cleanupProperties.getThreads());
+        executor.setQueueCapacity(cleanupProperties.getQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        return executor;
+    }
 }
@@ -8,4 +8,25 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class FileProperties {
     private String path;
     private String url;
-}
\ No newline at end of file
+
+    private long chunkMaxLength = 2L * 1024L * 1024L * 1024L; // 분할 업로드 최대 파일 크기(기본 2GB)
+    private int chunkExpireHours = 24; // 분할 업로드 임시 파일 보관 시간 - 마지막 기록 이후 지나면 삭제
+
+    private String storage = "local"; // 파일 저장소 - local, s3
+    private S3 s3 = new S3();
+
+    /**
+     * S3 호환 저장소 설정
+     *  - endpoint 를 지정하면 MinIO 등 S3 호환 서버 사용
+     *  - url 에 버킷(또는 CDN) 주소를 지정하면 파일 주소로 사용
+     */
+    @Data
+    public static class S3 {
+        private String endpoint;
+        private String region = "ap-northeast-2";
+        private String bucket;
+        private String accessKey;
+        private String secretKey;
+        private boolean pathStyle = true;
+    }
+}
@@ -0,0 +1,23 @@
+package org.koreait.global.configs;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 성능 지표 설정
+ *  - 관리 포트(기본 127.0.0.1:8081)의 /actuator/prometheus 로 Prometheus 형식 지표 노출
+ *  - 기본값은 metrics.properties, 설정 서버에 값이 있으면 그 값을 우선 사용
+ *  - @Timed 를 적용한 서비스 메서드 실행 시간 측정
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -1,9 +1,13 @@
 package org.koreait.global.configs;
 
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
 import org.springframework.web.filter.HiddenHttpMethodFilter;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
@@ -12,6 +16,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 @EnableJpaAuditing
 @EnableScheduling
+@EnableAsync
 @EnableRedisHttpSession
 public class MvcConfig implements WebMvcConfigurer {
     /**
@@ -37,4 +42,18 @@ public class MvcConfig implements WebMvcConfigurer {
     public HiddenHttpMethodFilter hiddenHttpMethodFilter() {
         return new HiddenHttpMethodFilter();
     }
+
+    /**
+     * 기본 비동기 실행기
+     *  - fileCleanupExecutor 등 별도 실행기를 등록하면 스프링 부트의 applicationTaskExecutor 자동 설정이 꺼지므로 직접 등록
+     *  - 이름 없는 @Async, MVC 비동기 요청 처리에 사용, spring.task.execution.* 설정 그대로 적용
+     *
+     * @param builder
+     * @return
+     */
+    @Primary
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
 }
@@ -0,0 +1,22 @@
+package org.koreait.global.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 실행 횟수 제한
+ *
+ * query.budget.enforce=true
+ * query.budget.endpoints[/board/list/{bid}]=10
+ */
+@Data
+@ConfigurationProperties(prefix="query.budget")
+public class QueryBudgetProperties {
+    private boolean enforce; // true - 제한 초과시 예외 발생(테스트), false - 경고 로그만 출력
+    private int repeatThreshold = 5; // 같은 형태의 SQL 이 이 횟수만큼 반복되면 N+1 로 판단
+    private int defaultLimit = -1; // 주소 패턴별 제한이 없을때 기본 제한, -1 이면 제한 없음
+    private Map<String, Integer> endpoints = new HashMap<>(); // 주소 패턴(@GetMapping 경로)별 제한
+}
@@ -0,0 +1,86 @@
+package org.koreait.global.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.koreait.global.datasource.ReplicaLagMonitor;
+import org.koreait.global.datasource.ReplicaRoutingContext;
+import org.koreait.global.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 복제 DB 라우팅
+ *  - datasource.replica.enabled=true 인 경우만 적용, 아니면 기존처럼 spring.datasource 하나만 사용
+ *  - primary : spring.datasource(설정 서버), 복제 DB : datasource.replica
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        if (StringUtils.hasText(properties.getDriverClassName())) {
+            dataSource.setDriverClassName(properties.getDriverClassName());
+        }
+
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingContext replicaRoutingContext(ReplicaProperties properties) {
+        return new ReplicaRoutingContext(properties);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               ReplicaProperties properties, MeterRegistry registry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, properties);
+
+        Gauge.builder("datasource.replica.lag", monitor, m -> m.getLagMillis() / 1000.0)
+                .description("복제 지연(초), 측정 실패시 -1")
+                .baseUnit("seconds")
+                .register(registry);
+
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaRoutingContext context, ReplicaLagMonitor monitor) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(context, monitor);
+        routing.setTargetDataSources(Map.<Object, Object>of(ReplicaRoutingDataSource.PRIMARY, primary, ReplicaRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,24 @@
+package org.koreait.global.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 복제 DB 설정
+ *  - enabled 가 true 인 경우만 @Transactional(readOnly = true) 작업을 복제 DB 로 보낸다
+ *  - primary 는 spring.datasource 설정을 그대로 사용
+ */
+@Data
+@ConfigurationProperties(prefix="datasource.replica")
+public class ReplicaProperties {
+    private boolean enabled; // 복제 DB 사용 여부
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private int maximumPoolSize = 10;
+
+    private long stickySeconds = 5; // 쓰기 후 같은 세션은 primary 에서 읽는 시간(read-your-writes)
+    private long maxLagSeconds = 10; // 허용 복제 지연 시간, 넘으면 primary 에서 읽는다
+    private long heartbeatMillis = 1000; // 복제 지연 측정 주기
+}
@@ -0,0 +1,17 @@
+package org.koreait.global.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 예약 작업 클러스터 잠금 설정
+ */
+@Data
+@ConfigurationProperties(prefix="scheduler.lock")
+public class SchedulerProperties {
+    private String nodeId; // 서버 구분, 없으면 호스트명-프로세스번호
+    private long leaseSeconds = 300L; // 기본 임대 시간, 실행 중에는 1/3 주기로 연장
+    private int historyDays = 30; // 실행 이력 보관 일수
+    private int historyLimit = 100; // 관리자 화면에 출력할 최근 실행 이력 수
+    private String purgeCron = "0 0 4 * * *"; // 실행 이력 정리 주기
+}
@@ -4,12 +4,14 @@ import org.koreait.member.services.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 /**
  * 스프링 시큐리티 설정
@@ -22,6 +24,9 @@ public class SecurityConfig {
     @Autowired
     private MemberInfoService memberInfoService;
 
+    @Autowired
+    private Environment environment;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -56,6 +61,10 @@ public class SecurityConfig {
             c.requestMatchers("/mypage/**", "/message/**").authenticated() // 인증한 회원
                     .requestMatchers("/member/login", "/member/join", "/member/agree").anonymous() // 미인증 회원
                     .requestMatchers("/admin/**").hasAnyAuthority("MANAGER", "ADMIN") // 관리자 페이지는 MANAGER, ADMIN 권한
+                    .requestMatchers("/api/dl/train/**").hasAnyAuthority("MANAGER", "ADMIN") // 모델 훈련 실행, 취소
+                    .requestMatchers(managementPort()).permitAll() // 관리 포트(내부망에만 바인딩)로 들어온 지표 수집 요청
+                    .requestMatchers("/actuator/health").permitAll()
+                    .requestMatchers("/actuator/**").hasAuthority("ADMIN") // 서비스 포트로는 최고 관리자만
                     .anyRequest().permitAll(); // 나머지 페이지는 모두 접근 가능
         });
 
@@ -81,6 +90,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 관리 포트(management.server.port)로 들어온 요청
+     *  - 요청 IP는 같은 서버의 리버스 프록시를 거치면 항상 127.0.0.1 이므로 접속한 포트로 구분
+     *  - 관리 포트는 management.server.address 로 내부망에만 바인딩, 실제 포트는 서버 시작 후 local.management.port 에 기록됨
+     *
+     * @return
+     */
+    private RequestMatcher managementPort() {
+        return request -> String.valueOf(request.getLocalPort()).equals(environment.getProperty("local.management.port"));
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
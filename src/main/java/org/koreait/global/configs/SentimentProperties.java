@@ -0,0 +1,20 @@
+package org.koreait.global.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 감정 분석 결과 캐시, 댓글 일괄 분석 설정
+ */
+@Data
+@ConfigurationProperties(prefix="dl.sentiment")
+public class SentimentProperties {
+    private String modelVersion; // 캐시 키에 붙는 모델 버전, 없으면 python.bert.path 아래 모델 파일 내용의 해시로 생성
+    private int cacheSize = 10000; // 서버별 캐시 최대 건수(오래 사용하지 않은 결과부터 제거)
+    private Duration cacheTtl = Duration.ofDays(7L); // 캐시 유효 시간(서버, Redis 공통)
+    private int batchSize = 20; // 한번에 분석할 댓글 수
+    private long batchDelay = 2000L; // 분석 대기 댓글 확인 주기(ms), batchSize 가 차면 바로 분석
+    private int backfillLimit = 200; // 미분석 댓글 보충 작업 1회 처리 건수
+}
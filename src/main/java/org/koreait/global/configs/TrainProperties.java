@@ -0,0 +1,19 @@
+package org.koreait.global.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 모델 훈련 작업 설정
+ */
+@Data
+@ConfigurationProperties(prefix="dl.train")
+public class TrainProperties {
+    private long timeoutSeconds = 7200L; // 훈련 제한 시간, 초과하면 프로세스 종료
+    private long stopGraceSeconds = 10L; // 종료 요청 후 강제 종료까지 대기 시간
+    private int logLines = 500; // 작업별 보관할 출력 줄 수(최근 출력만 유지)
+    private int history = 20; // 상태 조회가 가능한 최근 작업 수
+    private String modelPath; // 모델 버전 저장 경로, 없으면 python.script.path 아래 models
+    private int keepVersions = 3; // 보관할 모델 버전 수(현재 버전 포함)
+    private long lockSeconds = 60L; // 클러스터 훈련 잠금 임대 시간, 실행 중에는 주기적으로 연장
+}
@@ -0,0 +1,7 @@
+package org.koreait.global.constants;
+
+public enum JobStatus {
+    RUNNING, // 실행 중
+    SUCCESS, // 완료
+    FAIL // 실패
+}
@@ -0,0 +1,62 @@
+package org.koreait.global.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.global.configs.ReplicaProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 복제 지연 측정
+ *  - primary 의 replica_heartbeat 에 현재 시각을 기록하고, 복제 DB 에 반영된 시각과 비교
+ *  - 지연이 maxLagSeconds 를 넘거나 복제 DB 에 접속할 수 없으면 읽기도 primary 사용
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final ReplicaProperties properties;
+
+    @Getter
+    private volatile boolean available; // 복제 DB 사용 가능 여부 - 처음 측정 전에는 사용하지 않음
+
+    @Getter
+    private volatile long lagMillis = -1L; // 마지막으로 측정한 복제 지연, 측정 실패시 -1
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, ReplicaProperties properties) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.heartbeat-millis:1000}")
+    public void check() {
+        try {
+            long now = System.currentTimeMillis();
+            if (primary.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+                primary.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", now);
+            }
+
+            Long beatAt = replica.queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Long.class);
+            lagMillis = beatAt == null ? -1L : Math.max(0L, now - beatAt);
+
+            boolean available = lagMillis >= 0L && lagMillis <= properties.getMaxLagSeconds() * 1000L;
+            if (this.available && !available) {
+                log.warn("복제 지연 {}ms - 읽기 작업을 primary 로 전환", lagMillis);
+            }
+
+            this.available = available;
+
+        } catch (Exception e) {
+            if (available) {
+                log.warn("복제 DB 확인 실패 - 읽기 작업을 primary 로 전환", e);
+            }
+
+            lagMillis = -1L;
+            available = false;
+        }
+    }
+}
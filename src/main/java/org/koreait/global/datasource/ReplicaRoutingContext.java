@@ -0,0 +1,100 @@
+package org.koreait.global.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.koreait.global.configs.ReplicaProperties;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 쓰기 후 읽기 일관성(read-your-writes)
+ *  - 쓰기 트랜잭션이 커밋되면 기록하고, stickySeconds 동안 같은 사용자의 읽기는 primary 사용
+ *  - 현재 요청 : 요청 속성, 이후 요청 : 세션이 있으면 세션(Redis 에 저장되므로 다른 서버로 가도 유지), 없으면 짧은 쿠키
+ *  - 비회원 쓰기 때문에 세션을 새로 만들지 않는다 - 세션 생성은 Redis 쓰기와 Set-Cookie 가 함께 발생
+ *  - 요청이 없는 작업(스케줄러 등)은 적용하지 않음
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingContext {
+
+    private static final String STICKY_UNTIL = "replica_sticky_until";
+
+    private final ReplicaProperties properties;
+
+    public void markWrite() {
+        ServletRequestAttributes attributes = getAttributes();
+        if (attributes == null || properties.getStickySeconds() < 1L) {
+            return;
+        }
+
+        long until = System.currentTimeMillis() + properties.getStickySeconds() * 1000L;
+
+        HttpServletRequest request = attributes.getRequest();
+        request.setAttribute(STICKY_UNTIL, until);
+
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.setAttribute(STICKY_UNTIL, until);
+            return;
+        }
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(STICKY_UNTIL, String.valueOf(until));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int)properties.getStickySeconds());
+            response.addCookie(cookie);
+        }
+    }
+
+    public boolean isSticky() {
+        ServletRequestAttributes attributes = getAttributes();
+        if (attributes == null) {
+            return false;
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        long now = System.currentTimeMillis();
+        if (isAfter(request.getAttribute(STICKY_UNTIL), now)) {
+            return true;
+        }
+
+        HttpSession session = request.getSession(false);
+        if (session != null && isAfter(session.getAttribute(STICKY_UNTIL), now)) {
+            return true;
+        }
+
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+
+        long max = now + properties.getStickySeconds() * 1000L; // 쿠키 값은 조작할 수 있으므로 최대 stickySeconds 까지만 인정
+        for (Cookie cookie : cookies) {
+            if (STICKY_UNTIL.equals(cookie.getName())) {
+                try {
+                    long until = Long.parseLong(cookie.getValue());
+                    return until > now && until <= max;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isAfter(Object until, long now) {
+        return until instanceof Long value && value > now;
+    }
+
+    private ServletRequestAttributes getAttributes() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes : null;
+    }
+}
@@ -0,0 +1,45 @@
+package org.koreait.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 종류에 따라 primary, 복제 DB 선택
+ *  - @Transactional(readOnly = true) : 복제 DB, 단 쓰기 직후 세션이거나 복제 지연이 크면 primary
+ *  - 그 외(쓰기 트랜잭션, 트랜잭션 없음) : primary
+ *  - 트랜잭션 속성이 정해진 뒤에 선택하도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaRoutingContext context;
+    private final ReplicaLagMonitor monitor;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 쓰기 트랜잭션 - 커밋 후 일정 시간 같은 세션의 읽기도 primary 사용
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        context.markWrite();
+                    }
+                });
+            }
+
+            return PRIMARY;
+        }
+
+        return context.isSticky() || !monitor.isAvailable() ? PRIMARY : REPLICA;
+    }
+}
@@ -0,0 +1,29 @@
+package org.koreait.global.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 잠금 - 작업별 한 행, lockedUntil 이 지나면 다른 서버가 가져갈 수 있다
+ */
+@Data
+@Entity
+public class JobLock implements Serializable {
+    @Id
+    @Column(length=60)
+    private String name; // 작업 이름
+
+    @Column(length=100, nullable = false)
+    private String lockedBy; // 잠금을 가진 서버
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt; // 잠금 시작 일시
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil; // 임대 만료 일시
+}
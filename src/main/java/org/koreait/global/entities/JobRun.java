@@ -0,0 +1,39 @@
+package org.koreait.global.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.koreait.global.constants.JobStatus;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 실행 이력
+ */
+@Data
+@Entity
+@Table(indexes = @Index(name="idx_job_run_started_at", columnList = "startedAt DESC"))
+public class JobRun implements Serializable {
+    @Id @GeneratedValue
+    private Long seq;
+
+    @Column(length=60, nullable = false)
+    private String name; // 작업 이름
+
+    @Column(length=100, nullable = false)
+    private String nodeId; // 실행한 서버
+
+    @Enumerated(EnumType.STRING)
+    @Column(length=10, nullable = false)
+    private JobStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt; // 시작 일시
+
+    private LocalDateTime endedAt; // 종료 일시
+
+    private Long elapsed; // 실행 시간(ms)
+
+    @Column(length=255)
+    private String message; // 실패 사유
+}
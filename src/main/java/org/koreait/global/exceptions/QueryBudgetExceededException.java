@@ -0,0 +1,13 @@
+package org.koreait.global.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 요청별 SQL 실행 횟수 제한 초과
+ *
+ */
+public class QueryBudgetExceededException extends CommonException {
+    public QueryBudgetExceededException(String message) {
+        super(message, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
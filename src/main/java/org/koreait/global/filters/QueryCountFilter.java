@@ -0,0 +1,78 @@
+package org.koreait.global.filters;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.global.configs.QueryBudgetProperties;
+import org.koreait.global.exceptions.QueryBudgetExceededException;
+import org.koreait.global.libs.QueryCounter;
+import org.koreait.global.libs.QueryStats;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 요청별 SQL 실행 횟수 집계, 제한 확인
+ *  - 템플릿 출력 중 지연 로딩까지 포함
+ *  - hibernate.statements.per.request{uri=주소 패턴} 지표 기록
+ *  - 트랜잭션 커밋 횟수는 transaction.commits.per.request{uri=주소 패턴} 지표로 기록
+ *  - 주소 패턴별 제한(query.budget.endpoints)을 넘으면 경고, enforce=true 이면 예외 발생
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final QueryCounter queryCounter;
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry registry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        queryCounter.start();
+
+        QueryStats stats;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats = queryCounter.stop();
+        }
+
+        if (stats == null) return;
+
+        String uri = Objects.toString(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), "UNKNOWN");
+
+        DistributionSummary.builder("hibernate.statements.per.request")
+                .description("요청당 SQL 실행 횟수")
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.getTotal());
+
+        DistributionSummary.builder("transaction.commits.per.request")
+                .description("요청당 트랜잭션 커밋 횟수")
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.getCommits());
+
+        int limit = properties.getEndpoints().getOrDefault(uri, properties.getDefaultLimit());
+        if (limit < 0 || stats.getTotal() <= limit) return;
+
+        String message = String.format("SQL 실행 횟수 초과 - %s %s : %d회(제한 %d회), 반복 SQL: %s",
+                request.getMethod(), uri, stats.getTotal(), limit, stats.getRepeated());
+
+        if (properties.isEnforce()) {
+            throw new QueryBudgetExceededException(message);
+        }
+
+        log.warn(message);
+    }
+}
@@ -0,0 +1,114 @@
+package org.koreait.global.libs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.koreait.global.configs.QueryBudgetProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 단위 SQL 실행 횟수, N+1 감지
+ *  - Hibernate 가 SQL 을 준비할 때마다 호출(StatementInspector), SQL 은 변경하지 않는다.
+ *  - start() ~ stop() 사이에 현재 스레드에서 실행된 SQL 을 형태별로 센다.
+ *  - 같은 형태의 SQL 이 repeatThreshold 만큼 반복되면 호출 위치와 함께 경고 로그 출력
+ *  - 트랜잭션 커밋 횟수도 함께 센다(commitListener, DbConfig 에서 트랜잭션 매니저에 등록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryCounter implements StatementInspector {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LITERAL = Pattern.compile("'(?:[^']|'')*'|\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final QueryBudgetProperties properties;
+    private final ThreadLocal<QueryStats> stats = new ThreadLocal<>();
+
+    // 새로 시작한 트랜잭션의 커밋만 집계 - 참여한 트랜잭션은 바깥 트랜잭션과 함께 커밋
+    private final TransactionExecutionListener commitListener = new TransactionExecutionListener() {
+        @Override
+        public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+            QueryStats current = stats.get();
+            if (current != null && commitFailure == null && transaction.isNewTransaction()) {
+                current.addCommit();
+            }
+        }
+    };
+
+    @Override
+    public String inspect(String sql) {
+        QueryStats current = stats.get();
+        if (current == null) {
+            return sql;
+        }
+
+        String shape = shape(sql);
+        int count = current.add(sql, shape);
+        if (count == properties.getRepeatThreshold()) {
+            current.addRepeated(shape);
+            log.warn("N+1 의심 - 같은 SQL {}회 반복 실행: {}\n\tat {}", count, shape, caller());
+        }
+
+        return sql;
+    }
+
+    public TransactionExecutionListener getCommitListener() {
+        return commitListener;
+    }
+
+    public void start() {
+        start(false);
+    }
+
+    /**
+     * 집계 시작
+     *
+     * @param capture : 실행한 SQL 원문도 보관 - 실행 계획 확인 등 테스트에서 사용
+     */
+    public void start(boolean capture) {
+        stats.set(new QueryStats(capture));
+    }
+
+    /**
+     * 집계 종료
+     *
+     * @return 집계 중이 아니면 null
+     */
+    public QueryStats stop() {
+        QueryStats current = stats.get();
+        stats.remove();
+
+        return current;
+    }
+
+    /**
+     * SQL 형태 - 공백, 리터럴, IN 목록 길이를 정규화해서 값만 다른 SQL 을 같은 형태로 본다.
+     *
+     * @param sql
+     * @return
+     */
+    String shape(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = LITERAL.matcher(shape).replaceAll("?");
+
+        return IN_LIST.matcher(shape).replaceAll("(?)");
+    }
+
+    // SQL 을 실행하게 만든 애플리케이션 코드 위치
+    private String caller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith("org.koreait.") && !f.getClassName().startsWith(QueryCounter.class.getName()))
+                .limit(10)
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .map(StackTraceElement::toString)
+                .collect(Collectors.joining("\n\tat ")));
+    }
+}
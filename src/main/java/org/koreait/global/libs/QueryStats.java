@@ -0,0 +1,56 @@
+package org.koreait.global.libs;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 하나에서 실행된 SQL, 트랜잭션 커밋 집계
+ */
+@Getter
+@ToString
+public class QueryStats {
+    private long total; // 전체 실행 횟수
+    private long commits; // 트랜잭션 커밋 횟수
+    private final Map<String, Integer> shapes = new HashMap<>(); // SQL 형태별 실행 횟수
+    private final Set<String> repeated = new LinkedHashSet<>(); // 반복 실행된(N+1 의심) SQL 형태
+
+    @ToString.Exclude
+    private final List<String> statements; // 실행한 SQL 원문 - QueryCounter.start(true) 인 경우만 보관, 아니면 null
+
+    QueryStats() {
+        this(false);
+    }
+
+    QueryStats(boolean capture) {
+        statements = capture ? new ArrayList<>() : null;
+    }
+
+    /**
+     * @param sql : 실행한 SQL 원문
+     * @param shape
+     * @return 해당 형태의 누적 실행 횟수
+     */
+    int add(String sql, String shape) {
+        total++;
+        if (statements != null) {
+            statements.add(sql);
+        }
+
+        return shapes.merge(shape, 1, Integer::sum);
+    }
+
+    void addCommit() {
+        commits++;
+    }
+
+    void addRepeated(String shape) {
+        repeated.add(shape);
+    }
+}
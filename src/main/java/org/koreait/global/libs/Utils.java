@@ -171,23 +171,86 @@ public class Utils {
                 imageUrl = String.format("%s/api/file/thumb?url=%s&width=%d&height=%d", request.getContextPath(), url, width, height);
             }
 
-            if (!StringUtils.hasText(imageUrl)) {
-                imageUrl = String.format("%s/common/images/no_image.png", request.getContextPath());
-            }
-
-            mode = Objects.requireNonNullElse(mode, "image");
-            className = Objects.requireNonNullElse(className, "image");
-            if (mode.equals("background")) { // 배경 이미지
-
-                return String.format("<div style='width: %dpx; height: %dpx; background:url(\"%s\") no-repeat center center; background-size:cover;' class='%s'%s></div>", width, height, imageUrl, className, seq != null && seq > 0L ? "data-seq='" + seq + "'":"");
-            } else { // 이미지 태그
-                return String.format("<img src='%s' class='%s'>", imageUrl, className);
-            }
+            return renderImage(seq, imageUrl, width, height, mode, className);
         } catch (Exception e) {}
 
         return "";
     }
 
+    /**
+     * 이미지 출력 - 파일 정보가 이미 있는 경우(목록의 대표 이미지 등), DB 조회 없음
+     *
+     * @param item
+     * @param width
+     * @param height
+     * @param className
+     * @return
+     */
+    public String showFileImage(FileInfo item, int width, int height, String className) {
+        return showFileImage(item, width, height, "image", className);
+    }
+
+    public String showFileBackground(FileInfo item, int width, int height, String className) {
+        return showFileImage(item, width, height, "background", className);
+    }
+
+    public String showFileImage(FileInfo item, int width, int height, String mode, String className) {
+        if (item == null) {
+            return showImage(null, getUrl("/common/images/no_image.png"), width, height, mode, className);
+        }
+
+        if (!item.isImage()) {
+            return "";
+        }
+
+        fileInfoService.addInfo(item);
+        String imageUrl = String.format("%s&width=%d&height=%d", item.getThumbUrl(), width, height);
+
+        return renderImage(item.getSeq(), imageUrl, width, height, mode, className);
+    }
+
+    /**
+     * 이미지 출력 - 이미지 파일 번호만 알고 있는 경우(게시글 목록 이미지 등), DB 조회 없음
+     *
+     * @param seq : 이미지 파일 번호, 없으면 기본 이미지
+     * @param width
+     * @param height
+     * @param className
+     * @return
+     */
+    public String showThumbImage(Long seq, int width, int height, String className) {
+        return showThumbImage(seq, width, height, "image", className);
+    }
+
+    public String showThumbBackground(Long seq, int width, int height, String className) {
+        return showThumbImage(seq, width, height, "background", className);
+    }
+
+    public String showThumbImage(Long seq, int width, int height, String mode, String className) {
+        if (seq == null || seq < 1L) {
+            return showImage(null, getUrl("/common/images/no_image.png"), width, height, mode, className);
+        }
+
+        String imageUrl = String.format("%s&width=%d&height=%d", fileInfoService.getThumbUrl(seq), width, height);
+
+        return renderImage(seq, imageUrl, width, height, mode, className);
+    }
+
+    private String renderImage(Long seq, String imageUrl, int width, int height, String mode, String className) {
+        if (!StringUtils.hasText(imageUrl)) {
+            imageUrl = String.format("%s/common/images/no_image.png", request.getContextPath());
+        }
+
+        mode = Objects.requireNonNullElse(mode, "image");
+        className = Objects.requireNonNullElse(className, "image");
+        if (mode.equals("background")) { // 배경 이미지
+
+            return String.format("<div style='width: %dpx; height: %dpx; background:url(\"%s\") no-repeat center center; background-size:cover;' class='%s'%s></div>", width, height, imageUrl, className, seq != null && seq > 0L ? "data-seq='" + seq + "'":"");
+        } else { // 이미지 태그
+            return String.format("<img src='%s' class='%s'>", imageUrl, className);
+        }
+    }
+
     /**
      * 메세지를 세션쪽에 저장해서 임시 팝업으로 띄운다.
      *
@@ -229,7 +292,7 @@ public class Utils {
     // 회원, 비회원 구분 해시
     public int getMemberHash() {
         // 회원 - 회원번호, 비회원 - IP + User-Agent
-        if (memberUtil.isLogin()) return Objects.hash(memberUtil.getMember().getSeq());
+        if (memberUtil.isLogin()) return Objects.hash(memberUtil.getSnapshot().getSeq());
         else { // 비회원
             String ip = request.getRemoteAddr();
             String ua = request.getHeader("User-Agent");
@@ -0,0 +1,31 @@
+package org.koreait.global.repositories;
+
+import org.koreait.global.entities.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // 만료된 잠금 가져오기 - 가져온 경우 1
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedBy = :node, l.lockedAt = :now, l.lockedUntil = :until WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("node") String node, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // 처음 실행하는 작업 - 동시에 등록하면 기본키 중복으로 한 곳만 성공
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO job_lock (name, locked_by, locked_at, locked_until) VALUES (:name, :node, :now, :until)", nativeQuery = true)
+    int insert(@Param("name") String name, @Param("node") String node, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // 임대 시간 연장, 해제 - 잠금을 가진 서버만 가능
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :until WHERE l.name = :name AND l.lockedBy = :node")
+    int extend(@Param("name") String name, @Param("node") String node, @Param("until") LocalDateTime until);
+}
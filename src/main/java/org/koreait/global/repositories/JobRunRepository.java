@@ -0,0 +1,8 @@
+package org.koreait.global.repositories;
+
+import org.koreait.global.entities.JobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+
+public interface JobRunRepository extends JpaRepository<JobRun, Long>, QuerydslPredicateExecutor<JobRun> {
+}
@@ -0,0 +1,127 @@
+package org.koreait.global.scheduling;
+
+import org.koreait.global.configs.SchedulerProperties;
+import org.koreait.global.entities.JobLock;
+import org.koreait.global.repositories.JobLockRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.domain.Sort.Order.asc;
+
+/**
+ * 예약 작업 클러스터 잠금(DB)
+ *  - 작업별 한 행, 임대 만료(lockedUntil)가 지난 잠금만 UPDATE 로 가져간다 - 행 하나의 UPDATE 이므로 한 서버만 성공
+ *  - 만료 시각은 각 서버의 시계 기준, 서버간 시계 차이보다 임대 시간이 충분히 길어야 한다
+ */
+@Lazy
+@Service
+@EnableConfigurationProperties(SchedulerProperties.class)
+public class JobLockService {
+
+    private final JobLockRepository repository;
+    private final String nodeId;
+
+    public JobLockService(JobLockRepository repository, SchedulerProperties properties) {
+        this.repository = repository;
+        this.nodeId = StringUtils.hasText(properties.getNodeId()) ? properties.getNodeId() : defaultNodeId();
+    }
+
+    /**
+     * 잠금 얻기
+     *
+     * @param name : 작업 이름
+     * @param node : 서버 구분
+     * @param lease : 임대 시간
+     * @return 잠금을 얻은 경우 true
+     */
+    public boolean tryLock(String name, String node, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lease);
+        if (repository.acquire(name, node, now, until) > 0) {
+            return true;
+        }
+
+        if (repository.existsById(name)) { // 다른 서버에서 실행 중
+            return false;
+        }
+
+        try {
+            return repository.insert(name, node, now, until) > 0;
+        } catch (DataIntegrityViolationException e) { // 동시에 처음 실행 - 다른 서버가 먼저 등록
+            return false;
+        }
+    }
+
+    public boolean tryLock(String name, Duration lease) {
+        return tryLock(name, nodeId, lease);
+    }
+
+    /**
+     * 임대 시간 연장 - 실행 중인 작업
+     *
+     * @return 잠금을 잃은 경우(임대 만료 후 다른 서버가 가져감) false
+     */
+    public boolean renew(String name, String node, Duration lease) {
+        return repository.extend(name, node, LocalDateTime.now().plus(lease)) > 0;
+    }
+
+    public boolean renew(String name, Duration lease) {
+        return renew(name, nodeId, lease);
+    }
+
+    /**
+     * 잠금 해제 - 만료 시각을 현재로 변경, 다음 실행시 어느 서버든 가져갈 수 있다
+     *
+     * @param atLeastUntil : 최소 잠금 유지 시각 - 현재보다 뒤면 그 시각까지 잠금 유지
+     */
+    public void unlock(String name, String node, LocalDateTime atLeastUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        repository.extend(name, node, atLeastUntil != null && atLeastUntil.isAfter(now) ? atLeastUntil : now);
+    }
+
+    public void unlock(String name, String node) {
+        unlock(name, node, null);
+    }
+
+    public void unlock(String name, LocalDateTime atLeastUntil) {
+        unlock(name, nodeId, atLeastUntil);
+    }
+
+    public void unlock(String name) {
+        unlock(name, nodeId, null);
+    }
+
+    /**
+     * 작업별 잠금 현황
+     *
+     * @return
+     */
+    public List<JobLock> getList() {
+        return repository.findAll(Sort.by(asc("name")));
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+
+        return host + "-" + ProcessHandle.current().pid();
+    }
+}
@@ -0,0 +1,142 @@
+package org.koreait.global.scheduling;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.koreait.global.annotations.SchedulerLock;
+import org.koreait.global.configs.SchedulerProperties;
+import org.koreait.global.constants.JobStatus;
+import org.koreait.global.entities.JobRun;
+import org.koreait.global.entities.QJobRun;
+import org.koreait.global.repositories.JobRunRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import static org.springframework.data.domain.Sort.Order.desc;
+
+/**
+ * 예약 작업 실행 이력
+ *  - 실행 시간은 scheduler.job{job=작업 이름, status=SUCCESS|FAIL} 지표로도 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobRunService {
+
+    private final JobRunRepository repository;
+    private final JPAQueryFactory queryFactory;
+    private final SchedulerProperties properties;
+    private final MeterRegistry registry;
+
+    /**
+     * 실행 시작 기록
+     *
+     * @param name
+     * @param node
+     * @return
+     */
+    public JobRun start(String name, String node) {
+        JobRun item = new JobRun();
+        item.setName(name);
+        item.setNodeId(node);
+        item.setStatus(JobStatus.RUNNING);
+        item.setStartedAt(LocalDateTime.now());
+
+        return repository.save(item);
+    }
+
+    /**
+     * 실행 종료 기록
+     *
+     * @param item
+     * @param error : 실패한 경우 예외
+     */
+    public void finish(JobRun item, Throwable error) {
+        LocalDateTime endedAt = LocalDateTime.now();
+        long elapsed = Duration.between(item.getStartedAt(), endedAt).toMillis();
+        JobStatus status = error == null ? JobStatus.SUCCESS : JobStatus.FAIL;
+
+        item.setEndedAt(endedAt);
+        item.setElapsed(elapsed);
+        item.setStatus(status);
+        if (error != null) {
+            String message = Objects.requireNonNullElse(error.getMessage(), error.getClass().getName());
+            item.setMessage(StringUtils.truncate(message, 255));
+        }
+
+        repository.save(item);
+
+        Timer.builder("scheduler.job")
+                .description("예약 작업 실행 시간")
+                .tag("job", item.getName())
+                .tag("status", status.name())
+                .register(registry)
+                .record(Duration.ofMillis(elapsed));
+    }
+
+    /**
+     * 최근 실행 이력
+     *
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<JobRun> getList() {
+        return repository.findAll(PageRequest.of(0, properties.getHistoryLimit(), Sort.by(desc("startedAt")))).getContent();
+    }
+
+    /**
+     * 작업별 실행 시간 요약
+     *
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<JobSummary> getSummaries() {
+        QJobRun jobRun = QJobRun.jobRun;
+
+        List<Tuple> items = queryFactory.select(jobRun.name, jobRun.count(),
+                        jobRun.status.when(JobStatus.FAIL).then(1L).otherwise(0L).sum(),
+                        jobRun.elapsed.avg(), jobRun.elapsed.max(), jobRun.startedAt.max())
+                .from(jobRun)
+                .where(jobRun.status.ne(JobStatus.RUNNING))
+                .groupBy(jobRun.name)
+                .orderBy(jobRun.name.asc())
+                .fetch();
+
+        return items.stream().map(t -> new JobSummary(
+                t.get(jobRun.name),
+                Objects.requireNonNullElse(t.get(1, Long.class), 0L),
+                Objects.requireNonNullElse(t.get(2, Long.class), 0L),
+                Math.round(Objects.requireNonNullElse(t.get(3, Double.class), 0D)),
+                Objects.requireNonNullElse(t.get(4, Long.class), 0L),
+                t.get(5, LocalDateTime.class))).toList();
+    }
+
+    /**
+     * 보관 기간이 지난 실행 이력 삭제 - 매일 새벽 4시, 한 서버에서만 실행
+     */
+    @Scheduled(cron = "${scheduler.lock.purge-cron:0 0 4 * * *}")
+    @SchedulerLock(name = "scheduler-history-purge", lockAtLeastSeconds = 60L)
+    @Transactional
+    public void purge() {
+        QJobRun jobRun = QJobRun.jobRun;
+        long total = queryFactory.delete(jobRun)
+                .where(jobRun.startedAt.before(LocalDateTime.now().minusDays(properties.getHistoryDays())))
+                .execute();
+
+        if (total > 0L) {
+            log.info("예약 작업 실행 이력 정리 - {}건", total);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.koreait.global.scheduling;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작업별 실행 시간 요약 - 보관 기간(scheduler.lock.history-days) 내 완료된 실행 기준
+ *
+ * @param name : 작업 이름
+ * @param count : 실행 횟수
+ * @param failCount : 실패 횟수
+ * @param avgElapsed : 평균 실행 시간(ms)
+ * @param maxElapsed : 최대 실행 시간(ms)
+ * @param lastStartedAt : 마지막 실행 일시
+ */
+public record JobSummary(String name, long count, long failCount, long avgElapsed, long maxElapsed, LocalDateTime lastStartedAt) {
+}
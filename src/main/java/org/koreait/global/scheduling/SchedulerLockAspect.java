@@ -0,0 +1,103 @@
+package org.koreait.global.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.koreait.global.annotations.SchedulerLock;
+import org.koreait.global.configs.SchedulerProperties;
+import org.koreait.global.entities.JobRun;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @SchedulerLock 작업 실행
+ *  - 잠금을 얻은 경우만 실행, 실행 이력 기록
+ *  - 실행 중에는 임대 시간의 1/3 주기로 연장 - 예약 작업 스레드와 별도 스레드에서 연장하므로 오래 걸리는 작업도 잠금 유지
+ *  - 종료시 해제, lockAtLeastSeconds 가 있으면 시작 시각 + lockAtLeastSeconds 까지는 유지
+ *  - 종료 표시 후 해제 - 진행 중인 연장이 끝날 때까지 기다리므로 해제 이후에 늦게 실행된 연장이 임대 시간을 늘리지 않는다
+ *  - 트랜잭션보다 먼저 적용(잠금 -> 트랜잭션 -> 작업)
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SchedulerLockAspect {
+
+    private final JobLockService lockService;
+    private final JobRunService runService;
+    private final SchedulerProperties properties;
+    private final MeterRegistry registry;
+
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "scheduler-lock-renew");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Around("@annotation(schedulerLock)")
+    public Object process(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock) throws Throwable {
+        String name = schedulerLock.name();
+        LocalDateTime startedAt = LocalDateTime.now();
+        Duration lease = Duration.ofSeconds(schedulerLock.leaseSeconds() > 0L ? schedulerLock.leaseSeconds() : properties.getLeaseSeconds());
+
+        if (!lockService.tryLock(name, lease)) { // 다른 서버에서 실행 중
+            log.debug("예약 작업 건너뜀 - {} : 다른 서버에서 실행 중", name);
+            registry.counter("scheduler.job.skipped", "job", name).increment();
+            return null;
+        }
+
+        long period = Math.max(lease.toMillis() / 3L, 1000L);
+        AtomicBoolean finished = new AtomicBoolean(); // 연장 작업과 해제가 함께 사용하는 종료 표시
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> {
+            synchronized (finished) {
+                if (finished.get()) return; // 이미 종료 - 취소 전에 실행이 시작된 연장
+
+                try {
+                    if (!lockService.renew(name, lease)) {
+                        log.warn("예약 작업 잠금 유실 - {} : 임대 시간이 지나 다른 서버가 가져감", name);
+                    }
+                } catch (Exception e) {
+                    log.warn("예약 작업 임대 연장 실패 - {}", name, e);
+                }
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+
+        JobRun run = null;
+        try {
+            run = runService.start(name, lockService.getNodeId());
+            Object result = joinPoint.proceed();
+            runService.finish(run, null);
+
+            return result;
+        } catch (Throwable e) {
+            if (run != null) runService.finish(run, e);
+            throw e;
+        } finally {
+            renewal.cancel(false);
+            synchronized (finished) { // 진행 중인 연장이 있으면 끝날 때까지 대기
+                finished.set(true);
+            }
+
+            lockService.unlock(name, startedAt.plusSeconds(schedulerLock.lockAtLeastSeconds()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+}
@@ -7,8 +7,12 @@ import org.koreait.global.entities.CodeValue;
 import org.koreait.global.repositories.CodeValueRepository;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Lazy
 @Service
@@ -37,6 +41,40 @@ public class CodeValueService {
         } catch (JsonProcessingException e) {}
     }
 
+    /**
+     * 여러 코드를 한번에 저장
+     *  - IN 조회 한번 후 JDBC 배치로 INSERT, UPDATE
+     *
+     * @param values : 코드, 값
+     */
+    @Transactional
+    public void saveAll(Map<String, ?> values) {
+        if (values == null || values.isEmpty()) return;
+
+        Map<String, CodeValue> items = repository.findAllById(values.keySet()).stream()
+                .collect(Collectors.toMap(CodeValue::getCode, c -> c));
+
+        List<CodeValue> newItems = new ArrayList<>();
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            try {
+                String json = om.writeValueAsString(entry.getValue());
+
+                CodeValue item = items.get(entry.getKey());
+                if (item == null) {
+                    newItems.add(new CodeValue(entry.getKey(), json));
+                } else {
+                    item.setValue(json);
+                }
+            } catch (JsonProcessingException e) {}
+        }
+
+        if (!newItems.isEmpty()) {
+            repository.saveAll(newItems);
+        }
+
+        repository.flush();
+    }
+
     public <R> R get(String code, Class<R> cls) {
         CodeValue item = repository.findById(code).orElse(null);
 
@@ -56,8 +94,12 @@ public class CodeValueService {
         remove(List.of(code));
     }
 
+    /**
+     * DELETE ... WHERE _CODE IN (...) 한번으로 삭제
+     *
+     * @param codes
+     */
     public void remove(List<String> codes) {
-        repository.deleteAllById(codes);
-        repository.flush();
+        repository.deleteAllByIdInBatch(codes);
     }
 }
@@ -3,7 +3,6 @@ package org.koreait.member;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
-import org.koreait.member.entities.Member;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -15,10 +14,16 @@ import java.util.Collection;
 @ToString
 public class MemberInfo implements UserDetails {
 
+    /**
+     * 인증 정보는 SPRING_SECURITY_CONTEXT로 세션(Redis)에 저장되므로 인증에 필요한 값만 보관
+     *  - 화면, 서비스에서 사용하는 회원 정보는 MemberUtil(SessionMember)에서 조회
+     */
+    private Long seq;
     private String email;
     private String password;
+    private LocalDateTime credentialChangedAt;
+    private LocalDateTime deletedAt;
     private Collection<? extends GrantedAuthority> authorities;
-    private Member member;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -47,13 +52,12 @@ public class MemberInfo implements UserDetails {
 
     @Override
     public boolean isCredentialsNonExpired() {
-        LocalDateTime credentialChangedAt = member.getCredentialChangedAt();
         return credentialChangedAt != null &&
                 credentialChangedAt.isAfter(LocalDateTime.now().minusMonths(1L));
     }
 
     @Override
     public boolean isEnabled() { // 회원 탈퇴 여부
-        return member.getDeletedAt() == null;
+        return deletedAt == null;
     }
 }
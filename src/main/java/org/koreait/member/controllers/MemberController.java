@@ -7,7 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.koreait.global.annotations.ApplyErrorPage;
 import org.koreait.global.libs.Utils;
 import org.koreait.global.services.CodeValueService;
-import org.koreait.member.MemberInfo;
+import org.koreait.member.libs.MemberUtil;
 import org.koreait.member.services.MemberInfoService;
 import org.koreait.member.services.MemberUpdateService;
 import org.koreait.member.social.constants.SocialChannel;
@@ -41,6 +41,7 @@ public class MemberController {
     private final MemberInfoService infoService; // 회원 정보 조회
     private final CodeValueService codeValueService;
     private final KakaoLoginService kakaoLoginService;
+    private final MemberUtil memberUtil;
 
     @ModelAttribute("requestAgree")
     public RequestAgree requestAgree() {
@@ -176,10 +177,9 @@ public class MemberController {
     @ResponseBody
     @GetMapping("/refresh")
     @PreAuthorize("isAuthenticated()")
-    public void refresh(Principal principal, HttpSession session) {
+    public void refresh(Principal principal) {
 
-        MemberInfo memberInfo = (MemberInfo) infoService.loadUserByUsername(principal.getName());
-        session.setAttribute("member", memberInfo.getMember());
+        memberUtil.setMember(infoService.get(principal.getName()));
     }
 
     /**
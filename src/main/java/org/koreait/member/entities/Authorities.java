@@ -4,12 +4,16 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.koreait.member.constants.Authority;
 
 import java.io.Serializable;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "authorities") // 관리자 수정시에만 변경
 @IdClass(AuthoritiesId.class)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.koreait.file.entities.FileInfo;
 import org.koreait.global.entities.BaseEntity;
 import org.koreait.member.constants.Gender;
@@ -17,6 +19,11 @@ import java.util.List;
 
 @Data
 @Entity
+@Table(indexes = {
+        @Index(name="idx_member_created_at", columnList = "createdAt DESC"),
+        @Index(name="idx_member_deleted_at", columnList = "deletedAt"),
+        @Index(name="idx_member_credential_changed_at", columnList = "credentialChangedAt")
+})
 public class Member extends BaseEntity implements Serializable {
     @Id @GeneratedValue
     private Long seq; // 회원 번호
@@ -68,6 +75,7 @@ public class Member extends BaseEntity implements Serializable {
     @JsonIgnore
     @ToString.Exclude
     @OneToMany(mappedBy = "member")
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "member-authorities") // 권한 변경시 MemberUpdateService 에서 제거
     private List<Authorities> authorities;
 
     // 비밀번호 변경 일시
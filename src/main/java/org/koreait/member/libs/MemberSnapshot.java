@@ -0,0 +1,53 @@
+package org.koreait.member.libs;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.koreait.member.constants.Authority;
+import org.koreait.member.entities.Authorities;
+import org.koreait.member.entities.Member;
+import org.springframework.security.core.Authentication;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 요청 단위 로그인 회원 정보
+ *  - 요청마다 한번만 세션에서 조회하고, 같은 요청 안에서는 재사용
+ *  - 권한은 EnumSet(비트셋)으로 보관해서 관리자 여부를 매번 스트림으로 계산하지 않는다.
+ */
+@Getter
+@ToString
+public class MemberSnapshot {
+
+    @ToString.Exclude
+    private final Authentication authentication; // 스냅샷을 만들 당시의 인증 정보, 바뀌면 다시 계산
+
+    private final Member member;
+    private final Long seq;
+    private final String email;
+    private final Set<Authority> authorities;
+    private final boolean login;
+    private final boolean admin;
+
+    MemberSnapshot(Authentication authentication, Member member) {
+        this.authentication = authentication;
+        this.member = member;
+        this.login = member != null;
+        this.seq = login ? member.getSeq() : null;
+        this.email = login ? member.getEmail() : null;
+
+        EnumSet<Authority> authorities = EnumSet.noneOf(Authority.class);
+        List<Authorities> items = login ? member.getAuthorities() : null;
+        if (items != null) {
+            items.forEach(a -> authorities.add(a.getAuthority()));
+        }
+
+        this.authorities = authorities;
+        this.admin = authorities.contains(Authority.ADMIN) || authorities.contains(Authority.MANAGER);
+    }
+
+    public boolean hasAuthority(Authority authority) {
+        return authorities.contains(authority);
+    }
+}
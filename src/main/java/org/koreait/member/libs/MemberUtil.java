@@ -3,20 +3,35 @@ package org.koreait.member.libs;
 import jakarta.servlet.http.HttpSession;
 import org.koreait.member.MemberInfo;
 import org.koreait.member.constants.Authority;
+import org.koreait.member.entities.Authorities;
 import org.koreait.member.entities.Member;
+import org.koreait.member.services.MemberInfoService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
 
 @Component
 public class MemberUtil {
 
+    private static final String SESSION_KEY = "member";
+    private static final String SNAPSHOT_KEY = MemberUtil.class.getName() + ".SNAPSHOT";
+
     @Autowired
     private HttpSession session;
 
+    @Lazy
+    @Autowired
+    private MemberInfoService infoService;
+
     public boolean isLogin() {
-        return getMember() != null;
+        return getSnapshot().isLogin();
     }
 
     /**
@@ -25,9 +40,7 @@ public class MemberUtil {
      * @return
      */
     public boolean isAdmin() {
-         return isLogin() &&
-                    getMember().getAuthorities().stream()
-                            .anyMatch(a -> a.getAuthority() == Authority.ADMIN || a.getAuthority() == Authority.MANAGER);
+         return getSnapshot().isAdmin();
     }
 
     /**
@@ -36,20 +49,94 @@ public class MemberUtil {
      * @return
      */
     public Member getMember() {
+        return getSnapshot().getMember();
+    }
+
+    /**
+     * 로그인 회원 정보 교체
+     *  - 세션에는 SessionMember로 축소해서 보관
+     *  - 기존 값과 같으면 세션에 다시 기록하지 않는다(Redis 반영 X)
+     *  - 현재 요청의 스냅샷은 다시 계산되도록 비운다.
+     *
+     * @param member
+     */
+    public void setMember(Member member) {
+        SessionMember sessionMember = SessionMember.of(member);
+        if (sessionMember == null || !sessionMember.equals(session.getAttribute(SESSION_KEY))) {
+            session.setAttribute(SESSION_KEY, sessionMember);
+        }
+
+        clearSnapshot();
+    }
+
+    /**
+     * 요청 단위 로그인 회원 스냅샷
+     *  - 같은 요청 안에서는 SecurityContext, 세션 조회를 한번만 한다.
+     *  - 요청 중 로그인, 로그아웃으로 인증 정보가 바뀌면 다시 계산
+     *
+     * @return
+     */
+    public MemberSnapshot getSnapshot() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+
+        if (attrs != null && attrs.getAttribute(SNAPSHOT_KEY, RequestAttributes.SCOPE_REQUEST) instanceof MemberSnapshot snapshot
+                && snapshot.getAuthentication() == auth) {
+            return snapshot;
+        }
+
+        MemberSnapshot snapshot = new MemberSnapshot(auth, loadMember(auth));
+        if (attrs != null) {
+            attrs.setAttribute(SNAPSHOT_KEY, snapshot, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return snapshot;
+    }
 
+    public void clearSnapshot() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs != null) {
+            attrs.removeAttribute(SNAPSHOT_KEY, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private Member loadMember(Authentication auth) {
         if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof MemberInfo memberInfo) {
-            Member member = (Member)session.getAttribute("member");
-            if (member == null) {
-                member = memberInfo.getMember();
-                session.setAttribute("member", member);
-
-                return member;
-            } else {
-                return member;
+            // 로그인 직후이거나 이전 버전의 세션 값(Member 엔티티 등)인 경우 DB에서 조회해서 다시 기록
+            if (!(session.getAttribute(SESSION_KEY) instanceof SessionMember sessionMember)) {
+                sessionMember = SessionMember.of(load(memberInfo));
+                session.setAttribute(SESSION_KEY, sessionMember);
             }
+
+            return sessionMember.toMember();
         }
 
         return null;
     }
+
+    /**
+     * 인증 정보의 회원 조회
+     *  - DB에 없는 회원(테스트용 인증 정보 등)은 인증 정보의 값만으로 구성
+     *
+     * @param memberInfo
+     * @return
+     */
+    private Member load(MemberInfo memberInfo) {
+        try {
+            return infoService.get(memberInfo.getEmail());
+        } catch (UsernameNotFoundException e) {
+            Member member = new Member();
+            member.setSeq(memberInfo.getSeq());
+            member.setEmail(memberInfo.getEmail());
+            member.setCredentialChangedAt(memberInfo.getCredentialChangedAt());
+            member.setDeletedAt(memberInfo.getDeletedAt());
+
+            List<Authorities> authorities = memberInfo.getAuthorities().stream()
+                    .map(a -> new Authorities(member, Authority.valueOf(a.getAuthority())))
+                    .toList();
+            member.setAuthorities(authorities);
+
+            return member;
+        }
+    }
 }
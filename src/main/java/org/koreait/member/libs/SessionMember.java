@@ -0,0 +1,243 @@
+package org.koreait.member.libs;
+
+import org.koreait.file.entities.FileInfo;
+import org.koreait.member.constants.Authority;
+import org.koreait.member.constants.Gender;
+import org.koreait.member.entities.Authorities;
+import org.koreait.member.entities.Member;
+import org.koreait.member.social.constants.SocialChannel;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션에 보관하는 로그인 회원 정보
+ *  - Member 엔티티 전체(비밀번호, 프로필 이미지 FileInfo 등) 대신 화면과 서비스에서 사용하는 값만 보관
+ *  - Redis 세션 저장시 JDK 기본 직렬화 대신 Ser(Externalizable)로 버전 + 필드 값만 기록한다.
+ *  - 버전이 다른 값(배포 전 세션)은 null로 복원되어 MemberUtil에서 다시 채운다.
+ */
+public record SessionMember(
+        Long seq,
+        String email,
+        String name,
+        String nickName,
+        LocalDate birthDt,
+        Gender gender,
+        String zipCode,
+        String address,
+        String addressSub,
+        boolean requiredTerms1,
+        boolean requiredTerms2,
+        boolean requiredTerms3,
+        String optionalTerms,
+        SocialChannel socialChannel,
+        String socialToken,
+        LocalDateTime credentialChangedAt,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        LocalDateTime deletedAt,
+        Long profileImageSeq,
+        List<Authority> authorities
+) implements Serializable {
+
+    static final int VERSION = 1;
+
+    public static SessionMember of(Member member) {
+        if (member == null) return null;
+
+        List<Authority> authorities = new ArrayList<>();
+        List<Authorities> items = member.getAuthorities();
+        if (items != null) {
+            items.forEach(a -> authorities.add(a.getAuthority()));
+        }
+
+        FileInfo profileImage = member.getProfileImage();
+
+        return new SessionMember(member.getSeq(), member.getEmail(), member.getName(), member.getNickName(),
+                member.getBirthDt(), member.getGender(), member.getZipCode(), member.getAddress(), member.getAddressSub(),
+                member.isRequiredTerms1(), member.isRequiredTerms2(), member.isRequiredTerms3(), member.getOptionalTerms(),
+                member.getSocialChannel(), member.getSocialToken(), member.getCredentialChangedAt(),
+                member.getCreatedAt(), member.getModifiedAt(), member.getDeletedAt(),
+                profileImage == null ? null : profileImage.getSeq(), List.copyOf(authorities));
+    }
+
+    /**
+     * 세션 값으로 회원 엔티티 복원
+     *  - 영속 상태가 아닌 엔티티, 연관관계 참조(게시글 작성자 등)나 조회 조건에 사용
+     *  - 비밀번호는 보관하지 않으므로 수정이 필요하면 DB에서 다시 조회해야 한다.
+     *
+     * @return
+     */
+    public Member toMember() {
+        Member member = new Member();
+        member.setSeq(seq);
+        member.setEmail(email);
+        member.setName(name);
+        member.setNickName(nickName);
+        member.setBirthDt(birthDt);
+        member.setGender(gender);
+        member.setZipCode(zipCode);
+        member.setAddress(address);
+        member.setAddressSub(addressSub);
+        member.setRequiredTerms1(requiredTerms1);
+        member.setRequiredTerms2(requiredTerms2);
+        member.setRequiredTerms3(requiredTerms3);
+        member.setOptionalTerms(optionalTerms);
+        member.setSocialChannel(socialChannel);
+        member.setSocialToken(socialToken);
+        member.setCredentialChangedAt(credentialChangedAt);
+        member.setCreatedAt(createdAt);
+        member.setModifiedAt(modifiedAt);
+        member.setDeletedAt(deletedAt);
+
+        if (profileImageSeq != null) {
+            FileInfo profileImage = new FileInfo();
+            profileImage.setSeq(profileImageSeq);
+            member.setProfileImage(profileImage);
+        }
+
+        List<Authorities> items = new ArrayList<>();
+        authorities.forEach(a -> items.add(new Authorities(member, a)));
+        member.setAuthorities(items);
+
+        return member;
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new Ser(this);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Ser 를 통해서만 복원");
+    }
+
+    /**
+     * 직렬화 프록시
+     *  - 클래스 기술자는 Ser 하나만 기록되고, 값은 버전 + 필드 순서대로 기록
+     *  - 열거형은 이름으로 기록해서 상수 순서가 바뀌어도 안전
+     */
+    static final class Ser implements Externalizable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private SessionMember value;
+
+        public Ser() {}
+
+        Ser(SessionMember value) {
+            this.value = value;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeByte(VERSION);
+            writeLong(out, value.seq);
+            writeString(out, value.email);
+            writeString(out, value.name);
+            writeString(out, value.nickName);
+            out.writeBoolean(value.birthDt != null);
+            if (value.birthDt != null) out.writeLong(value.birthDt.toEpochDay());
+            writeString(out, value.gender == null ? null : value.gender.name());
+            writeString(out, value.zipCode);
+            writeString(out, value.address);
+            writeString(out, value.addressSub);
+            out.writeBoolean(value.requiredTerms1);
+            out.writeBoolean(value.requiredTerms2);
+            out.writeBoolean(value.requiredTerms3);
+            writeString(out, value.optionalTerms);
+            writeString(out, value.socialChannel == null ? null : value.socialChannel.name());
+            writeString(out, value.socialToken);
+            writeDateTime(out, value.credentialChangedAt);
+            writeDateTime(out, value.createdAt);
+            writeDateTime(out, value.modifiedAt);
+            writeDateTime(out, value.deletedAt);
+            writeLong(out, value.profileImageSeq);
+            out.writeByte(value.authorities.size());
+            for (Authority authority : value.authorities) {
+                out.writeUTF(authority.name());
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            int version = in.readByte();
+            if (version != VERSION) { // 알 수 없는 버전은 복원하지 않음 - readResolve 에서 null
+                return;
+            }
+
+            Long seq = readLong(in);
+            String email = readString(in);
+            String name = readString(in);
+            String nickName = readString(in);
+            LocalDate birthDt = in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null;
+            String gender = readString(in);
+            String zipCode = readString(in);
+            String address = readString(in);
+            String addressSub = readString(in);
+            boolean requiredTerms1 = in.readBoolean();
+            boolean requiredTerms2 = in.readBoolean();
+            boolean requiredTerms3 = in.readBoolean();
+            String optionalTerms = readString(in);
+            String socialChannel = readString(in);
+            String socialToken = readString(in);
+            LocalDateTime credentialChangedAt = readDateTime(in);
+            LocalDateTime createdAt = readDateTime(in);
+            LocalDateTime modifiedAt = readDateTime(in);
+            LocalDateTime deletedAt = readDateTime(in);
+            Long profileImageSeq = readLong(in);
+
+            int cnt = in.readByte();
+            List<Authority> authorities = new ArrayList<>(cnt);
+            for (int i = 0; i < cnt; i++) {
+                authorities.add(Authority.valueOf(in.readUTF()));
+            }
+
+            value = new SessionMember(seq, email, name, nickName, birthDt,
+                    gender == null ? null : Gender.valueOf(gender), zipCode, address, addressSub,
+                    requiredTerms1, requiredTerms2, requiredTerms3, optionalTerms,
+                    socialChannel == null ? null : SocialChannel.valueOf(socialChannel), socialToken,
+                    credentialChangedAt, createdAt, modifiedAt, deletedAt, profileImageSeq, List.copyOf(authorities));
+        }
+
+        @Serial
+        private Object readResolve() {
+            return value;
+        }
+
+        private static void writeString(DataOutput out, String str) throws IOException {
+            out.writeBoolean(str != null);
+            if (str != null) out.writeUTF(str);
+        }
+
+        private static String readString(DataInput in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+
+        private static void writeLong(DataOutput out, Long num) throws IOException {
+            out.writeBoolean(num != null);
+            if (num != null) out.writeLong(num);
+        }
+
+        private static Long readLong(DataInput in) throws IOException {
+            return in.readBoolean() ? in.readLong() : null;
+        }
+
+        private static void writeDateTime(DataOutput out, LocalDateTime dateTime) throws IOException {
+            out.writeBoolean(dateTime != null);
+            if (dateTime != null) {
+                out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(dateTime.getNano());
+            }
+        }
+
+        private static LocalDateTime readDateTime(DataInput in) throws IOException {
+            return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package org.koreait.member.services;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.koreait.admin.member.controllers.MemberListItem;
 import org.koreait.admin.member.controllers.MemberSearch;
 import org.koreait.file.entities.FileInfo;
 import org.koreait.file.services.FileInfoService;
@@ -15,6 +18,7 @@ import org.koreait.member.MemberInfo;
 import org.koreait.member.constants.Authority;
 import org.koreait.member.entities.Authorities;
 import org.koreait.member.entities.Member;
+import org.koreait.member.entities.QAuthorities;
 import org.koreait.member.entities.QMember;
 import org.koreait.member.repositories.MemberRepository;
 import org.koreait.mypage.controllers.RequestProfile;
@@ -32,6 +36,9 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Lazy
 @Service
@@ -60,20 +67,30 @@ public class MemberInfoService implements UserDetailsService {
 
         List<SimpleGrantedAuthority> authorities = items.stream().map(a -> new SimpleGrantedAuthority(a.getAuthority().name())).toList();
 
-        // 추가 정보 처리
-        addInfo(member);
-
         return MemberInfo.builder()
+                .seq(member.getSeq())
                 .email(member.getEmail())
                 .password(member.getPassword())
-                .member(member)
+                .credentialChangedAt(member.getCredentialChangedAt())
+                .deletedAt(member.getDeletedAt())
                 .authorities(authorities)
                 .build();
     }
 
+    /**
+     * 회원 정보 조회
+     *  - 프로필 이미지 등 추가 정보 포함
+     *
+     * @param email
+     * @return
+     */
     public Member get(String email) {
-        MemberInfo memberInfo = (MemberInfo)loadUserByUsername(email);
-        return memberInfo.getMember();
+        Member member = memberRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException(email));
+
+        // 추가 정보 처리
+        addInfo(member);
+
+        return member;
     }
 
     public RequestProfile getProfile(String email) {
@@ -102,7 +119,7 @@ public class MemberInfoService implements UserDetailsService {
      * @param search
      * @return
      */
-    public ListData<Member> getList(MemberSearch search) {
+    public ListData<MemberListItem> getList(MemberSearch search) {
         int page = Math.max(search.getPage(), 1);
         int limit = search.getLimit();
         limit = limit < 1 ? 20 : limit;
@@ -144,7 +161,10 @@ public class MemberInfoService implements UserDetailsService {
         // 권한 검색 S
         List<Authority> authorities = search.getAuthority();
         if (authorities != null && !authorities.isEmpty()) {
-           andBuilder.and(member.authorities.any().authority.in(authorities));
+            QAuthorities qAuthorities = QAuthorities.authorities;
+            andBuilder.and(member.seq.in(JPAExpressions.select(qAuthorities.member.seq)
+                    .from(qAuthorities)
+                    .where(qAuthorities.authority.in(authorities))));
         }
         // 권한 검색 E
 
@@ -171,16 +191,36 @@ public class MemberInfoService implements UserDetailsService {
 
         /* 검색 처리 E */
 
-        List<Member> items = queryFactory.selectFrom(member)
-                .leftJoin(member.authorities)
-                .fetchJoin()
+        /**
+         * 1단계 - 목록 컬럼만 DB에서 페이징(OFFSET/LIMIT)
+         *  권한을 fetchJoin 하면 페이징이 메모리에서 처리되므로(HHH000104) 권한은 조인하지 않는다.
+         */
+        List<MemberListItem> items = queryFactory.select(Projections.fields(MemberListItem.class,
+                        member.seq, member.email, member.name, member.nickName,
+                        member.createdAt, member.credentialChangedAt, member.deletedAt))
+                .from(member)
                 .where(andBuilder)
                 .orderBy(member.createdAt.desc())
                 .offset(offset)
                 .limit(limit)
                 .fetch();
 
-        long total = memberRepository.count(andBuilder); // 총 회원 수
+        // 2단계 - 조회된 회원의 권한만 IN 조회 한번으로 가져온다.
+        if (!items.isEmpty()) {
+            Map<Long, MemberListItem> itemMap = items.stream().collect(Collectors.toMap(MemberListItem::getSeq, m -> m));
+
+            QAuthorities qAuthorities = QAuthorities.authorities;
+            queryFactory.select(qAuthorities.member.seq, qAuthorities.authority)
+                    .from(qAuthorities)
+                    .where(qAuthorities.member.seq.in(itemMap.keySet()))
+                    .fetch()
+                    .forEach(t -> itemMap.get(t.get(qAuthorities.member.seq)).getAuthorities().add(t.get(qAuthorities.authority)));
+        }
+
+        long total = Objects.requireNonNullElse(queryFactory.select(member.count())
+                .from(member)
+                .where(andBuilder)
+                .fetchOne(), 0L); // 총 회원 수
 
         Pagination pagination = new Pagination(page, (int)total, 10, limit, request);
 
@@ -1,7 +1,8 @@
 package org.koreait.member.services;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
 import org.koreait.global.exceptions.scripts.AlertException;
 import org.koreait.global.libs.Utils;
 import org.koreait.member.constants.Authority;
@@ -19,11 +20,17 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Lazy // 지연로딩 - 최초로 빈을 사용할때 생성
 @Service
@@ -33,11 +40,11 @@ public class MemberUpdateService {
 
     private final MemberRepository memberRepository;
     private final AuthoritiesRepository authoritiesRepository;
+    private final EntityManagerFactory emf;
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
     private final MemberUtil memberUtil;
     private final MemberInfoService infoService;
-    private final HttpSession session;
     private final Utils utils;
 
     /**
@@ -84,7 +91,9 @@ public class MemberUpdateService {
 
     public void process(RequestProfile form, List<Authority> authorities) {
         String email = form.getEmail();
-        Member member = memberUtil.isAdmin() && StringUtils.hasText(email) ? memberRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException(email)) : memberUtil.getMember(); // 로그인한 사용자의 정보
+        // 로그인한 사용자의 정보 - 세션 회원 정보에는 비밀번호 등이 없으므로 DB에서 다시 조회
+        String target = memberUtil.isAdmin() && StringUtils.hasText(email) ? email : memberUtil.getMember().getEmail();
+        Member member = memberRepository.findByEmail(target).orElseThrow(() -> new UsernameNotFoundException(target));
 
         member.setName(form.getName());
         member.setNickName(form.getNickName());
@@ -123,12 +132,12 @@ public class MemberUpdateService {
 
         save(member, _authorities);
 
-        // 로그인 회원 정보 업데이트
+        // 로그인 회원 정보 업데이트 - 커밋된 경우만 세션 반영
         if (!StringUtils.hasText(email)) {
             Member _member = memberRepository.findByEmail(member.getEmail()).orElse(null);
             if (_member != null) {
                 infoService.addInfo(_member);
-                session.setAttribute("member", _member);
+                afterCommit(() -> memberUtil.setMember(_member));
             }
         }
     }
@@ -139,29 +148,52 @@ public class MemberUpdateService {
      */
     private void save(Member member, List<Authorities> authorities) {
 
-        memberRepository.saveAndFlush(member);
+        memberRepository.save(member); // 커밋할 때 INSERT, UPDATE
 
         // 회원 권한 업데이트 처리 S
 
         if (authorities != null) {
             /**
-             * 기존 권한을 삭제하고 다시 등록
+             * 기존 권한과 비교해서 빠진 권한은 삭제, 추가된 권한만 등록
+             *  - 같은 권한을 삭제 후 다시 등록하지 않으므로 중간에 flush 하지 않아도 키 충돌 없음
              */
 
             QAuthorities qAuthorities = QAuthorities.authorities;
             List<Authorities> items = (List<Authorities>) authoritiesRepository.findAll(qAuthorities.member.eq(member));
-            if (items != null) {
-               authoritiesRepository.deleteAll(items);
-               authoritiesRepository.flush();
-            }
+            Set<Authority> prev = items.stream().map(Authorities::getAuthority).collect(Collectors.toSet());
+            Set<Authority> next = authorities.stream().map(Authorities::getAuthority).collect(Collectors.toSet());
 
+            authoritiesRepository.deleteAll(items.stream().filter(a -> !next.contains(a.getAuthority())).toList());
+            authoritiesRepository.saveAll(authorities.stream().filter(a -> !prev.contains(a.getAuthority())).toList());
 
-            authoritiesRepository.saveAllAndFlush(authorities);
+            // 회원의 권한 목록 캐시 제거 - 권한 엔티티를 직접 변경하므로 컬렉션 캐시는 자동으로 갱신되지 않음
+            // 커밋 전에 제거하면 다른 요청이 이전 권한을 다시 캐시할 수 있으므로 커밋 후 제거
+            Long seq = member.getSeq();
+            afterCommit(() -> emf.getCache().unwrap(Cache.class).evictCollectionData(Member.class.getName() + ".authorities", seq));
         }
 
         // 회원 권한 업데이트 처리 E
     }
 
+    /**
+     * 트랜잭션 커밋 후 처리 - 세션, 캐시처럼 롤백되지 않는 변경
+     *
+     * @param task
+     */
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
     /**
      * 회원 목록 수정 처리
      *
@@ -172,26 +204,37 @@ public class MemberUpdateService {
             throw new AlertException("수정할 회원을 선택하세요.");
         }
 
-        List<Member> members = new ArrayList<>();
+        // 선택한 회원을 IN 조회 한번으로 가져온다.
+        Map<Integer, Long> seqs = new LinkedHashMap<>();
         for (int chk : chks) {
-            Long seq = Long.valueOf(utils.getParam("seq_" + chk));
-            Member member = memberRepository.findById(seq).orElse(null);
+            seqs.put(chk, Long.valueOf(utils.getParam("seq_" + chk)));
+        }
+
+        Map<Long, Member> items = memberRepository.findAllById(seqs.values()).stream()
+                .collect(Collectors.toMap(Member::getSeq, m -> m));
+
+        List<Member> members = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Integer, Long> entry : seqs.entrySet()) {
+            int chk = entry.getKey();
+            Member member = items.get(entry.getValue());
             if (member == null) continue;
 
             // 비밀번호 변경일시 업데이트
             if (utils.getParam("updateCredentialChangedAt_" + chk) != null) {
-                member.setCredentialChangedAt(LocalDateTime.now());
+                member.setCredentialChangedAt(now);
             }
 
             // 탈퇴 취소 또는 탈퇴 처리
             String deletedAt = utils.getParam("deletedAt_" + chk);
             if (deletedAt != null) {
-                member.setDeletedAt(deletedAt.equals("CANCEL") ? null : LocalDateTime.now());
+                member.setDeletedAt(deletedAt.equals("CANCEL") ? null : now);
             }
 
             members.add(member);
         }
 
-        memberRepository.saveAllAndFlush(members);
+        // 영속 상태의 엔티티이므로 변경 감지 + JDBC 배치로 UPDATE(커밋시)
+        memberRepository.saveAll(members);
     }
 }
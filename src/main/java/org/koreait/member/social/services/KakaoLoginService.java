@@ -110,7 +110,8 @@ public class KakaoLoginService implements SocialLoginService {
 
         SecurityContextHolder.getContext().setAuthentication(authentication); // 로그인 처리
 
-        session.setAttribute("member", memberInfo.getMember());
+        memberInfoService.addInfo(member); // 프로필 이미지
+        memberUtil.setMember(member);
         session.setAttribute("SPRING_SECURITY_CONTEXT", SecurityContextHolder.getContext());
         return true;
     }
@@ -134,14 +135,17 @@ public class KakaoLoginService implements SocialLoginService {
     public void connect(String token) {
         if (!memberUtil.isLogin()) return;
 
-        Member member = memberUtil.getMember();
+        // 세션 회원 정보에는 비밀번호 등이 없으므로 DB에서 조회 후 수정
+        Member member = memberRepository.findById(memberUtil.getMember().getSeq()).orElse(null);
+        if (member == null) return;
+
         member.setSocialChannel(SocialChannel.KAKAO);
         member.setSocialToken(token);
 
         memberRepository.saveAndFlush(member);
 
         memberInfoService.addInfo(member);
-        session.setAttribute("member", member);
+        memberUtil.setMember(member);
     }
 
     // 소셜 로그인 해제
@@ -149,14 +153,17 @@ public class KakaoLoginService implements SocialLoginService {
     public void disconnect() {
         if (!memberUtil.isLogin()) return;
 
-        Member member = memberUtil.getMember();
+        // 세션 회원 정보에는 비밀번호 등이 없으므로 DB에서 조회 후 수정
+        Member member = memberRepository.findById(memberUtil.getMember().getSeq()).orElse(null);
+        if (member == null) return;
+
         member.setSocialChannel(SocialChannel.NONE);
         member.setSocialToken(null);
 
         memberRepository.saveAndFlush(member);
 
         memberInfoService.addInfo(member);
-        session.setAttribute("member", member);
+        memberUtil.setMember(member);
     }
 
     public boolean exists(String token) {
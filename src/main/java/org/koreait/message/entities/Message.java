@@ -16,7 +16,11 @@ import java.util.List;
 @Entity
 @Builder
 @NoArgsConstructor @AllArgsConstructor
-@Table(indexes = @Index(name="idx_notice_created_at", columnList = "notice DESC, createdAt DESC"))
+@Table(indexes = {
+        @Index(name="idx_notice_created_at", columnList = "notice DESC, createdAt DESC"),
+        @Index(name="idx_msg_receiver_created_at", columnList = "receiver, deletedByReceiver, notice DESC, createdAt DESC"), // 받은 쪽지 목록
+        @Index(name="idx_msg_sender_created_at", columnList = "sender, deletedBySender, createdAt DESC") // 보낸 쪽지 목록
+})
 public class Message extends BaseEntity {
     @Id @GeneratedValue
     private Long seq;
@@ -19,6 +19,7 @@ import org.koreait.message.exceptions.MessageNotFoundException;
 import org.koreait.message.repositories.MessageRepository;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
@@ -63,9 +64,20 @@ public class MessageInfoService {
         }
 
 
-        Message item = messageRepository.findOne(builder).orElseThrow(MessageNotFoundException::new);
+        // 보기 화면에서 출력하는 보낸 사람, 받는 사람을 함께 조회 - 화면 출력시 지연 로딩 X
+        Message item = queryFactory.selectFrom(message)
+                .leftJoin(message.sender)
+                .fetchJoin()
+                .leftJoin(message.receiver)
+                .fetchJoin()
+                .where(builder)
+                .fetchOne();
 
-        addInfo(item); // 추가 정보 처리
+        if (item == null) {
+            throw new MessageNotFoundException();
+        }
+
+        addInfo(item, true); // 추가 정보 처리
 
         return item;
     }
@@ -76,6 +88,7 @@ public class MessageInfoService {
      * @param search
      * @return
      */
+    @Transactional(readOnly = true)
     public ListData<Message> getList(MessageSearch search) {
         int page = Math.max(search.getPage(), 1);
         int limit = search.getLimit();
@@ -123,7 +136,10 @@ public class MessageInfoService {
 
         // 검색 조건 처리 E
 
+        // 목록에서 출력하는 보낸 사람, 받는 사람은 한번에 조회 - 행마다 지연 로딩 X
         List<Message> items = queryFactory.selectFrom(message)
+                .leftJoin(message.sender)
+                .fetchJoin()
                 .leftJoin(message.receiver)
                 .fetchJoin()
                 .where(andBuilder)
@@ -144,11 +160,14 @@ public class MessageInfoService {
      * 추가 정보 처리
      *
      * @param item
+     * @param isView : 보기 페이지 여부, 목록에서는 출력하지 않는 첨부 파일, 에디터 이미지를 조회하지 않는다.
      */
-    private void addInfo(Message item) {
-        String gid = item.getGid();
-        item.setEditorImages(fileInfoService.getList(gid, "editor"));
-        item.setAttachFiles(fileInfoService.getList(gid, "attach"));
+    private void addInfo(Message item, boolean isView) {
+        if (isView) {
+            String gid = item.getGid();
+            item.setEditorImages(fileInfoService.getList(gid, "editor"));
+            item.setAttachFiles(fileInfoService.getList(gid, "attach"));
+        }
 
         Member member = memberUtil.getMember();
         item.setReceived(
@@ -162,6 +181,10 @@ public class MessageInfoService {
         item.setDeletable(deletable);
     }
 
+    private void addInfo(Message item) {
+        addInfo(item, false);
+    }
+
     /**
      * 미열람 메세지 갯수
      *
@@ -12,6 +12,7 @@ import org.koreait.message.entities.Message;
 import org.koreait.message.repositories.MessageRepository;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Lazy
 @Service
@@ -22,6 +23,7 @@ public class MessageSendService {
     private final MessageRepository repository;
     private final FileDoneService fileDoneService;
 
+    @Transactional // 쪽지 저장, 파일 완료 처리를 한번에 커밋
     public Message process(RequestMessage form) {
 
         String email = form.getEmail();
@@ -37,7 +39,7 @@ public class MessageSendService {
                 .status(MessageStatus.UNREAD)
                 .build();
 
-        repository.saveAndFlush(message);
+        repository.save(message);
         fileDoneService.process(form.getGid()); // 파일 업로드 완료 처리
 
         return message;
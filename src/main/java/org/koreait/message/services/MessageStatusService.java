@@ -6,6 +6,7 @@ import org.koreait.message.entities.Message;
 import org.koreait.message.repositories.MessageRepository;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Lazy
 @Service
@@ -15,12 +16,13 @@ public class MessageStatusService {
     private final MessageInfoService infoService;
     private final MessageRepository repository;
 
+    @Transactional
     public void change(Long seq) {
         Message item = infoService.get(seq);
         if (item.isReceived()) { // 수신한 메세지만 열람 상태로 변경
             item.setStatus(MessageStatus.READ);
         }
 
-        repository.saveAndFlush(item);
+        repository.save(item);
     }
 }
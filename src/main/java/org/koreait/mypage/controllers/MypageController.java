@@ -1,13 +1,11 @@
 package org.koreait.mypage.controllers;
 
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.koreait.global.annotations.ApplyErrorPage;
 import org.koreait.global.libs.Utils;
 import org.koreait.global.paging.CommonSearch;
 import org.koreait.global.paging.ListData;
-import org.koreait.member.MemberInfo;
 import org.koreait.member.entities.Member;
 import org.koreait.member.libs.MemberUtil;
 import org.koreait.member.services.MemberInfoService;
@@ -35,7 +33,6 @@ import java.util.Objects;
 @ApplyErrorPage
 @RequestMapping("/mypage")
 @RequiredArgsConstructor
-@SessionAttributes("profile")
 public class MypageController {
     private final Utils utils;
     private final MemberUtil memberUtil;
@@ -89,20 +86,14 @@ public class MypageController {
 
         updateService.process(form);
 
-        // 프로필 속성 변경
-        model.addAttribute("profile", memberUtil.getMember());
-
         return "redirect:/mypage"; // 회원 정보 수정 완료 후 마이페이지 메인 이동
     }
 
     @ResponseBody
     @GetMapping("/refresh")
-    public void refresh(Principal principal, Model model, HttpSession session) {
-
-        MemberInfo memberInfo = (MemberInfo) infoService.loadUserByUsername(principal.getName());
-        session.setAttribute("member", memberInfo.getMember());
+    public void refresh(Principal principal) {
 
-        model.addAttribute("profile", memberInfo.getMember());
+        memberUtil.setMember(infoService.get(principal.getName()));
     }
 
     /**
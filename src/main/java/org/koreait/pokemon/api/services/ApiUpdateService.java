@@ -1,15 +1,21 @@
 package org.koreait.pokemon.api.services;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.koreait.global.configs.ReplicaProperties;
 import org.koreait.pokemon.api.entities.ApiPokemon;
 import org.koreait.pokemon.api.entities.ApiResponse;
 import org.koreait.pokemon.api.entities.UrlItem;
 import org.koreait.pokemon.entities.Pokemon;
 import org.koreait.pokemon.repositories.PokemonRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,6 +26,9 @@ public class ApiUpdateService {
 
     private final RestTemplate tpl;
     private final PokemonRepository repository;
+    private final EntityManagerFactory emf;
+    private final TaskScheduler taskScheduler;
+    private final ObjectProvider<ReplicaProperties> replicaProperties; // 복제 DB 사용시에만 등록
 
     /**
      * 1페이지당 100개씩 DB 반영
@@ -85,5 +94,28 @@ public class ApiUpdateService {
 
         // DB 영구 저장 처리
         repository.saveAllAndFlush(pokemons);
+
+        evictCache();
+    }
+
+    /**
+     * 포켓몬 2차 캐시, 쿼리 캐시 전체 제거
+     *  - 목록, 총 갯수가 바뀌므로 항목별이 아닌 영역 단위로 제거
+     *  - 복제 DB 사용시 아직 반영되지 않은 복제 DB 에서 읽은 이전 값이 다시 캐시될 수 있으므로
+     *    허용 지연 시간(maxLagSeconds, 넘으면 읽기도 primary 사용)이 지난 후 한번 더 제거
+     */
+    public void evictCache() {
+        evictRegions();
+
+        ReplicaProperties properties = replicaProperties.getIfAvailable();
+        if (properties != null && properties.isEnabled()) {
+            long delay = properties.getMaxLagSeconds() * 1000L + properties.getHeartbeatMillis();
+            taskScheduler.schedule(this::evictRegions, Instant.now().plusMillis(delay));
+        }
+    }
+
+    private void evictRegions() {
+        emf.getCache().evict(Pokemon.class);
+        emf.unwrap(SessionFactory.class).getCache().evictQueryRegion(PokemonRepository.QUERY_REGION);
     }
 }
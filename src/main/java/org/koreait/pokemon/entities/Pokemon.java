@@ -2,6 +2,8 @@ package org.koreait.pokemon.entities;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.koreait.global.entities.BaseEntity;
 
 import java.util.List;
@@ -9,6 +11,8 @@ import java.util.Map;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "pokemon") // ApiUpdateService 실행시에만 변경
 public class Pokemon extends BaseEntity {
     @Id
     private Long seq;
@@ -1,8 +1,34 @@
 package org.koreait.pokemon.repositories;
 
+import com.querydsl.core.types.Predicate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.koreait.pokemon.entities.Pokemon;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 
 public interface PokemonRepository extends JpaRepository<Pokemon, Long>, QuerydslPredicateExecutor<Pokemon> {
+
+    String QUERY_REGION = "pokemon-query";
+
+    /**
+     * 목록, 이전/다음 포켓몬 조회 결과는 쿼리 캐시 사용
+     *  - ApiUpdateService 실행시 QUERY_REGION 전체 제거
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_REGION)
+    })
+    Page<Pokemon> findAll(Predicate predicate, Pageable pageable);
+
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_REGION)
+    })
+    Iterable<Pokemon> findAll(Predicate predicate);
 }
@@ -20,6 +20,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.Arrays;
@@ -32,6 +33,7 @@ import static org.springframework.data.domain.Sort.Order.asc;
 @Lazy
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true) // 조회 전용 - 복제 DB 사용 가능
 public class PokemonInfoService {
 
     private final PokemonRepository pokemonRepository;
@@ -8,6 +8,7 @@ import org.koreait.wishlist.constants.WishType;
 @Data
 @Entity
 @IdClass(WishId.class)
+@Table(indexes = @Index(name="idx_wish_member_type", columnList = "member_seq, _type")) // 회원별 찜 목록
 public class Wish {
     @Id
     private Long seq;
@@ -0,0 +1,227 @@
+-- 기준 스키마 - Flyway 도입 전 엔티티로 Hibernate 가 생성하던 스키마
+-- 기존 운영 DB 는 baseline-on-migrate 로 버전 1 이 적용된 것으로 기록되어 이 파일을 실행하지 않는다
+-- 빈 스키마에서만 실행되며 이후 버전(V2~)이 그대로 이어서 적용된다
+-- 기본 키 시퀀스는 Hibernate 기본 설정(테이블명_seq, 50씩 증가)과 같게 생성
+
+CREATE SEQUENCE member_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE board_data_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE comment_data_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE file_info_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE message_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE product_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE train_item_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE code_value (
+    "_code" VARCHAR2(45 CHAR) PRIMARY KEY,
+    "_value" CLOB
+);
+
+CREATE TABLE member (
+    seq NUMBER(19) PRIMARY KEY,
+    email VARCHAR2(65 CHAR) NOT NULL,
+    password VARCHAR2(65 CHAR),
+    name VARCHAR2(40 CHAR) NOT NULL,
+    nick_name VARCHAR2(40 CHAR) NOT NULL,
+    birth_dt DATE NOT NULL,
+    gender VARCHAR2(10 CHAR) NOT NULL,
+    zip_code VARCHAR2(10 CHAR) NOT NULL,
+    address VARCHAR2(100 CHAR) NOT NULL,
+    address_sub VARCHAR2(100 CHAR),
+    required_terms1 NUMBER(1) NOT NULL,
+    required_terms2 NUMBER(1) NOT NULL,
+    required_terms3 NUMBER(1) NOT NULL,
+    optional_terms VARCHAR2(50 CHAR),
+    social_channel VARCHAR2(20 CHAR),
+    social_token VARCHAR2(65 CHAR),
+    credential_changed_at TIMESTAMP(6),
+    created_at TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6),
+    CONSTRAINT uk_member_email UNIQUE (email)
+);
+
+CREATE TABLE authorities (
+    member_seq NUMBER(19) NOT NULL,
+    authority VARCHAR2(15 CHAR) NOT NULL,
+    CONSTRAINT pk_authorities PRIMARY KEY (member_seq, authority),
+    CONSTRAINT fk_authorities_member FOREIGN KEY (member_seq) REFERENCES member (seq)
+);
+
+CREATE TABLE board (
+    bid VARCHAR2(30 CHAR) PRIMARY KEY,
+    name VARCHAR2(90 CHAR) NOT NULL,
+    open NUMBER(1) NOT NULL,
+    category CLOB,
+    rows_per_page NUMBER(10) NOT NULL,
+    page_ranges NUMBER(10) NOT NULL,
+    page_ranges_mobile NUMBER(10) NOT NULL,
+    use_editor NUMBER(1) NOT NULL,
+    use_editor_image NUMBER(1) NOT NULL,
+    use_attach_file NUMBER(1) NOT NULL,
+    use_comment NUMBER(1) NOT NULL,
+    list_under_view NUMBER(1) NOT NULL,
+    location_after_writing VARCHAR2(255 CHAR),
+    skin VARCHAR2(255 CHAR),
+    list_authority VARCHAR2(20 CHAR) NOT NULL,
+    view_authority VARCHAR2(20 CHAR) NOT NULL,
+    write_authority VARCHAR2(20 CHAR) NOT NULL,
+    comment_authority VARCHAR2(20 CHAR) NOT NULL,
+    created_by VARCHAR2(65 CHAR),
+    modified_by VARCHAR2(65 CHAR),
+    created_at TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6)
+);
+
+CREATE TABLE board_data (
+    seq NUMBER(19) PRIMARY KEY,
+    bid VARCHAR2(30 CHAR),
+    member_seq NUMBER(19),
+    gid VARCHAR2(45 CHAR) NOT NULL,
+    poster VARCHAR2(45 CHAR) NOT NULL,
+    guest_pw VARCHAR2(65 CHAR),
+    notice NUMBER(1) NOT NULL,
+    subject VARCHAR2(255 CHAR) NOT NULL,
+    content CLOB,
+    view_count NUMBER(19) NOT NULL,
+    comment_count NUMBER(19) NOT NULL,
+    ip_addr VARCHAR2(20 CHAR),
+    user_agent VARCHAR2(255 CHAR),
+    external_link VARCHAR2(150 CHAR),
+    youtube_url VARCHAR2(60 CHAR),
+    category VARCHAR2(60 CHAR),
+    created_at TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6),
+    CONSTRAINT fk_board_data_board FOREIGN KEY (bid) REFERENCES board (bid),
+    CONSTRAINT fk_board_data_member FOREIGN KEY (member_seq) REFERENCES member (seq)
+);
+
+CREATE INDEX idx_bd_created_at ON board_data (created_at DESC);
+CREATE INDEX idx_bd_notice_created_at ON board_data (notice DESC, created_at DESC);
+
+CREATE TABLE comment_data (
+    seq NUMBER(19) PRIMARY KEY,
+    member_seq NUMBER(19),
+    data_seq NUMBER(19),
+    commenter VARCHAR2(40 CHAR) NOT NULL,
+    guest_pw VARCHAR2(65 CHAR),
+    content CLOB NOT NULL,
+    ip_addr VARCHAR2(20 CHAR),
+    user_agent VARCHAR2(150 CHAR),
+    created_at TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6),
+    CONSTRAINT fk_comment_data_member FOREIGN KEY (member_seq) REFERENCES member (seq),
+    CONSTRAINT fk_comment_data_board_data FOREIGN KEY (data_seq) REFERENCES board_data (seq)
+);
+
+CREATE INDEX idx_comment_data_created_at ON comment_data (created_at ASC);
+
+CREATE TABLE board_view (
+    seq NUMBER(19) NOT NULL,
+    hash NUMBER(10) NOT NULL,
+    CONSTRAINT pk_board_view PRIMARY KEY (hash, seq)
+);
+
+CREATE TABLE file_info (
+    seq NUMBER(19) PRIMARY KEY,
+    gid VARCHAR2(45 CHAR) NOT NULL,
+    location VARCHAR2(45 CHAR),
+    file_name VARCHAR2(100 CHAR) NOT NULL,
+    extension VARCHAR2(30 CHAR),
+    content_type VARCHAR2(65 CHAR),
+    done NUMBER(1) NOT NULL,
+    selected NUMBER(1) NOT NULL,
+    list_order NUMBER(19) NOT NULL,
+    created_by VARCHAR2(65 CHAR),
+    modified_by VARCHAR2(65 CHAR),
+    created_at TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6)
+);
+
+CREATE INDEX idx_gid ON file_info (gid, list_order, created_at);
+CREATE INDEX idx_gid_location ON file_info (gid, location, list_order, created_at);
+
+CREATE TABLE message (
+    seq NUMBER(19) PRIMARY KEY,
+    notice NUMBER(1) NOT NULL,
+    gid VARCHAR2(45 CHAR) NOT NULL,
+    status VARCHAR2(10 CHAR) NOT NULL,
+    sender NUMBER(19),
+    receiver NUMBER(19),
+    subject VARCHAR2(150 CHAR) NOT NULL,
+    content CLOB NOT NULL,
+    deleted_by_sender NUMBER(1) NOT NULL,
+    deleted_by_receiver NUMBER(1) NOT NULL,
+    created_at TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6),
+    CONSTRAINT fk_message_sender FOREIGN KEY (sender) REFERENCES member (seq),
+    CONSTRAINT fk_message_receiver FOREIGN KEY (receiver) REFERENCES member (seq)
+);
+
+CREATE INDEX idx_notice_created_at ON message (notice DESC, created_at DESC);
+
+CREATE TABLE pokemon (
+    seq NUMBER(19) PRIMARY KEY,
+    name VARCHAR2(50 CHAR),
+    name_en VARCHAR2(50 CHAR),
+    weight NUMBER(10) NOT NULL,
+    height NUMBER(10) NOT NULL,
+    base_experience NUMBER(10) NOT NULL,
+    front_image VARCHAR2(255 CHAR),
+    flavor_text CLOB,
+    types VARCHAR2(255 CHAR),
+    abilities VARCHAR2(255 CHAR),
+    genus VARCHAR2(100 CHAR),
+    created_at TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6)
+);
+
+CREATE TABLE product (
+    seq NUMBER(19) PRIMARY KEY,
+    open NUMBER(1) NOT NULL,
+    gid VARCHAR2(45 CHAR) NOT NULL,
+    name VARCHAR2(150 CHAR) NOT NULL,
+    summary VARCHAR2(255 CHAR),
+    description CLOB,
+    discount_type VARCHAR2(10 CHAR),
+    discount FLOAT(53) NOT NULL,
+    max_discount NUMBER(10) NOT NULL,
+    point_rate FLOAT(53) NOT NULL,
+    max_point NUMBER(10) NOT NULL,
+    created_by VARCHAR2(65 CHAR),
+    modified_by VARCHAR2(65 CHAR),
+    created_at TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6)
+);
+
+CREATE TABLE train_item (
+    seq NUMBER(19) PRIMARY KEY,
+    item1 NUMBER(10) NOT NULL,
+    item2 NUMBER(10) NOT NULL,
+    item3 NUMBER(10) NOT NULL,
+    item4 NUMBER(10) NOT NULL,
+    item5 NUMBER(10) NOT NULL,
+    item6 NUMBER(10) NOT NULL,
+    item7 NUMBER(10) NOT NULL,
+    item8 NUMBER(10) NOT NULL,
+    item9 NUMBER(10) NOT NULL,
+    item10 NUMBER(10) NOT NULL,
+    result NUMBER(10) NOT NULL,
+    created_at TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6)
+);
+
+CREATE TABLE wish (
+    seq NUMBER(19) NOT NULL,
+    "_type" VARCHAR2(15 CHAR) NOT NULL,
+    member_seq NUMBER(19) NOT NULL,
+    CONSTRAINT pk_wish PRIMARY KEY (seq, "_type", member_seq),
+    CONSTRAINT fk_wish_member FOREIGN KEY (member_seq) REFERENCES member (seq)
+);
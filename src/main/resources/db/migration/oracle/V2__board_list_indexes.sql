@@ -0,0 +1,29 @@
+-- 실제 조회 조건에 맞춘 복합 인덱스
+-- 엔티티 @Index 와 같은 이름을 사용하므로 Hibernate 스키마 생성과 겹치지 않는다
+-- Hibernate(ddl-auto=update)가 먼저 만든 운영 DB 가 있을 수 있으므로 이미 있는 인덱스는 건너뛴다
+--  ORA-00955: 이미 사용 중인 이름, ORA-01408: 같은 컬럼 목록의 인덱스 존재
+DECLARE
+    PROCEDURE run(ddl VARCHAR2) IS
+    BEGIN
+        EXECUTE IMMEDIATE ddl;
+    EXCEPTION
+        WHEN OTHERS THEN
+            IF SQLCODE NOT IN (-955, -1408) THEN
+                RAISE;
+            END IF;
+    END;
+BEGIN
+    -- 게시판별 목록 - WHERE bid = ? ORDER BY notice DESC, created_at DESC
+    run('CREATE INDEX idx_bd_bid_notice_created_at ON board_data (bid, notice DESC, created_at DESC)');
+
+    -- 회원별 찜 목록 - WHERE member_seq = ? AND _type = ?
+    -- _type 은 밑줄로 시작하므로 Hibernate 가 따옴표로 감싸서(소문자) 생성
+    run('CREATE INDEX idx_wish_member_type ON wish (member_seq, "_type")');
+
+    -- 게시글별 댓글 - WHERE data_seq = ? ORDER BY created_at
+    run('CREATE INDEX idx_cd_data_created_at ON comment_data (data_seq, created_at)');
+
+    -- 파일 그룹 완료 처리, 게시글 파일 요약 - WHERE gid = ? AND location = ? AND done = ?
+    run('CREATE INDEX idx_file_gid_location_done ON file_info (gid, location, done)');
+END;
+/
@@ -0,0 +1,5 @@
+-- 복제 지연 측정 - primary 에 기록한 시각(epoch ms)이 복제 DB 에 반영된 시각과 비교
+CREATE TABLE replica_heartbeat (
+    id NUMBER(10) PRIMARY KEY,
+    beat_at NUMBER(19) NOT NULL
+);
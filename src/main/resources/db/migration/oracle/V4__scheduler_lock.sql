@@ -0,0 +1,23 @@
+-- 예약 작업 클러스터 잠금 - 작업별 한 행, locked_until 이 지난 잠금만 다른 서버가 가져감
+CREATE TABLE job_lock (
+    name VARCHAR2(60) PRIMARY KEY,
+    locked_by VARCHAR2(100) NOT NULL,
+    locked_at TIMESTAMP(6) NOT NULL,
+    locked_until TIMESTAMP(6) NOT NULL
+);
+
+-- 예약 작업 실행 이력
+CREATE SEQUENCE job_run_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE job_run (
+    seq NUMBER(19) PRIMARY KEY,
+    name VARCHAR2(60) NOT NULL,
+    node_id VARCHAR2(100) NOT NULL,
+    status VARCHAR2(10) NOT NULL,
+    started_at TIMESTAMP(6) NOT NULL,
+    ended_at TIMESTAMP(6),
+    elapsed NUMBER(19),
+    message VARCHAR2(255)
+);
+
+CREATE INDEX idx_job_run_started_at ON job_run (started_at DESC);
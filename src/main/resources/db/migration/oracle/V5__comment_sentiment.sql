@@ -0,0 +1,6 @@
+-- 댓글 감정 분석 점수 - 화면에서는 저장된 점수만 출력, 분석 전 NULL
+-- sentiment_model 이 현재 모델 버전과 다르면 보충 작업에서 다시 분석
+ALTER TABLE comment_data ADD (
+    sentiment FLOAT(53),
+    sentiment_model VARCHAR2(40)
+);
@@ -0,0 +1,8 @@
+-- 게시글 목록 요약 정보 - BoardSummaryService 가 저장, 파일 변경시 기록
+-- 기존 게시글은 board-summary 프로필로 실행해 채운다(BoardSummaryRunner)
+ALTER TABLE board_data ADD (
+    excerpt VARCHAR2(200 CHAR),
+    selected_image_seq NUMBER(19),
+    image_count NUMBER(10) DEFAULT 0 NOT NULL,
+    attach_count NUMBER(10) DEFAULT 0 NOT NULL
+);
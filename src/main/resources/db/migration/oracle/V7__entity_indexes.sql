@@ -0,0 +1,37 @@
+-- 엔티티에만 추가되고 migration 이 없던 변경
+--  - file_info.hash, file_blob(내용 기반 저장 파일)
+--  - 회원 목록/탈퇴 정리/비밀번호 변경 주기, 쪽지함, 파일 정리 작업 인덱스(@Index 와 같은 이름)
+-- Hibernate(ddl-auto=update)가 먼저 만든 운영 DB 가 있을 수 있으므로 이미 있는 객체는 건너뛴다
+--  ORA-00955: 이미 사용 중인 이름, ORA-01430: 이미 있는 컬럼, ORA-01408: 같은 컬럼 목록의 인덱스 존재
+DECLARE
+    PROCEDURE run(ddl VARCHAR2) IS
+    BEGIN
+        EXECUTE IMMEDIATE ddl;
+    EXCEPTION
+        WHEN OTHERS THEN
+            IF SQLCODE NOT IN (-955, -1430, -1408) THEN
+                RAISE;
+            END IF;
+    END;
+BEGIN
+    run('ALTER TABLE file_info ADD hash VARCHAR2(64 CHAR)');
+    run('CREATE TABLE file_blob (
+            blob_key VARCHAR2(100 CHAR) PRIMARY KEY,
+            ref_count NUMBER(19) NOT NULL,
+            blob_size NUMBER(19) NOT NULL,
+            created_at TIMESTAMP(6),
+            modified_at TIMESTAMP(6),
+            deleted_at TIMESTAMP(6)
+        )');
+
+    run('CREATE INDEX idx_file_hash ON file_info (hash)');
+    run('CREATE INDEX idx_file_done_created_at ON file_info (done, created_at)');
+
+    run('CREATE INDEX idx_member_created_at ON member (created_at DESC)');
+    run('CREATE INDEX idx_member_deleted_at ON member (deleted_at)');
+    run('CREATE INDEX idx_member_credential_changed_at ON member (credential_changed_at)');
+
+    run('CREATE INDEX idx_msg_receiver_created_at ON message (receiver, deleted_by_receiver, notice DESC, created_at DESC)');
+    run('CREATE INDEX idx_msg_sender_created_at ON message (sender, deleted_by_sender, created_at DESC)');
+END;
+/
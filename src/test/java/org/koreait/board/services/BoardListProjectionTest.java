@@ -0,0 +1,128 @@
+package org.koreait.board.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.board.controllers.BoardListItem;
+import org.koreait.board.controllers.BoardSearch;
+import org.koreait.board.entities.Board;
+import org.koreait.board.entities.BoardData;
+import org.koreait.board.repositories.BoardDataRepository;
+import org.koreait.board.repositories.BoardRepository;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.file.repositories.FileInfoRepository;
+import org.koreait.global.libs.QueryCounter;
+import org.koreait.global.libs.QueryStats;
+import org.koreait.global.paging.ListData;
+import org.koreait.member.constants.Authority;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시글 목록 - 목록 컬럼만 조회하고 content(CLOB), 파일 정보는 조회하지 않음
+ */
+@SpringBootTest
+@ActiveProfiles({"default", "test"})
+@DisplayName("게시글 목록 조회 컬럼 테스트")
+public class BoardListProjectionTest {
+
+    private static final String BID = "projection";
+    private static final int ROWS = 30;
+
+    // 별칭.content 컬럼 참조, content_type 등 다른 컬럼은 제외
+    private static final Pattern CONTENT = Pattern.compile("\\.content\\b(?!_)");
+
+    @Autowired
+    private BoardInfoService infoService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardDataRepository boardDataRepository;
+
+    @Autowired
+    private FileInfoRepository fileInfoRepository;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void init() {
+        Board board = new Board();
+        board.setBid(BID);
+        board.setName("목록 조회 테스트");
+        board.setOpen(true);
+        board.setRowsPerPage(20);
+        board.setPageRanges(10);
+        board.setPageRangesMobile(5);
+        board.setSkin("gallery");
+        board.setListAuthority(Authority.ALL);
+        board.setViewAuthority(Authority.ALL);
+        board.setWriteAuthority(Authority.ALL);
+        board.setCommentAuthority(Authority.ALL);
+        boardRepository.saveAndFlush(board);
+
+        List<BoardData> items = new ArrayList<>();
+        List<FileInfo> files = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            BoardData item = new BoardData();
+            item.setBoard(board);
+            item.setGid("projection-gid-" + i);
+            item.setPoster("작성자" + i);
+            item.setSubject("제목" + i);
+            item.setContent("긴 내용".repeat(1000));
+            items.add(item);
+
+            FileInfo file = new FileInfo();
+            file.setGid(item.getGid());
+            file.setLocation("editor");
+            file.setFileName("image" + i + ".png");
+            file.setExtension(".png");
+            file.setContentType("image/png");
+            file.setDone(true);
+            files.add(file);
+        }
+
+        boardDataRepository.saveAllAndFlush(items);
+        fileInfoRepository.saveAllAndFlush(files);
+    }
+
+    @Test
+    @DisplayName("목록 조회 SQL 에 content 컬럼이 없어야 함")
+    void listTest() {
+        BoardSearch search = new BoardSearch();
+        search.setLimit(20);
+
+        queryCounter.start();
+        ListData<BoardListItem> data = infoService.getList(BID, search);
+        QueryStats stats = queryCounter.stop();
+
+        stats.getShapes().keySet().forEach(System.out::println);
+
+        List<BoardListItem> items = data.getItems();
+        assertEquals(20, items.size());
+        assertTrue(items.stream().allMatch(item -> BID.equals(item.getBid())));
+
+        assertTrue(stats.getShapes().keySet().stream().noneMatch(sql -> CONTENT.matcher(sql).find()));
+        assertTrue(stats.getShapes().keySet().stream().noneMatch(sql -> sql.contains("file_info"))); // 목록 이미지는 저장된 selectedImageSeq 사용
+    }
+
+    @Test
+    @DisplayName("최신 게시글")
+    void latestTest() {
+        queryCounter.start();
+        List<BoardListItem> items = infoService.getLatest(BID, 5);
+        QueryStats stats = queryCounter.stop();
+
+        assertEquals(5, items.size());
+        assertTrue(stats.getShapes().keySet().stream().noneMatch(sql -> CONTENT.matcher(sql).find()));
+    }
+}
@@ -0,0 +1,159 @@
+package org.koreait.board.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.board.entities.Board;
+import org.koreait.board.entities.BoardData;
+import org.koreait.board.repositories.BoardDataRepository;
+import org.koreait.board.repositories.BoardRepository;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.file.repositories.FileInfoRepository;
+import org.koreait.file.services.FileDeleteService;
+import org.koreait.file.services.FileImageService;
+import org.koreait.member.constants.Authority;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시글 목록 요약 정보 - 저장, 대표 이미지 선택, 파일 삭제시 갱신
+ */
+@SpringBootTest
+@ActiveProfiles({"default", "test"})
+@DisplayName("게시글 목록 요약 정보 테스트")
+public class BoardSummaryServiceTest {
+
+    @Autowired
+    private BoardSummaryService summaryService;
+
+    @Autowired
+    private FileImageService imageService;
+
+    @Autowired
+    private FileDeleteService deleteService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardDataRepository boardDataRepository;
+
+    @Autowired
+    private FileInfoRepository fileInfoRepository;
+
+    private BoardData item;
+    private List<FileInfo> images;
+    private FileInfo attach;
+
+    @BeforeEach
+    void init() {
+        Board board = new Board();
+        board.setBid("summary");
+        board.setName("요약 정보 테스트");
+        board.setSkin("gallery");
+        board.setListAuthority(Authority.ALL);
+        board.setViewAuthority(Authority.ALL);
+        board.setWriteAuthority(Authority.ALL);
+        board.setCommentAuthority(Authority.ALL);
+        boardRepository.saveAndFlush(board);
+
+        String gid = UUID.randomUUID().toString();
+
+        images = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            images.add(file(gid, "editor", "image" + i + ".png"));
+        }
+        attach = file(gid, "attach", "document.pdf");
+
+        List<FileInfo> files = new ArrayList<>(images);
+        files.add(attach);
+        fileInfoRepository.saveAllAndFlush(files);
+
+        item = new BoardData();
+        item.setBoard(board);
+        item.setGid(gid);
+        item.setPoster("작성자");
+        item.setSubject("제목");
+        item.setContent("<p>첫번째&nbsp;문단</p><script>alert(1)</script><p>두번째 &amp; <b>문단</b></p>");
+        summaryService.apply(item);
+        boardDataRepository.saveAndFlush(item);
+    }
+
+    @Test
+    @DisplayName("HTML 태그 제거 후 요약")
+    void excerptTest() {
+        assertEquals("첫번째 문단 두번째 & 문단", item.getExcerpt());
+
+        String excerpt = summaryService.getExcerpt("<div>" + "가".repeat(500) + "</div>");
+        assertEquals(BoardSummaryService.EXCERPT_LENGTH, excerpt.length());
+    }
+
+    @Test
+    @DisplayName("저장시 파일 수, 목록 이미지 기록")
+    void applyTest() {
+        assertEquals(3, item.getImageCount());
+        assertEquals(1, item.getAttachCount());
+        assertEquals(images.get(0).getSeq(), item.getSelectedImageSeq()); // 선택한 이미지가 없으면 첫번째 이미지
+    }
+
+    @Test
+    @DisplayName("대표 이미지 선택, 파일 삭제시 갱신")
+    void syncTest() {
+        Long selected = images.get(2).getSeq();
+        imageService.select(selected);
+
+        BoardData data = boardDataRepository.findById(item.getSeq()).orElseThrow();
+        assertEquals(selected, data.getSelectedImageSeq());
+
+        deleteService.delete(selected);
+        deleteService.delete(attach.getSeq());
+
+        data = boardDataRepository.findById(item.getSeq()).orElseThrow();
+        assertEquals(2, data.getImageCount());
+        assertEquals(0, data.getAttachCount());
+        assertEquals(images.get(0).getSeq(), data.getSelectedImageSeq());
+    }
+
+    @Test
+    @DisplayName("일괄 생성시 요약 컬럼만 갱신, 수정일시 유지")
+    void rebuildTest() {
+        item.setExcerpt(null);
+        item.setSelectedImageSeq(null);
+        item.setImageCount(0);
+        item.setAttachCount(0);
+        boardDataRepository.saveAndFlush(item);
+
+        LocalDateTime modifiedAt = boardDataRepository.findById(item.getSeq()).orElseThrow().getModifiedAt();
+
+        long total = summaryService.rebuild(2);
+        System.out.println("일괄 생성: " + total);
+        assertTrue(total > 0L);
+
+        BoardData data = boardDataRepository.findById(item.getSeq()).orElseThrow();
+        assertEquals("첫번째 문단 두번째 & 문단", data.getExcerpt());
+        assertEquals(3, data.getImageCount());
+        assertEquals(1, data.getAttachCount());
+        assertEquals(images.get(0).getSeq(), data.getSelectedImageSeq());
+        assertEquals(modifiedAt, data.getModifiedAt());
+    }
+
+    private FileInfo file(String gid, String location, String fileName) {
+        FileInfo file = new FileInfo();
+        file.setGid(gid);
+        file.setLocation(location);
+        file.setFileName(fileName);
+        file.setExtension(fileName.substring(fileName.lastIndexOf('.')));
+        file.setContentType(location.equals("editor") ? "image/png" : "application/pdf");
+        file.setDone(true);
+
+        return file;
+    }
+}
@@ -0,0 +1,158 @@
+package org.koreait.dl.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.board.controllers.RequestComment;
+import org.koreait.board.entities.Board;
+import org.koreait.board.entities.BoardData;
+import org.koreait.board.entities.CommentData;
+import org.koreait.board.repositories.BoardDataRepository;
+import org.koreait.board.repositories.BoardRepository;
+import org.koreait.board.repositories.CommentDataRepository;
+import org.koreait.board.services.comment.CommentContent;
+import org.koreait.board.services.comment.CommentSentimentService;
+import org.koreait.board.services.comment.CommentUpdateService;
+import org.koreait.member.constants.Authority;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+/**
+ * 댓글 감정 분석 - 등록한 댓글을 모아서 한번에 분석, 점수 저장
+ *  - 분석 프로세스(BERT) 대신 모의 객체 사용 : 내용에 "좋" 이 있으면 0.9, 없으면 0.1
+ */
+@SpringBootTest(properties = {
+        "dl.sentiment.batch-size=3",
+        "dl.sentiment.batch-delay=60000",
+        "dl.sentiment.model-version=test",
+        "python.run.path=python",
+        "python.script.path=./",
+        "python.script2.path=./",
+        "python.bert.path=./",
+        "python.data.url=http://localhost/api/dl/data",
+        "dl.train.model-path=${java.io.tmpdir}/dl-models"
+})
+@ActiveProfiles({"default", "test", "dl"})
+@DisplayName("댓글 감정 분석 테스트")
+public class CommentSentimentTest {
+
+    @MockBean
+    private SentimentService sentimentService;
+
+    @Autowired
+    private CommentUpdateService commentUpdateService;
+
+    @Autowired
+    private CommentSentimentService commentSentimentService;
+
+    @Autowired
+    private CommentDataRepository commentDataRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardDataRepository boardDataRepository;
+
+    private BoardData data;
+
+    @BeforeEach
+    void init() {
+        given(sentimentService.predict(anyList())).willAnswer(invocation -> {
+            List<String> items = invocation.getArgument(0);
+            return items.stream().mapToDouble(item -> item.contains("좋") ? 0.9 : 0.1).toArray();
+        });
+
+        Board board = new Board();
+        board.setBid("sentiment");
+        board.setName("감정 분석 테스트");
+        board.setOpen(true);
+        board.setSkin("default");
+        board.setUseComment(true);
+        board.setListAuthority(Authority.ALL);
+        board.setViewAuthority(Authority.ALL);
+        board.setWriteAuthority(Authority.ALL);
+        board.setCommentAuthority(Authority.ALL);
+        boardRepository.saveAndFlush(board);
+
+        data = new BoardData();
+        data.setBoard(board);
+        data.setGid(UUID.randomUUID().toString());
+        data.setPoster("작성자");
+        data.setSubject("제목");
+        data.setContent("내용");
+        boardDataRepository.saveAndFlush(data);
+    }
+
+    @Test
+    @DisplayName("댓글 3개 등록 - 분석 1회, 점수 저장")
+    void batchTest() throws Exception {
+        List<Long> seqs = new ArrayList<>();
+        for (String content : List.of("좋아요", "별로", "좋은 글")) {
+            RequestComment form = new RequestComment();
+            form.setBoardDataSeq(data.getSeq());
+            form.setCommenter("댓글 작성자");
+            form.setContent(content);
+
+            seqs.add(commentUpdateService.save(form).getSeq());
+        }
+
+        List<CommentData> items = waitForScores(seqs);
+        items.forEach(item -> System.out.println(item.getContent() + " : " + item.getSentiment() + ", " + item.getSentimentModel()));
+
+        then(sentimentService).should(times(1)).predict(anyList());
+        assertEquals(0.9, items.get(0).getSentiment());
+        assertEquals(0.1, items.get(1).getSentiment());
+        assertEquals(0.9, items.get(2).getSentiment());
+        assertTrue(items.stream().allMatch(item -> "test".equals(item.getSentimentModel())));
+    }
+
+    @Test
+    @DisplayName("분석 중 수정된 댓글은 이전 내용의 점수를 저장하지 않음")
+    void staleTest() {
+        CommentData item = new CommentData();
+        item.setData(data);
+        item.setCommenter("댓글 작성자");
+        item.setContent("좋아요");
+        commentDataRepository.saveAndFlush(item); // 이벤트 없이 저장 - 대기열에 추가되지 않음
+
+        CommentContent snapshot = commentSentimentService.getContents(List.of(item.getSeq())).get(0);
+
+        // 분석하는 동안 내용 수정
+        item.setContent("별로");
+        commentDataRepository.saveAndFlush(item);
+
+        assertEquals(0L, commentSentimentService.save(Map.of(snapshot, 0.9), "test"));
+        assertNull(commentDataRepository.findById(item.getSeq()).orElseThrow().getSentiment());
+
+        CommentContent current = commentSentimentService.getContents(List.of(item.getSeq())).get(0);
+        assertEquals(1L, commentSentimentService.save(Map.of(current, 0.1), "test"));
+        assertEquals(0.1, commentDataRepository.findById(item.getSeq()).orElseThrow().getSentiment());
+    }
+
+    private List<CommentData> waitForScores(List<Long> seqs) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            List<CommentData> items = seqs.stream().map(seq -> commentDataRepository.findById(seq).orElseThrow()).toList();
+            if (items.stream().allMatch(item -> item.getSentiment() != null)) {
+                return items;
+            }
+
+            Thread.sleep(100L);
+        }
+
+        return fail("10초 내에 분석되지 않음");
+    }
+}
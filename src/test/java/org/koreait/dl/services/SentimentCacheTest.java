@@ -0,0 +1,53 @@
+package org.koreait.dl.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 감정 분석 결과 캐시 - Redis 가 없어도 서버 메모리 캐시로 동작
+ */
+@SpringBootTest(properties = {
+        "dl.sentiment.model-version=test",
+        "python.run.path=python",
+        "python.script.path=./",
+        "python.script2.path=./",
+        "python.bert.path=./",
+        "python.data.url=http://localhost/api/dl/data",
+        "dl.train.model-path=${java.io.tmpdir}/dl-models"
+})
+@ActiveProfiles({"default", "test", "dl"})
+@DisplayName("감정 분석 결과 캐시 테스트")
+public class SentimentCacheTest {
+
+    @Autowired
+    private SentimentCache cache;
+
+    @Test
+    @DisplayName("같은 내용은 캐시에서 조회")
+    void cacheTest() {
+        String text1 = "재미있음 " + UUID.randomUUID();
+        String text2 = "재미없음 " + UUID.randomUUID();
+
+        assertTrue(cache.getAll(List.of(text1, text2)).isEmpty());
+
+        cache.putAll(Map.of(text1, 0.9, text2, 0.1));
+
+        Map<String, Double> items = cache.getAll(List.of(text1, text2, text1));
+        System.out.println(items);
+        assertEquals(2, items.size());
+        assertEquals(0.9, items.get(text1));
+        assertEquals(0.1, items.get(text2));
+
+        assertTrue(cache.getAll(List.of(text1 + " ")).isEmpty()); // 내용이 다르면 다시 분석
+        assertEquals("test", cache.getVersion());
+    }
+}
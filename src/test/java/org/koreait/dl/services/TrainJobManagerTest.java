@@ -0,0 +1,188 @@
+package org.koreait.dl.services;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.dl.constants.TrainStatus;
+import org.koreait.dl.exceptions.TrainJobConflictException;
+import org.koreait.global.scheduling.JobLockService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 모델 훈련 작업 관리 - 파이썬 대신 자바 단일 소스 실행으로 훈련 프로세스 흉내
+ *  - ok 줄수 : 출력 후 현재 경로에 model.txt 작성, 종료 코드 0
+ *  - fail : 종료 코드 3
+ *  - 그 외 : 60초 대기(제한 시간, 취소 확인)
+ */
+@SpringBootTest
+@ActiveProfiles({"default", "test", "dl"})
+@DisplayName("모델 훈련 작업 관리 테스트")
+public class TrainJobManagerTest {
+
+    private static Path basePath;
+    private static Path script;
+
+    @Autowired
+    private TrainJobManager jobManager;
+
+    @Autowired
+    private ModelVersionService versionService;
+
+    @Autowired
+    private JobLockService lockService;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws Exception {
+        basePath = Files.createTempDirectory("dl-train");
+        registry.add("dl.train.model-path", () -> basePath.resolve("models").toString());
+        registry.add("dl.train.timeout-seconds", () -> "10");
+        registry.add("dl.train.stop-grace-seconds", () -> "2");
+        registry.add("dl.train.log-lines", () -> "100");
+        registry.add("dl.train.keep-versions", () -> "2");
+        registry.add("python.run.path", () -> "python");
+        registry.add("python.script.path", () -> basePath + "/");
+        registry.add("python.data.url", () -> "http://localhost/api/dl/data");
+        registry.add("python.script2.path", () -> basePath + "/");
+        registry.add("python.bert.path", () -> basePath.toString());
+    }
+
+    @BeforeAll
+    static void init() throws Exception {
+        script = basePath.resolve("FakeTrain.java");
+        Files.writeString(script, """
+                public class FakeTrain {
+                    public static void main(String[] args) throws Exception {
+                        switch (args[0]) {
+                            case "ok" -> {
+                                int n = Integer.parseInt(args[1]);
+                                for (int i = 0; i < n; i++) System.out.println("line " + i);
+                                java.nio.file.Files.writeString(java.nio.file.Path.of("model.txt"), System.getenv("MODEL_DIR"));
+                            }
+                            case "fail" -> {
+                                System.err.println("error");
+                                System.exit(3);
+                            }
+                            default -> Thread.sleep(60000L);
+                        }
+                    }
+                }
+                """);
+    }
+
+    @Test
+    @DisplayName("성공시 출력은 최근 줄만 보관, 모델 교체")
+    void successTest() {
+        TrainJob job = jobManager.submit(command("ok", "1000")).await();
+        TrainJobStatus status = jobManager.getStatus(job.getJobId(), 0L);
+        System.out.println(status.status() + ", " + status.elapsed() + "ms, next=" + status.next() + ", dropped=" + status.dropped());
+
+        assertEquals(TrainStatus.SUCCESS, status.status());
+        assertEquals(0, status.exitCode());
+        assertEquals(100, status.logs().size());
+        assertEquals(900L, status.dropped());
+        assertEquals("line 999", status.logs().get(99).text());
+        assertEquals(1000L, status.next());
+        assertTrue(jobManager.getStatus(job.getJobId(), status.next()).logs().isEmpty()); // 이어서 조회
+
+        // 훈련 결과가 현재 모델
+        assertTrue(status.current());
+        assertEquals(job.getModelDir(), versionService.getCurrent());
+        assertTrue(Files.exists(versionService.getCurrent().resolve("model.txt")));
+    }
+
+    @Test
+    @DisplayName("실패시 이전 모델 유지, 실패 버전 삭제")
+    void failTest() {
+        jobManager.submit(command("ok", "1")).await();
+        Path prev = versionService.getCurrent();
+
+        TrainJob job = jobManager.submit(command("fail")).await();
+        assertEquals(TrainStatus.FAIL, job.getStatus());
+        assertEquals(3, job.getExitCode());
+        assertEquals("error", job.getLogs().since(0L).get(0).text()); // 오류 출력도 함께 보관
+
+        assertEquals(prev, versionService.getCurrent());
+        assertFalse(Files.exists(job.getModelDir()));
+    }
+
+    @Test
+    @DisplayName("실행 중 재요청시 같은 작업, 취소")
+    void cancelTest() throws Exception {
+        TrainJob job = jobManager.submit(command("sleep"));
+        assertSame(job, jobManager.submit(command("ok", "1")));
+
+        while (job.getStatus() == TrainStatus.QUEUED) {
+            Thread.sleep(100L);
+        }
+
+        jobManager.cancel(job.getJobId());
+        job.await();
+
+        System.out.println(job.getStatus() + ", " + job.getElapsed() + "ms");
+        assertEquals(TrainStatus.CANCELLED, job.getStatus());
+        assertTrue(job.getElapsed() < 10000L);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 훈련 중이면 409")
+    void conflictTest() {
+        assertTrue(lockService.tryLock(TrainJobManager.LOCK_NAME, "other-node", Duration.ofMinutes(1L)));
+        try {
+            assertThrows(TrainJobConflictException.class, () -> jobManager.submit(command("ok", "1")));
+        } finally {
+            lockService.unlock(TrainJobManager.LOCK_NAME, "other-node");
+        }
+
+        // 해제 후 실행 가능, 종료시 잠금 해제
+        assertEquals(TrainStatus.SUCCESS, jobManager.submit(command("ok", "1")).await().getStatus());
+        assertTrue(lockService.tryLock(TrainJobManager.LOCK_NAME, "other-node", Duration.ofSeconds(1L)));
+        lockService.unlock(TrainJobManager.LOCK_NAME, "other-node");
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 교체한 모델 반영")
+    void pointerTest() throws Exception {
+        jobManager.submit(command("ok", "1")).await();
+
+        Path other = versionService.create("other-node-version");
+        Path pointer = basePath.resolve("models").resolve("current");
+        Files.writeString(pointer, "other-node-version");
+        Files.setLastModifiedTime(pointer, FileTime.from(Instant.now().plusSeconds(5L)));
+
+        assertEquals(other, versionService.getCurrent());
+        assertEquals("other-node-version", versionService.getCurrentVersion());
+    }
+
+    @Test
+    @DisplayName("제한 시간 초과시 종료")
+    void timeoutTest() {
+        TrainJob job = jobManager.submit(command("sleep")).await();
+
+        System.out.println(job.getStatus() + ", " + job.getElapsed() + "ms, " + job.getMessage());
+        assertEquals(TrainStatus.TIMEOUT, job.getStatus());
+        assertTrue(job.getElapsed() >= 10000L);
+    }
+
+    private List<String> command(String... args) {
+        String java = ProcessHandle.current().info().command().orElse("java");
+
+        List<String> command = new ArrayList<>(List.of(java, script.toString()));
+        command.addAll(List.of(args));
+
+        return command;
+    }
+}
@@ -0,0 +1,166 @@
+package org.koreait.file.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.file.entities.FileBlob;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.file.repositories.FileBlobRepository;
+import org.koreait.file.repositories.FileInfoRepository;
+import org.koreait.file.storage.FileStorage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"default", "test"})
+@DisplayName("내용 기반 파일 저장소 테스트")
+public class FileBlobServiceTest {
+
+    @Autowired
+    private FileBlobService blobService;
+
+    @Autowired
+    private FileBlobRepository blobRepository;
+
+    @Autowired
+    private FileInfoRepository infoRepository;
+
+    @Autowired
+    private FileInfoService infoService;
+
+    @Autowired
+    private FileMigrationService migrationService;
+
+    @Autowired
+    private FileStorage storage;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("같은 내용은 한번만 저장하고 참조가 없을 때 삭제")
+    void dedupTest() throws Exception {
+        byte[] data = "같은 내용의 파일".getBytes();
+
+        String hash1 = blobService.store(new ByteArrayInputStream(data), ".txt");
+        String hash2 = blobService.store(new ByteArrayInputStream(data), ".txt");
+        assertEquals(hash1, hash2);
+
+        FileBlob blob = blobRepository.findById(hash1 + ".txt").orElseThrow();
+        assertEquals(2L, blob.getRefCount());
+
+        String key = blobService.getStorageKey(hash1, ".txt");
+        System.out.println(key);
+        assertTrue(storage.exists(key));
+
+        blobService.release(hash1, ".txt");
+        assertTrue(storage.exists(key)); // 참조가 남아 있으면 유지
+
+        blobService.release(hash1, ".txt");
+        waitFor(() -> !blobRepository.existsById(hash1 + ".txt")); // 비동기 삭제
+        assertFalse(storage.exists(key));
+    }
+
+    @Test
+    @DisplayName("삭제 대기 중 같은 내용을 다시 저장하면 파일 유지")
+    void reuseTest() throws Exception {
+        byte[] data = ("다시 저장 " + System.nanoTime()).getBytes();
+        String hash = blobService.store(new ByteArrayInputStream(data), ".txt");
+        String key = blobService.getStorageKey(hash, ".txt");
+
+        // 참조 해제 - 삭제 대기, 커밋 후 삭제 작업이 실행되기 전에 같은 내용 저장
+        assertEquals(hash + ".txt", blobService.release(hash, ".txt", 1L));
+        blobService.store(new ByteArrayInputStream(data), ".txt");
+
+        assertEquals(-1L, blobService.purge(hash + ".txt")); // 늦게 실행된 삭제 작업
+        assertTrue(storage.exists(key));
+        assertEquals(1L, blobRepository.findById(hash + ".txt").orElseThrow().getRefCount());
+
+        // 이미 삭제되어 정보가 없으면 파일 유지
+        blobService.release(hash, ".txt", 1L);
+        assertTrue(blobService.purge(hash + ".txt") >= 0L);
+        assertFalse(storage.exists(key));
+        assertEquals(-1L, blobService.purge(hash + ".txt"));
+    }
+
+    @Test
+    @DisplayName("남은 참조 수보다 많이 해제해도 0 미만으로 내려가지 않음")
+    void overReleaseTest() throws Exception {
+        byte[] data = ("중복 해제 " + System.nanoTime()).getBytes();
+        String hash = blobService.store(new ByteArrayInputStream(data), ".txt");
+
+        assertEquals(hash + ".txt", blobService.release(hash, ".txt", 3L));
+        assertEquals(0L, blobRepository.findById(hash + ".txt").orElseThrow().getRefCount());
+
+        assertNull(blobService.release(hash, ".txt", 1L)); // 이미 삭제 대기인 파일 - 중복 삭제 요청
+        assertEquals(0L, blobRepository.findById(hash + ".txt").orElseThrow().getRefCount());
+
+        blobService.purge(hash + ".txt");
+    }
+
+    @Test
+    @DisplayName("기존 경로(seq % 10) 파일 이전")
+    void migrateTest() throws Exception {
+        FileInfo item = new FileInfo();
+        item.setGid("migrategid");
+        item.setFileName("legacy.txt");
+        item.setExtension(".txt");
+        item.setContentType("text/plain");
+        infoRepository.saveAndFlush(item);
+
+        Path legacy = Path.of(infoService.getFilePath(item));
+        Files.createDirectories(legacy.getParent());
+        Files.write(legacy, "기존 파일".getBytes());
+
+        long total = migrationService.migrate(100);
+        assertTrue(total > 0L);
+
+        FileInfo migrated = infoRepository.findById(item.getSeq()).orElseThrow();
+        assertNotNull(migrated.getHash());
+        assertFalse(Files.exists(legacy));
+        assertEquals("기존 파일", Files.readString(Path.of(infoService.getFilePath(migrated))));
+
+        // 다시 실행해도 참조 수는 그대로
+        long refCount = blobRepository.findById(migrated.getHash() + ".txt").orElseThrow().getRefCount();
+        migrationService.migrate(100);
+        assertEquals(refCount, blobRepository.findById(migrated.getHash() + ".txt").orElseThrow().getRefCount());
+    }
+
+    @Test
+    @DisplayName("호출한 쪽 트랜잭션이 롤백되면 새로 등록한 참조도 해제")
+    void rollbackTest() throws Exception {
+        byte[] data = ("롤백 " + System.nanoTime()).getBytes();
+
+        String[] hash = new String[1];
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.executeWithoutResult(status -> {
+            try {
+                hash[0] = blobService.store(new ByteArrayInputStream(data), ".txt");
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+
+            assertTrue(blobRepository.existsById(hash[0] + ".txt")); // 별도 트랜잭션으로 등록
+            status.setRollbackOnly();
+        });
+
+        waitFor(() -> !blobRepository.existsById(hash[0] + ".txt"));
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 50 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(100L);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,93 @@
+package org.koreait.file.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.file.repositories.FileInfoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 파일 완료 처리, 대표 이미지 선택 - 파일 수와 관계 없이 UPDATE 한번
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"default", "test"})
+@DisplayName("파일 일괄 수정 테스트")
+public class FileBulkUpdateTest {
+
+    private static final int ROWS = 50;
+
+    @Autowired
+    private FileDoneService doneService;
+
+    @Autowired
+    private FileImageService imageService;
+
+    @Autowired
+    private FileInfoRepository repository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private List<FileInfo> items;
+
+    @BeforeEach
+    void init() {
+        items = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            FileInfo item = new FileInfo();
+            item.setGid("bulkgid");
+            item.setLocation("editor");
+            item.setFileName("image" + i + ".png");
+            item.setExtension(".png");
+            item.setContentType("image/png");
+            items.add(item);
+        }
+
+        repository.saveAllAndFlush(items);
+    }
+
+    @Test
+    @DisplayName("완료 처리")
+    void doneTest() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        doneService.process("bulkgid", "editor");
+
+        System.out.printf("%d건, 쿼리 %d, 엔티티 조회 %d%n", ROWS, stats.getPrepareStatementCount(), stats.getEntityLoadCount());
+        assertEquals(1L, stats.getPrepareStatementCount());
+        assertEquals(0L, stats.getEntityLoadCount());
+        assertTrue(repository.findAllById(items.stream().map(FileInfo::getSeq).toList()).stream().allMatch(FileInfo::isDone));
+    }
+
+    @Test
+    @DisplayName("대표 이미지 선택")
+    void selectTest() {
+        Long seq = items.get(ROWS / 2).getSeq();
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        imageService.select(seq);
+
+        System.out.printf("%d건, 쿼리 %d, 엔티티 조회 %d%n", ROWS, stats.getPrepareStatementCount(), stats.getEntityLoadCount());
+        assertEquals(2L, stats.getPrepareStatementCount()); // 그룹 조회 + UPDATE
+        assertEquals(0L, stats.getEntityLoadCount());
+
+        List<FileInfo> selected = repository.findAllById(items.stream().map(FileInfo::getSeq).toList())
+                .stream().filter(FileInfo::isSelected).toList();
+        assertEquals(1, selected.size());
+        assertEquals(seq, selected.get(0).getSeq());
+    }
+}
@@ -0,0 +1,148 @@
+package org.koreait.file.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.file.controllers.RequestChunkUpload;
+import org.koreait.file.entities.ChunkUpload;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.file.exceptions.ChunkConflictException;
+import org.koreait.file.exceptions.FileNotFoundException;
+import org.koreait.global.configs.FileProperties;
+import org.koreait.global.exceptions.BadRequestException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"default", "test"})
+@DisplayName("분할 업로드 테스트")
+public class FileChunkUploadServiceTest {
+
+    @Autowired
+    private FileChunkUploadService service;
+
+    @Autowired
+    private FileProperties properties;
+
+    private byte[] data;
+
+    private RequestChunkUpload form;
+
+    @BeforeEach
+    void init() throws Exception {
+        data = new byte[3 * 1024 * 1024 + 123];
+        new Random(1L).nextBytes(data);
+
+        form = new RequestChunkUpload();
+        form.setGid("chunkgid");
+        form.setLocation("chunk");
+        form.setFileName("large.bin");
+        form.setLength(data.length);
+        form.setChecksum(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data)));
+    }
+
+    @Test
+    @DisplayName("끊긴 위치부터 이어서 업로드 후 완료")
+    void resumeTest() throws Exception {
+        ChunkUpload upload = service.create(form);
+        String id = upload.getId();
+
+        int half = data.length / 2;
+        long offset = service.append(id, 0L, new ByteArrayInputStream(data, 0, half));
+        assertEquals(half, offset);
+
+        // 이미 받은 위치와 다른 위치로 요청하면 409
+        assertThrows(ChunkConflictException.class, () -> service.append(id, 0L, new ByteArrayInputStream(data)));
+
+        // HEAD 로 조회한 위치부터 이어서 전송
+        offset = service.get(id).getOffset();
+        offset = service.append(id, offset, new ByteArrayInputStream(data, (int)offset, data.length - (int)offset));
+        assertEquals(data.length, offset);
+
+        List<FileInfo> items = service.complete(List.of(id));
+        assertEquals(1, items.size());
+
+        FileInfo item = items.get(0);
+        System.out.println(item);
+        assertArrayEquals(data, Files.readAllBytes(new File(item.getFilePath()).toPath()));
+    }
+
+    @Test
+    @DisplayName("같은 ID로 여러번 완료 요청해도 한번만 처리, 완료 후 임시 파일 삭제")
+    void duplicateTest() {
+        ChunkUpload upload = service.create(form);
+        String id = upload.getId();
+        service.append(id, 0L, new ByteArrayInputStream(data));
+
+        List<FileInfo> items = service.complete(List.of(id, id));
+        assertEquals(1, items.size());
+
+        assertThrows(FileNotFoundException.class, () -> service.get(id));
+    }
+
+    @Test
+    @DisplayName("체크섬이 다르면 완료 처리하지 않음")
+    void checksumTest() {
+        form.setChecksum("00");
+        ChunkUpload upload = service.create(form);
+        service.append(upload.getId(), 0L, new ByteArrayInputStream(data));
+
+        assertThrows(BadRequestException.class, () -> service.complete(List.of(upload.getId())));
+        service.cancel(upload.getId());
+    }
+
+    @Test
+    @DisplayName("같은 서버에서 동시에 기록하면 409")
+    void lockTest() throws Exception {
+        ChunkUpload upload = service.create(form);
+        Path part = Path.of(properties.getPath(), "chunks", upload.getId() + ".part");
+
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE);
+             FileLock lock = channel.lock()) { // 다른 요청이 기록 중
+            assertThrows(ChunkConflictException.class, () -> service.append(upload.getId(), 0L, new ByteArrayInputStream(data)));
+        }
+
+        service.cancel(upload.getId());
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과")
+    void maxLengthTest() {
+        form.setLength(properties.getChunkMaxLength() + 1L);
+        assertThrows(BadRequestException.class, () -> service.create(form));
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 임시 파일 정리")
+    void purgeTest() throws Exception {
+        ChunkUpload expired = service.create(form);
+        ChunkUpload active = service.create(form);
+
+        FileTime old = FileTime.from(Instant.now().minus(properties.getChunkExpireHours() + 1L, ChronoUnit.HOURS));
+        Files.setLastModifiedTime(Path.of(properties.getPath(), "chunks", expired.getId() + ".part"), old);
+
+        assertTrue(service.purgeExpired() >= 1L);
+        assertThrows(FileNotFoundException.class, () -> service.get(expired.getId()));
+        assertNotNull(service.get(active.getId()));
+
+        service.cancel(active.getId());
+    }
+}
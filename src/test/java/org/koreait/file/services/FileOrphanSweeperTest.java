@@ -0,0 +1,80 @@
+package org.koreait.file.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.file.repositories.FileInfoRepository;
+import org.koreait.file.storage.FileStorage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 미완료 파일 정리 - orphanHours=0 으로 방금 업로드한 미완료 파일을 정리
+ */
+@SpringBootTest(properties = "file.cleanup.orphan-hours=0")
+@ActiveProfiles({"default", "test"})
+@DisplayName("미완료 파일 정리 테스트")
+public class FileOrphanSweeperTest {
+
+    @Autowired
+    private FileOrphanSweeper sweeper;
+
+    @Autowired
+    private FileBlobService blobService;
+
+    @Autowired
+    private FileInfoRepository infoRepository;
+
+    @Autowired
+    private FileInfoService infoService;
+
+    @Autowired
+    private FileStorage storage;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    @DisplayName("미완료 파일 정보와 저장소 파일 삭제")
+    void sweepTest() throws Exception {
+        List<FileInfo> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String hash = blobService.store(new ByteArrayInputStream(("미완료 파일" + i).getBytes()), ".txt");
+
+            FileInfo item = new FileInfo();
+            item.setGid("orphangid");
+            item.setFileName("orphan" + i + ".txt");
+            item.setExtension(".txt");
+            item.setContentType("text/plain");
+            item.setHash(hash);
+            items.add(item);
+        }
+
+        infoRepository.saveAllAndFlush(items);
+        Thread.sleep(10L);
+
+        long total = sweeper.sweep();
+        assertTrue(total >= items.size());
+
+        for (FileInfo item : items) {
+            assertFalse(infoRepository.existsById(item.getSeq()));
+        }
+
+        // 저장소 파일은 커밋 후 비동기로 삭제
+        String key = infoService.getFileKey(items.get(0));
+        for (int i = 0; i < 50 && storage.exists(key); i++) {
+            Thread.sleep(100L);
+        }
+
+        assertFalse(storage.exists(key));
+        System.out.printf("회수 용량: %.0f bytes%n", registry.counter("file.cleanup.bytes", "source", "orphan").count());
+    }
+}
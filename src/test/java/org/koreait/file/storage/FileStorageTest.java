@@ -0,0 +1,105 @@
+package org.koreait.file.storage;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 파일 저장소 구현체 테스트
+ *  - S3 호환 저장소는 MinIO 컨테이너로 확인, Docker 가 없으면 건너띔
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("파일 저장소 테스트")
+public class FileStorageTest {
+
+    private static final String BUCKET = "uploads";
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-10-13T13-34-11Z");
+
+    private static S3Client s3;
+
+    @TempDir
+    Path root;
+
+    private final byte[] data = new byte[256 * 1024];
+
+    @BeforeAll
+    static void init() {
+        s3 = S3Client.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .region(Region.AP_NORTHEAST_2)
+                .forcePathStyle(true)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+                .build();
+
+        s3.createBucket(b -> b.bucket(BUCKET));
+    }
+
+    @Test
+    @DisplayName("서버 디스크 저장소")
+    void localTest() throws Exception {
+        storageTest(new LocalFileStorage(root.toString() + "/"));
+    }
+
+    @Test
+    @DisplayName("S3 호환 저장소")
+    void s3Test() throws Exception {
+        storageTest(new S3FileStorage(s3, BUCKET));
+    }
+
+    @Test
+    @DisplayName("서버 디스크 저장소 - 업로드 경로 밖 접근 차단")
+    void localKeyTest() {
+        LocalFileStorage storage = new LocalFileStorage(root.toString() + "/");
+        assertThrows(IllegalArgumentException.class, () -> storage.get("../secret.txt"));
+    }
+
+    private void storageTest(FileStorage storage) throws Exception {
+        new Random(1L).nextBytes(data);
+        String key = "blobs/ab/cd/test.bin";
+
+        storage.put(key, new ByteArrayInputStream(data), data.length, "application/octet-stream");
+        assertTrue(storage.exists(key));
+        assertEquals(data.length, storage.size(key));
+
+        try (InputStream in = storage.get(key)) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+
+        // 범위 조회 - 끝 위치 포함
+        try (InputStream in = storage.get(key, 1000L, 1999L)) {
+            assertArrayEquals(Arrays.copyOfRange(data, 1000, 2000), in.readAllBytes());
+        }
+
+        // 서버 파일 이동
+        Path source = Files.createTempFile(root, "move", ".bin");
+        Files.write(source, data);
+        storage.put("thumbs/1/move.bin", source, true);
+        assertFalse(Files.exists(source));
+        assertTrue(storage.exists("thumbs/1/move.bin"));
+
+        storage.delete(key);
+        assertFalse(storage.exists(key));
+        assertThrows(NoSuchFileException.class, () -> storage.get(key).close());
+    }
+}
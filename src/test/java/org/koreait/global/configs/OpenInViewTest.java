@@ -0,0 +1,194 @@
+package org.koreait.global.configs;
+
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.board.entities.Board;
+import org.koreait.board.entities.BoardData;
+import org.koreait.board.entities.CommentData;
+import org.koreait.board.repositories.BoardDataRepository;
+import org.koreait.board.repositories.BoardRepository;
+import org.koreait.board.repositories.CommentDataRepository;
+import org.koreait.member.constants.Authority;
+import org.koreait.member.constants.Gender;
+import org.koreait.member.controllers.RequestJoin;
+import org.koreait.member.entities.Member;
+import org.koreait.member.repositories.MemberRepository;
+import org.koreait.member.services.MemberUpdateService;
+import org.koreait.message.constants.MessageStatus;
+import org.koreait.message.entities.Message;
+import org.koreait.message.repositories.MessageRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Open Session In View 비활성화
+ *  - 화면 출력(Thymeleaf) 중 지연 로딩이 발생하면 LazyInitializationException
+ *  - 주요 화면의 출력에 필요한 연관 엔티티는 서비스에서 함께 조회해야 한다
+ */
+@SpringBootTest
+@ActiveProfiles({"default", "test"})
+@AutoConfigureMockMvc
+@DisplayName("OSIV 비활성화 - 주요 화면 지연 로딩 테스트")
+public class OpenInViewTest {
+
+    private static final String EMAIL = "user01@test.org";
+    private static final String SENDER = "sender01@test.org";
+    private static final String BID = "osiv";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext ctx;
+
+    @Autowired
+    private MemberUpdateService memberUpdateService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardDataRepository boardDataRepository;
+
+    @Autowired
+    private CommentDataRepository commentDataRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    private BoardData data;
+    private CommentData comment;
+    private Message message;
+
+    @BeforeEach
+    void init() {
+        Member member = join(EMAIL, "사용자");
+        Member sender = join(SENDER, "보낸사람");
+
+        Board board = new Board();
+        board.setBid(BID);
+        board.setName("OSIV 테스트");
+        board.setOpen(true);
+        board.setRowsPerPage(20);
+        board.setPageRanges(10);
+        board.setPageRangesMobile(5);
+        board.setSkin("default");
+        board.setUseComment(true);
+        board.setListAuthority(Authority.ALL);
+        board.setViewAuthority(Authority.ALL);
+        board.setWriteAuthority(Authority.ALL);
+        board.setCommentAuthority(Authority.ALL);
+        boardRepository.saveAndFlush(board);
+
+        data = new BoardData();
+        data.setBoard(board);
+        data.setMember(member);
+        data.setGid(UUID.randomUUID().toString());
+        data.setPoster(member.getName());
+        data.setSubject("제목");
+        data.setContent("내용");
+        boardDataRepository.saveAndFlush(data);
+
+        comment = new CommentData();
+        comment.setData(data);
+        comment.setMember(member);
+        comment.setCommenter(member.getName());
+        comment.setContent("댓글");
+        commentDataRepository.saveAndFlush(comment);
+
+        message = Message.builder()
+                .gid(UUID.randomUUID().toString())
+                .status(MessageStatus.UNREAD)
+                .sender(sender)
+                .receiver(member)
+                .subject("쪽지 제목")
+                .content("쪽지 내용")
+                .build();
+        messageRepository.saveAndFlush(message);
+    }
+
+    @Test
+    @DisplayName("OSIV 인터셉터 미등록")
+    void disabledTest() {
+        assertEquals(0, ctx.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class).length);
+    }
+
+    @Test
+    @DisplayName("주요 화면 출력시 지연 로딩 없음")
+    @WithUserDetails(value = EMAIL, userDetailsServiceBeanName = "memberInfoService", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void pageTest() throws Exception {
+        render("/");
+        render("/board/list/" + BID);
+        render("/board/view/" + data.getSeq());
+        render("/board/edit/" + data.getSeq());
+        render("/board/comment/edit/" + comment.getSeq());
+        render("/message/list");
+        render("/message/view/" + message.getSeq());
+        render("/pokemon/list");
+        render("/mypage");
+    }
+
+    private void render(String url) throws Exception {
+        MvcResult result;
+        try {
+            result = mockMvc.perform(get(url)).andReturn();
+        } catch (Exception e) {
+            assertFalse(isLazyLoading(e), () -> url + " 화면 출력 중 지연 로딩 발생 : " + e.getMessage());
+            throw e;
+        }
+
+        Exception e = result.getResolvedException();
+        System.out.println(url + " : " + result.getResponse().getStatus());
+        assertFalse(isLazyLoading(e), () -> url + " 처리 중 지연 로딩 발생 : " + e.getMessage());
+        assertEquals(200, result.getResponse().getStatus(), url);
+    }
+
+    private boolean isLazyLoading(Throwable e) {
+        while (e != null) {
+            if (e instanceof LazyInitializationException) {
+                return true;
+            }
+
+            e = e.getCause();
+        }
+
+        return false;
+    }
+
+    private Member join(String email, String name) {
+        if (!memberRepository.exists(email)) {
+            RequestJoin form = new RequestJoin();
+            form.setEmail(email);
+            form.setPassword("_aA123456");
+            form.setGender(Gender.MALE);
+            form.setBirthDt(LocalDate.now().minusYears(20));
+            form.setName(name);
+            form.setNickName(name);
+            form.setZipCode("00000");
+            form.setAddress("주소");
+
+            memberUpdateService.process(form);
+        }
+
+        return memberRepository.findByEmail(email).orElseThrow();
+    }
+}
@@ -0,0 +1,142 @@
+package org.koreait.global.configs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.board.controllers.BoardSearch;
+import org.koreait.board.entities.Board;
+import org.koreait.board.repositories.BoardRepository;
+import org.koreait.board.services.BoardInfoService;
+import org.koreait.board.services.comment.CommentInfoService;
+import org.koreait.file.services.FileDoneService;
+import org.koreait.global.libs.QueryCounter;
+import org.koreait.global.libs.QueryStats;
+import org.koreait.member.constants.Authority;
+import org.koreait.member.entities.Member;
+import org.koreait.member.libs.MemberUtil;
+import org.koreait.wishlist.constants.WishType;
+import org.koreait.wishlist.services.WishService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 자주 실행되는 조회의 실행 계획 - 인덱스를 사용하지 않게 되면 실패
+ *  - 서비스를 실제로 실행하고 Hibernate 가 만든 SQL 을 QueryCounter 로 수집해서 EXPLAIN
+ *  - H2 EXPLAIN 결과에는 테이블 옆에 사용한 인덱스 이름이 주석으로 표시된다
+ */
+@SpringBootTest
+@ActiveProfiles({"default", "test"})
+@DisplayName("조회 실행 계획 테스트")
+public class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardInfoService boardInfoService;
+
+    @Autowired
+    private CommentInfoService commentInfoService;
+
+    @Autowired
+    private WishService wishService;
+
+    @Autowired
+    private FileDoneService fileDoneService;
+
+    @MockBean
+    private MemberUtil memberUtil;
+
+    @Test
+    @DisplayName("게시판별 게시글 목록")
+    void boardListTest() {
+        Board board = new Board();
+        board.setBid("plan");
+        board.setName("실행 계획 테스트");
+        board.setOpen(true);
+        board.setRowsPerPage(20);
+        board.setPageRanges(10);
+        board.setPageRangesMobile(5);
+        board.setListAuthority(Authority.ALL);
+        board.setViewAuthority(Authority.ALL);
+        board.setWriteAuthority(Authority.ALL);
+        board.setCommentAuthority(Authority.ALL);
+        boardRepository.saveAndFlush(board);
+
+        queryCounter.start(true);
+        boardInfoService.getList("plan", new BoardSearch());
+        QueryStats stats = queryCounter.stop();
+
+        assertIndex("idx_bd_bid_notice_created_at", stats,
+                sql -> sql.startsWith("select") && sql.contains("board_data") && sql.contains("order by"));
+    }
+
+    @Test
+    @DisplayName("회원별 찜 목록")
+    void wishListTest() {
+        Member member = new Member();
+        member.setSeq(1L);
+        given(memberUtil.isLogin()).willReturn(true);
+        given(memberUtil.getMember()).willReturn(member);
+
+        queryCounter.start(true);
+        wishService.getMyWish(WishType.POKEMON);
+        QueryStats stats = queryCounter.stop();
+
+        assertIndex("idx_wish_member_type", stats, sql -> sql.startsWith("select") && sql.contains("from wish"));
+    }
+
+    @Test
+    @DisplayName("게시글별 댓글 목록")
+    void commentListTest() {
+        queryCounter.start(true);
+        commentInfoService.getList(1L);
+        QueryStats stats = queryCounter.stop();
+
+        assertIndex("idx_cd_data_created_at", stats, sql -> sql.startsWith("select") && sql.contains("from comment_data"));
+    }
+
+    @Test
+    @DisplayName("파일 그룹 완료 처리")
+    void fileDoneTest() {
+        queryCounter.start(true);
+        fileDoneService.process("gid", "editor");
+        QueryStats stats = queryCounter.stop();
+
+        assertIndex("idx_file_gid_location_done", stats, sql -> sql.startsWith("update file_info"));
+    }
+
+    /**
+     * 수집한 SQL 중 조건에 맞는 SQL 의 실행 계획에 인덱스가 있는지 확인
+     *  - 파라미터는 값과 관계없이 같은 계획이 나오므로 모두 '1' 로 바인딩(H2 가 컬럼 형식으로 변환)
+     */
+    private void assertIndex(String index, QueryStats stats, Predicate<String> filter) {
+        String sql = stats.getStatements().stream()
+                .filter(s -> filter.test(s.toLowerCase()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("대상 SQL 없음\n" + String.join("\n", stats.getStatements())));
+
+        Object[] params = new Object[(int) sql.chars().filter(ch -> ch == '?').count()];
+        Arrays.fill(params, "1");
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params));
+        System.out.println(sql);
+        System.out.println(plan);
+
+        assertTrue(plan.toUpperCase().contains(index.toUpperCase()), () -> index + " 인덱스를 사용하지 않음\n" + plan);
+    }
+}
@@ -0,0 +1,163 @@
+package org.koreait.global.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 복제 DB 라우팅 - H2 메모리 DB 두개로 primary, 복제 DB 구분
+ *  - 같은 테이블에 서로 다른 값을 넣고 어느 DB 에서 읽었는지 확인
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.max-lag-seconds=10",
+        "datasource.replica.heartbeat-millis=3600000" // 테스트에서 직접 측정
+})
+@ActiveProfiles({"default", "test"})
+@DisplayName("복제 DB 라우팅 테스트")
+public class ReplicaRoutingTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor monitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void init() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+
+        for (JdbcTemplate db : new JdbcTemplate[] { primary, replica }) {
+            db.execute("CREATE TABLE IF NOT EXISTS route_check (name VARCHAR(20))");
+            db.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+            db.update("DELETE FROM route_check");
+            db.update("DELETE FROM replica_heartbeat");
+        }
+
+        primary.update("INSERT INTO route_check VALUES ('primary')");
+        replica.update("INSERT INTO route_check VALUES ('replica')");
+
+        // 복제가 반영된 상태
+        replica.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", System.currentTimeMillis());
+        monitor.check();
+    }
+
+    @AfterEach
+    void clear() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제 DB, 쓰기 트랜잭션은 primary")
+    void routeTest() {
+        assertTrue(monitor.isAvailable());
+        assertEquals("replica", read(true));
+        assertEquals("primary", read(false));
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 세션의 읽기는 primary")
+    void stickyTest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.getSession(); // 로그인 등으로 세션이 있는 사용자
+        bind(request);
+
+        assertEquals("replica", read(true));
+        write();
+        assertEquals("primary", read(true));
+
+        // 같은 세션의 다음 요청
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setSession(request.getSession(false));
+        bind(next);
+        assertEquals("primary", read(true));
+    }
+
+    @Test
+    @DisplayName("세션이 없는 사용자는 세션을 만들지 않고 쿠키로 유지")
+    void anonymousStickyTest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = bind(request);
+
+        write();
+
+        assertNull(request.getSession(false));
+        assertEquals("primary", read(true)); // 같은 요청
+
+        Cookie cookie = response.getCookies()[0];
+        System.out.println(cookie.getName() + "=" + cookie.getValue() + ", maxAge=" + cookie.getMaxAge());
+
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(cookie);
+        bind(next);
+        assertEquals("primary", read(true)); // 다음 요청
+
+        bind(new MockHttpServletRequest());
+        assertEquals("replica", read(true)); // 다른 사용자
+    }
+
+    @Test
+    @DisplayName("복제 지연이 크면 읽기도 primary")
+    void lagTest() {
+        replica.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", System.currentTimeMillis() - 60_000L);
+        monitor.check();
+
+        System.out.println("복제 지연 : " + monitor.getLagMillis() + "ms");
+        assertFalse(monitor.isAvailable());
+        assertEquals("primary", read(true));
+    }
+
+    private MockHttpServletResponse bind(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+
+        return response;
+    }
+
+    private void write() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(s ->
+                new JdbcTemplate(dataSource).update("INSERT INTO route_check VALUES ('written')"));
+    }
+
+    private String read(boolean readOnly) {
+        TransactionTemplate tpl = new TransactionTemplate(transactionManager);
+        tpl.setReadOnly(readOnly);
+
+        return tpl.execute(s -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM route_check WHERE name IN ('primary', 'replica')", String.class));
+    }
+}
@@ -0,0 +1,211 @@
+package org.koreait.global.filters;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.board.entities.Board;
+import org.koreait.board.entities.BoardData;
+import org.koreait.board.repositories.BoardDataRepository;
+import org.koreait.board.repositories.BoardRepository;
+import org.koreait.global.exceptions.QueryBudgetExceededException;
+import org.koreait.member.constants.Authority;
+import org.koreait.member.constants.Gender;
+import org.koreait.member.controllers.RequestJoin;
+import org.koreait.member.entities.Member;
+import org.koreait.member.repositories.MemberRepository;
+import org.koreait.member.services.MemberUpdateService;
+import org.koreait.message.constants.MessageStatus;
+import org.koreait.message.entities.Message;
+import org.koreait.message.repositories.MessageRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 페이지 SQL 실행 횟수 고정
+ *  - 제한을 넘는 변경(N+1 등)이 생기면 테스트 실패
+ *  - 작성자, 보낸 사람이 모두 다른 목록으로 확인하고, 목록 수가 늘어나도 실행 횟수가 같은지 확인
+ */
+@SpringBootTest(properties = {
+        "query.budget.enforce=true",
+        "query.budget.endpoints[/pokemon/list]=10",
+        "query.budget.endpoints[/board/list/{bid}]=15",
+        "query.budget.endpoints[/message/list]=15",
+        "query.budget.endpoints[/board/view/{seq}]=0"
+})
+@ActiveProfiles({"default", "test"})
+@AutoConfigureMockMvc
+@DisplayName("요청별 SQL 실행 횟수 제한 테스트")
+public class QueryCountFilterTest {
+
+    private static final String EMAIL = "budget01@test.org";
+    private static final String BID = "budget";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private MemberUpdateService memberUpdateService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardDataRepository boardDataRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    private Member member;
+    private Board board;
+    private List<Member> writers;
+
+    @BeforeEach
+    void init() {
+        member = join(EMAIL);
+
+        writers = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            writers.add(join("budget-writer" + i + "@test.org"));
+        }
+
+        board = new Board();
+        board.setBid(BID);
+        board.setName("SQL 실행 횟수 테스트");
+        board.setOpen(true);
+        board.setRowsPerPage(20);
+        board.setPageRanges(10);
+        board.setPageRangesMobile(5);
+        board.setSkin("default");
+        board.setListAuthority(Authority.ALL);
+        board.setViewAuthority(Authority.ALL);
+        board.setWriteAuthority(Authority.ALL);
+        board.setCommentAuthority(Authority.ALL);
+        boardRepository.saveAndFlush(board);
+    }
+
+    @Test
+    @DisplayName("제한 이내 - 포켓몬 목록")
+    void withinBudgetTest() throws Exception {
+        mockMvc.perform(get("/pokemon/list"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("제한 이내 - 게시글 목록, 작성자 수와 관계없이 같은 횟수")
+    void boardListTest() throws Exception {
+        writers.forEach(this::write);
+        long before = count("/board/list/" + BID, "/board/list/{bid}");
+
+        writers.forEach(this::write);
+        long after = count("/board/list/" + BID, "/board/list/{bid}");
+
+        assertEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("제한 이내 - 받은 쪽지 목록, 보낸 사람 수와 관계없이 같은 횟수")
+    @WithUserDetails(value = EMAIL, userDetailsServiceBeanName = "memberInfoService", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void messageListTest() throws Exception {
+        writers.forEach(this::send);
+        long before = count("/message/list", "/message/list");
+
+        writers.forEach(this::send);
+        long after = count("/message/list", "/message/list");
+
+        assertEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("제한 초과시 예외 발생 - 조회수 기록으로 항상 SQL 이 실행되는 게시글 보기")
+    void exceededTest() {
+        BoardData data = write(member);
+
+        assertThrows(QueryBudgetExceededException.class, () -> mockMvc.perform(get("/board/view/" + data.getSeq())));
+        assertTrue(summary("/board/view/{seq}").max() > 0);
+    }
+
+    /**
+     * 요청 한번의 SQL 실행 횟수
+     *  - QueryCountFilter 가 기록한 hibernate.statements.per.request 지표의 증가량
+     */
+    private long count(String url, String pattern) throws Exception {
+        double total = summary(pattern).totalAmount();
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk());
+
+        long count = (long)(summary(pattern).totalAmount() - total);
+        System.out.println(url + " : " + count);
+        assertTrue(count > 0);
+
+        return count;
+    }
+
+    private DistributionSummary summary(String pattern) {
+        return registry.summary("hibernate.statements.per.request", "uri", pattern);
+    }
+
+    private BoardData write(Member writer) {
+        BoardData data = new BoardData();
+        data.setBoard(board);
+        data.setMember(writer);
+        data.setGid(UUID.randomUUID().toString());
+        data.setPoster(writer.getName());
+        data.setSubject("제목");
+        data.setContent("내용");
+
+        return boardDataRepository.saveAndFlush(data);
+    }
+
+    private void send(Member sender) {
+        Message message = Message.builder()
+                .gid(UUID.randomUUID().toString())
+                .status(MessageStatus.UNREAD)
+                .sender(sender)
+                .receiver(member)
+                .subject("쪽지 제목")
+                .content("쪽지 내용")
+                .build();
+        messageRepository.saveAndFlush(message);
+    }
+
+    private Member join(String email) {
+        if (!memberRepository.exists(email)) {
+            RequestJoin form = new RequestJoin();
+            form.setEmail(email);
+            form.setPassword("_aA123456");
+            form.setGender(Gender.MALE);
+            form.setBirthDt(LocalDate.now().minusYears(20));
+            form.setName("사용자");
+            form.setNickName("사용자");
+            form.setZipCode("00000");
+            form.setAddress("주소");
+
+            memberUpdateService.process(form);
+        }
+
+        return memberRepository.findByEmail(email).orElseThrow();
+    }
+}
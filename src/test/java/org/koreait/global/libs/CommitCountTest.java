@@ -0,0 +1,169 @@
+package org.koreait.global.libs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.board.controllers.RequestComment;
+import org.koreait.board.entities.Board;
+import org.koreait.board.entities.BoardData;
+import org.koreait.board.entities.CommentData;
+import org.koreait.board.repositories.BoardDataRepository;
+import org.koreait.board.repositories.BoardRepository;
+import org.koreait.board.services.BoardViewUpdateService;
+import org.koreait.board.services.comment.CommentDeleteService;
+import org.koreait.board.services.comment.CommentUpdateService;
+import org.koreait.member.constants.Authority;
+import org.koreait.member.constants.Gender;
+import org.koreait.member.controllers.RequestJoin;
+import org.koreait.member.repositories.MemberRepository;
+import org.koreait.member.services.MemberUpdateService;
+import org.koreait.message.controllers.RequestMessage;
+import org.koreait.message.services.MessageSendService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 쓰기 서비스 커밋 횟수 - 서비스 호출 한번에 커밋 한번
+ */
+@SpringBootTest
+@ActiveProfiles({"default", "test"})
+@DisplayName("쓰기 서비스 커밋 횟수 테스트")
+public class CommitCountTest {
+
+    private static final String EMAIL = "user01@test.org";
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private MemberUpdateService memberUpdateService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardDataRepository boardDataRepository;
+
+    @Autowired
+    private CommentUpdateService commentUpdateService;
+
+    @Autowired
+    private CommentDeleteService commentDeleteService;
+
+    @Autowired
+    private BoardViewUpdateService viewUpdateService;
+
+    @Autowired
+    private MessageSendService messageSendService;
+
+    private BoardData data;
+
+    @BeforeEach
+    void init() {
+        if (!memberRepository.exists(EMAIL)) {
+            join(EMAIL);
+        }
+
+        Board board = new Board();
+        board.setBid("commit");
+        board.setName("커밋 횟수 테스트");
+        board.setOpen(true);
+        board.setSkin("default");
+        board.setUseComment(true);
+        board.setListAuthority(Authority.ALL);
+        board.setViewAuthority(Authority.ALL);
+        board.setWriteAuthority(Authority.ALL);
+        board.setCommentAuthority(Authority.ALL);
+        boardRepository.saveAndFlush(board);
+
+        data = new BoardData();
+        data.setBoard(board);
+        data.setGid(UUID.randomUUID().toString());
+        data.setPoster("작성자");
+        data.setSubject("제목");
+        data.setContent("내용");
+        boardDataRepository.saveAndFlush(data);
+    }
+
+    @Test
+    @DisplayName("회원 가입")
+    void joinTest() {
+        assertCommits("회원 가입", () -> {
+            join("join" + System.currentTimeMillis() + "@test.org");
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("댓글 등록, 삭제")
+    void commentTest() {
+        RequestComment form = new RequestComment();
+        form.setBoardDataSeq(data.getSeq());
+        form.setCommenter("댓글 작성자");
+        form.setContent("댓글");
+
+        CommentData item = assertCommits("댓글 등록", () -> commentUpdateService.save(form));
+        assertEquals(1L, boardDataRepository.findById(data.getSeq()).orElseThrow().getCommentCount());
+
+        assertCommits("댓글 삭제", () -> commentDeleteService.delete(item.getSeq()));
+        assertEquals(0L, boardDataRepository.findById(data.getSeq()).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    @DisplayName("조회수 업데이트")
+    void viewTest() {
+        assertEquals(1L, assertCommits("조회수", () -> viewUpdateService.process(data.getSeq())));
+        assertEquals(1L, assertCommits("조회수 - 다시 조회", () -> viewUpdateService.process(data.getSeq())));
+        assertEquals(1L, boardDataRepository.findById(data.getSeq()).orElseThrow().getViewCount());
+    }
+
+    @Test
+    @DisplayName("쪽지 보내기")
+    @WithUserDetails(value = EMAIL, userDetailsServiceBeanName = "memberInfoService", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void messageTest() {
+        RequestMessage form = new RequestMessage();
+        form.setEmail(EMAIL);
+        form.setGid(UUID.randomUUID().toString());
+        form.setSubject("쪽지 제목");
+        form.setContent("쪽지 내용");
+
+        assertNotNull(assertCommits("쪽지 보내기", () -> messageSendService.process(form)).getSeq());
+    }
+
+    private <T> T assertCommits(String name, Supplier<T> task) {
+        queryCounter.start();
+        T result = task.get();
+        QueryStats stats = queryCounter.stop();
+
+        System.out.printf("%s - SQL %d회, 커밋 %d회%n", name, stats.getTotal(), stats.getCommits());
+        assertEquals(1L, stats.getCommits(), name);
+
+        return result;
+    }
+
+    private void join(String email) {
+        RequestJoin form = new RequestJoin();
+        form.setEmail(email);
+        form.setPassword("_aA123456");
+        form.setGender(Gender.MALE);
+        form.setBirthDt(LocalDate.now().minusYears(20));
+        form.setName("사용자");
+        form.setNickName("사용자");
+        form.setZipCode("00000");
+        form.setAddress("주소");
+
+        memberUpdateService.process(form);
+    }
+}
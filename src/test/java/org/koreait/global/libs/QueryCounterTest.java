@@ -0,0 +1,40 @@
+package org.koreait.global.libs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.global.configs.QueryBudgetProperties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SQL 실행 횟수, N+1 감지 테스트")
+public class QueryCounterTest {
+
+    private final QueryCounter counter = new QueryCounter(new QueryBudgetProperties());
+
+    @Test
+    @DisplayName("값만 다른 SQL 은 같은 형태로 집계")
+    void shapeTest() {
+        assertEquals(counter.shape("select * from file_info where gid='a1' and seq=10"),
+                counter.shape("select *  from file_info\n where gid='b2' and seq=20"));
+
+        assertEquals(counter.shape("select * from member where seq in (?, ?, ?)"),
+                counter.shape("select * from member where seq in (?)"));
+    }
+
+    @Test
+    @DisplayName("같은 형태의 SQL 반복 실행시 N+1 의심 목록에 추가")
+    void repeatedTest() {
+        counter.start();
+        for (int i = 0; i < 10; i++) {
+            counter.inspect("select f.* from file_info f where f.gid=? and f.location=?");
+        }
+        counter.inspect("select b.* from board_data b");
+
+        QueryStats stats = counter.stop();
+        System.out.println(stats);
+
+        assertEquals(11L, stats.getTotal());
+        assertEquals(1, stats.getRepeated().size());
+        assertNull(counter.stop()); // 집계 종료 후
+    }
+}
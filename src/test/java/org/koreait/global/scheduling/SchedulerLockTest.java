@@ -0,0 +1,199 @@
+package org.koreait.global.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.global.annotations.SchedulerLock;
+import org.koreait.global.constants.JobStatus;
+import org.koreait.global.entities.JobRun;
+import org.koreait.global.repositories.JobLockRepository;
+import org.koreait.global.repositories.JobRunRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 작업 클러스터 잠금 - H2 에서 서버 구분(node)을 바꿔가며 확인
+ */
+@SpringBootTest(properties = "scheduler.lock.lease-seconds=3")
+@ActiveProfiles({"default", "test"})
+@DisplayName("예약 작업 클러스터 잠금 테스트")
+public class SchedulerLockTest {
+
+    @Autowired
+    private JobLockService lockService;
+
+    @Autowired
+    private JobRunService runService;
+
+    @Autowired
+    private JobLockRepository lockRepository;
+
+    @Autowired
+    private JobRunRepository runRepository;
+
+    @Autowired
+    private LockedJob job;
+
+    @BeforeEach
+    void init() {
+        lockRepository.deleteAll();
+        runRepository.deleteAll();
+        job.reset();
+    }
+
+    @Test
+    @DisplayName("한 서버만 잠금, 임대 만료 후 다른 서버가 가져감")
+    void lockTest() throws Exception {
+        Duration lease = Duration.ofMillis(500L);
+
+        assertTrue(lockService.tryLock("lock-test", "node-a", lease));
+        assertFalse(lockService.tryLock("lock-test", "node-b", lease));
+
+        lockService.unlock("lock-test", "node-b"); // 잠금이 없는 서버는 해제 불가
+        assertFalse(lockService.tryLock("lock-test", "node-b", lease));
+
+        Thread.sleep(700L);
+        assertTrue(lockService.tryLock("lock-test", "node-b", lease));
+        assertFalse(lockService.renew("lock-test", "node-a", lease)); // 잠금을 잃은 서버는 연장 불가
+
+        lockService.unlock("lock-test", "node-b");
+        assertTrue(lockService.tryLock("lock-test", "node-a", lease));
+    }
+
+    @Test
+    @DisplayName("동시에 실행해도 한번만 실행, 실행 이력 기록")
+    void aspectTest() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?> f1 = executor.submit(() -> { await(start); job.run(); });
+            Future<?> f2 = executor.submit(() -> { await(start); job.run(); });
+            start.countDown();
+            f1.get(10L, TimeUnit.SECONDS);
+            f2.get(10L, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, job.getCount());
+
+        List<JobRun> items = runService.getList();
+        items.forEach(System.out::println);
+        assertEquals(1, items.size());
+        assertEquals(JobStatus.SUCCESS, items.get(0).getStatus());
+        assertTrue(items.get(0).getElapsed() >= 500L);
+
+        // 실행 후 해제되었으므로 다음 실행 가능
+        job.run();
+        assertEquals(2, job.getCount());
+    }
+
+    @Test
+    @DisplayName("금방 끝난 작업도 최소 잠금 시간 동안은 다시 실행하지 않음")
+    void lockAtLeastTest() throws Exception {
+        job.runShort();
+        job.runShort(); // 같은 예약 시각에 다른 서버가 실행한 경우
+        assertEquals(1, job.getCount());
+        assertFalse(lockService.tryLock("short-job", "other-node", Duration.ofSeconds(3L)));
+
+        Thread.sleep(2200L);
+        job.runShort();
+        assertEquals(2, job.getCount());
+    }
+
+    @Test
+    @DisplayName("임대 시간보다 오래 걸리는 작업은 연장")
+    void renewTest() throws Exception {
+        Thread runner = new Thread(job::runLong);
+        runner.start();
+        Thread.sleep(3500L); // 기본 임대 시간(3초) 이후
+
+        assertFalse(lockService.tryLock("long-job", "other-node", Duration.ofSeconds(3L)));
+        runner.join();
+    }
+
+    @Test
+    @DisplayName("실패한 작업 기록, 요약")
+    void failTest() {
+        assertThrows(IllegalStateException.class, job::fail);
+
+        List<JobSummary> summaries = runService.getSummaries();
+        summaries.forEach(System.out::println);
+
+        JobSummary summary = summaries.stream().filter(s -> s.name().equals("fail-job")).findFirst().orElseThrow();
+        assertEquals(1L, summary.count());
+        assertEquals(1L, summary.failCount());
+        assertEquals("실패", runService.getList().get(0).getMessage());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TestConfiguration
+    static class LockedJobConfig {
+        @Bean
+        public LockedJob lockedJob() {
+            return new LockedJob();
+        }
+    }
+
+    static class LockedJob {
+        private final AtomicInteger count = new AtomicInteger();
+
+        public int getCount() {
+            return count.get();
+        }
+
+        public void reset() {
+            count.set(0);
+        }
+
+        @SchedulerLock(name = "test-job")
+        public void run() {
+            count.incrementAndGet();
+            sleep(500L);
+        }
+
+        @SchedulerLock(name = "short-job", lockAtLeastSeconds = 2L)
+        public void runShort() {
+            count.incrementAndGet();
+        }
+
+        @SchedulerLock(name = "long-job")
+        public void runLong() {
+            sleep(5000L);
+        }
+
+        @SchedulerLock(name = "fail-job")
+        public void fail() {
+            throw new IllegalStateException("실패");
+        }
+
+        private void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.koreait.member.libs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.member.constants.Authority;
+import org.koreait.member.test.annotations.MockMember;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"default", "test"})
+@DisplayName("요청 단위 로그인 회원 스냅샷 테스트")
+public class MemberUtilTest {
+
+    @Autowired
+    private MemberUtil memberUtil;
+
+    @Test
+    @MockMember(authority = {Authority.USER, Authority.MANAGER})
+    @DisplayName("같은 요청 안에서는 스냅샷을 재사용하는지 테스트")
+    void snapshotReuseTest() {
+        MemberSnapshot snapshot = memberUtil.getSnapshot();
+
+        assertTrue(snapshot.isLogin());
+        assertTrue(snapshot.isAdmin());
+        assertEquals("user01@test.org", snapshot.getEmail());
+        assertSame(snapshot, memberUtil.getSnapshot());
+    }
+
+    @Test
+    @DisplayName("미로그인 상태 테스트")
+    void guestTest() {
+        assertFalse(memberUtil.isLogin());
+        assertFalse(memberUtil.isAdmin());
+        assertNull(memberUtil.getSnapshot().getEmail());
+    }
+}
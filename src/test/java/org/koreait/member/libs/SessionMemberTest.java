@@ -0,0 +1,95 @@
+package org.koreait.member.libs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.file.entities.FileInfo;
+import org.koreait.member.constants.Authority;
+import org.koreait.member.constants.Gender;
+import org.koreait.member.entities.Authorities;
+import org.koreait.member.entities.Member;
+import org.koreait.member.social.constants.SocialChannel;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 세션 회원 정보 직렬화 비교
+ *  - Spring Session Redis 기본 직렬화(JDK)로 복원, 저장 크기 비교
+ *  - 직렬화 시간 비교는 src/jmh 의 SessionMemberBenchmark
+ */
+@DisplayName("세션 회원 정보 직렬화 테스트")
+public class SessionMemberTest {
+
+    private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+    private Member member;
+
+    @BeforeEach
+    void init() {
+        member = new Member();
+        member.setSeq(1L);
+        member.setEmail("user01@test.org");
+        member.setPassword("$2a$10$0123456789012345678901234567890123456789012345678901");
+        member.setName("사용자01");
+        member.setNickName("닉네임01");
+        member.setBirthDt(LocalDate.of(1990, 1, 1));
+        member.setGender(Gender.MALE);
+        member.setZipCode("01234");
+        member.setAddress("서울시 종로구 종로 1");
+        member.setAddressSub("101호");
+        member.setRequiredTerms1(true);
+        member.setRequiredTerms2(true);
+        member.setRequiredTerms3(true);
+        member.setOptionalTerms("advertisement||email");
+        member.setSocialChannel(SocialChannel.KAKAO);
+        member.setSocialToken("1234567890");
+        member.setCredentialChangedAt(LocalDateTime.now());
+        member.setCreatedAt(LocalDateTime.now().minusDays(10L));
+
+        FileInfo profileImage = new FileInfo();
+        profileImage.setSeq(100L);
+        profileImage.setGid("user01@test.org");
+        profileImage.setLocation("profile");
+        profileImage.setFileName("profile.png");
+        profileImage.setExtension(".png");
+        profileImage.setContentType("image/png");
+        profileImage.setFileUrl("http://localhost:3000/uploads/100/100.png");
+        profileImage.setFilePath("/home/upload/100/100.png");
+        profileImage.setThumbUrl("http://localhost:3000/file/thumb?seq=100");
+        member.setProfileImage(profileImage);
+
+        member.setAuthorities(List.of(new Authorities(member, Authority.USER), new Authorities(member, Authority.ADMIN)));
+    }
+
+    @Test
+    @DisplayName("직렬화 후 복원 값이 동일한지 테스트")
+    void roundTripTest() {
+        SessionMember sessionMember = SessionMember.of(member);
+        SessionMember restored = (SessionMember)serializer.deserialize(serializer.serialize(sessionMember));
+
+        assertEquals(sessionMember, restored);
+
+        Member _member = restored.toMember();
+        assertEquals(member.getEmail(), _member.getEmail());
+        assertEquals(member.getProfileImage().getSeq(), _member.getProfileImage().getSeq());
+        assertEquals(2, _member.getAuthorities().size());
+        assertNull(_member.getPassword());
+        assertTrue(_member.isKakaoConnected());
+    }
+
+    @Test
+    @DisplayName("세션 저장 크기 비교")
+    void sizeTest() {
+        byte[] before = serializer.serialize(member);
+        byte[] after = serializer.serialize(SessionMember.of(member));
+
+        System.out.printf("Member: %d bytes, SessionMember: %d bytes%n", before.length, after.length);
+
+        assertTrue(after.length < before.length);
+    }
+}
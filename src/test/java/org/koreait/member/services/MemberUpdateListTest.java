@@ -0,0 +1,93 @@
+package org.koreait.member.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.member.constants.Gender;
+import org.koreait.member.entities.Member;
+import org.koreait.member.repositories.MemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 회원 목록 일괄 수정 - 500건 처리 시간, 실행 SQL 수 확인
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"default", "test"})
+@DisplayName("회원 목록 일괄 수정 테스트")
+public class MemberUpdateListTest {
+
+    private static final int ROWS = 500;
+
+    @Autowired
+    private MemberUpdateService updateService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private List<Integer> chks;
+
+    @BeforeEach
+    void init() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Member member = new Member();
+            member.setEmail(String.format("bulk%03d@test.org", i));
+            member.setName("사용자" + i);
+            member.setNickName("닉네임" + i);
+            member.setBirthDt(LocalDate.now().minusYears(20L));
+            member.setGender(Gender.MALE);
+            member.setZipCode("0000");
+            member.setAddress("주소");
+            members.add(member);
+        }
+
+        memberRepository.saveAllAndFlush(members);
+
+        // 목록 양식 값 - seq_번호, deletedAt_번호
+        MockHttpServletRequest request = (MockHttpServletRequest)((ServletRequestAttributes)RequestContextHolder.getRequestAttributes()).getRequest();
+
+        chks = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            chks.add(i);
+            request.addParameter("seq_" + i, String.valueOf(members.get(i).getSeq()));
+            request.addParameter("deletedAt_" + i, "DELETE");
+        }
+    }
+
+    @Test
+    @DisplayName("500건 일괄 탈퇴 처리")
+    void updateListTest() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        long stime = System.currentTimeMillis();
+        updateService.updateList(chks);
+        long etime = System.currentTimeMillis();
+
+        System.out.printf("%d건, %dms, 쿼리 %d, 엔티티 조회 %d, 수정 %d%n", ROWS, etime - stime,
+                stats.getPrepareStatementCount(), stats.getEntityLoadCount(), stats.getEntityUpdateCount());
+
+        assertEquals(ROWS, stats.getEntityUpdateCount());
+        assertTrue(stats.getPrepareStatementCount() < ROWS); // 행마다 SELECT, UPDATE 를 따로 실행하지 않음
+        assertTrue(memberRepository.findAll().stream()
+                .filter(m -> m.getEmail().startsWith("bulk"))
+                .allMatch(m -> m.getDeletedAt() != null));
+    }
+}
@@ -46,7 +46,8 @@ public class MockSecurityContextFactory implements WithSecurityContextFactory<Mo
                 .builder()
                 .email(annotation.email())
                 .password(annotation.password())
-                .member(member)
+                .seq(member.getSeq())
+                .credentialChangedAt(member.getCredentialChangedAt())
                 .authorities(authorities)
                 .build();
 
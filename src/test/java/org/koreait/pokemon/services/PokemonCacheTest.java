@@ -0,0 +1,102 @@
+package org.koreait.pokemon.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.koreait.global.libs.QueryCounter;
+import org.koreait.global.libs.QueryStats;
+import org.koreait.pokemon.api.services.ApiUpdateService;
+import org.koreait.pokemon.controllers.PokemonSearch;
+import org.koreait.pokemon.entities.Pokemon;
+import org.koreait.pokemon.repositories.PokemonRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 포켓몬 2차 캐시, 목록 쿼리 캐시
+ *  - 두번째 조회부터 SQL 실행 없음, ApiUpdateService 갱신시 영역 전체 제거
+ */
+@SpringBootTest
+@ActiveProfiles({"default", "test"})
+@DisplayName("포켓몬 2차 캐시 테스트")
+public class PokemonCacheTest {
+
+    @Autowired
+    private PokemonInfoService infoService;
+
+    @Autowired
+    private PokemonRepository repository;
+
+    @Autowired
+    private ApiUpdateService updateService;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @BeforeEach
+    void init() {
+        List<Pokemon> items = new ArrayList<>();
+        for (long i = 1L; i <= 30L; i++) {
+            Pokemon item = new Pokemon();
+            item.setSeq(i);
+            item.setName("포켓몬" + i);
+            item.setNameEn("pokemon" + i);
+            item.setTypes("grass||poison");
+            item.setAbilities("overgrow");
+            items.add(item);
+        }
+
+        repository.saveAllAndFlush(items);
+        emf.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("엔티티 캐시")
+    void entityCacheTest() {
+        repository.findById(1L).orElseThrow();
+        assertTrue(emf.getCache().contains(Pokemon.class, 1L));
+
+        queryCounter.start();
+        Pokemon item = repository.findById(1L).orElseThrow();
+        QueryStats stats = queryCounter.stop();
+
+        System.out.println(stats);
+        assertEquals("포켓몬1", item.getName());
+        assertEquals(0L, stats.getTotal());
+    }
+
+    @Test
+    @DisplayName("목록 쿼리 캐시, 갱신시 제거")
+    void queryCacheTest() {
+        PokemonSearch search = new PokemonSearch();
+        search.setLimit(10);
+
+        infoService.getList(search);
+
+        queryCounter.start();
+        assertEquals(10, infoService.getList(search).getItems().size());
+        QueryStats stats = queryCounter.stop();
+
+        System.out.println(stats);
+        assertEquals(0L, stats.getTotal()); // 목록, 총 갯수 모두 캐시
+
+        updateService.evictCache();
+        assertFalse(emf.getCache().contains(Pokemon.class, 1L));
+
+        queryCounter.start();
+        infoService.getList(search);
+        stats = queryCounter.stop();
+
+        assertTrue(stats.getTotal() > 0L);
+    }
+}
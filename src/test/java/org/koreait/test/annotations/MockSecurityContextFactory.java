@@ -60,7 +60,8 @@ public class MockSecurityContextFactory implements WithSecurityContextFactory<Mo
                 .builder()
                 .email(annotation.email()) // 이메일 설정
                 .password(annotation.password()) // 비밀번호 설정
-                .member(member) // Member 엔티티 설정
+                .seq(member.getSeq()) // 회원 번호 설정
+                .credentialChangedAt(member.getCredentialChangedAt()) // 비밀번호 변경 시간 설정
                 .authorities(authorities) // 권한 설정
                 .build();
 